@@ -0,0 +1,74 @@
+package inf112.skeleton.app.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import inf112.skeleton.app.model.entities.Player;
+import inf112.skeleton.app.model.entities.enemies.Enemy;
+import inf112.skeleton.app.model.entities.enemies.Light;
+
+import static inf112.skeleton.app.utils.Constants.*;
+
+/**
+ * Measures checking the player against N enemies with {@link Player#collidesWith},
+ * the way GameLogic checks for hits every tick.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollisionBenchmark {
+    @Param({"10", "100", "1000"})
+    private int enemyCount;
+
+    private HeadlessSimulation simulation;
+    private Player player;
+    private final List<Enemy> enemies = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulation = new HeadlessSimulation();
+        player = simulation.getGameLogic().getPlayer();
+        MathUtils.random.setSeed(42);
+        for (int i = 0; i < enemyCount; i++) {
+            Enemy enemy = new Light(simulation.getGameLogic().getWorld());
+            enemy.setPos(MathUtils.random(0, WINDOW_WIDTH), MathUtils.random(0, WINDOW_HEIGHT));
+            enemies.add(enemy);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+    }
+
+    @Benchmark
+    public int collidesWith() {
+        int hits = 0;
+        for (Enemy enemy : enemies) {
+            if (player.collidesWith(enemy)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
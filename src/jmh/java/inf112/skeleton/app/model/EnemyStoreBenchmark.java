@@ -0,0 +1,123 @@
+package inf112.skeleton.app.model;
+
+import static inf112.skeleton.app.utils.Constants.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+
+import inf112.skeleton.app.model.entities.enemies.Enemy;
+import inf112.skeleton.app.model.entities.enemies.Heavy;
+import inf112.skeleton.app.model.entities.enemies.Light;
+import inf112.skeleton.app.model.entities.enemies.Medium;
+
+/**
+ * Compares a per-tick pass over N enemies through the object graph (a list of Enemy objects,
+ * reading each body) with the same pass over the arrays of an {@link EnemyStore}.
+ * The pass counts down the stun timers and sums the distance to a target of every enemy that can move,
+ * like the enemy AI does every tick.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnemyStoreBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int enemyCount;
+
+    private World world;
+    private final List<Enemy> objectGraph = new ArrayList<>();
+    private final EnemyStore store = new EnemyStore();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new World(new Vector2(0, 0), true);
+        MathUtils.random.setSeed(42);
+        List<Enemy> storeEnemies = new ArrayList<>();
+        for (int i = 0; i < enemyCount; i++) {
+            objectGraph.add(spawn(i));
+            storeEnemies.add(spawn(i));
+        }
+        // Spread the objects over the heap like enemies spawned and killed over several waves
+        Collections.shuffle(objectGraph, new java.util.Random(42));
+        Collections.shuffle(storeEnemies, new java.util.Random(42));
+        for (Enemy enemy : storeEnemies) {
+            store.add(enemy);
+        }
+        store.syncBodies();
+    }
+
+    private Enemy spawn(int i) {
+        Enemy enemy = switch (i % 3) {
+            case 0 -> new Light(world);
+            case 1 -> new Medium(world);
+            default -> new Heavy(world);
+        };
+        enemy.setPos(MathUtils.random(0, WINDOW_WIDTH), MathUtils.random(0, WINDOW_HEIGHT));
+        enemy.setStunTimer(MathUtils.random(0f, 1f));
+        return enemy;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public float objectGraph() {
+        float sum = 0;
+        for (int i = 0; i < objectGraph.size(); i++) {
+            Enemy enemy = objectGraph.get(i);
+            enemy.setStunTimer(enemy.getStunTimer() - TIME_STEP);
+            if (enemy.getStunTimer() <= 0 && enemy.getHP() > 0) {
+                Vector2 position = enemy.getBody().getPosition();
+                sum += Vector2.dst(position.x, position.y, PLAYER_SPAWN_X, PLAYER_SPAWN_Y);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float structOfArrays() {
+        store.syncBodies();
+        return structOfArraysPass();
+    }
+
+    @Benchmark
+    public float structOfArraysWithoutSync() {
+        return structOfArraysPass();
+    }
+
+    private float structOfArraysPass() {
+        float sum = 0;
+        for (int i = 0; i < store.size(); i++) {
+            float stun = store.getStunTimer(i) - TIME_STEP;
+            store.setStunTimer(i, stun);
+            if (stun <= 0 && store.getHP(i) > 0) {
+                sum += Vector2.dst(store.getX(i), store.getY(i), PLAYER_SPAWN_X, PLAYER_SPAWN_Y);
+            }
+        }
+        return sum;
+    }
+}
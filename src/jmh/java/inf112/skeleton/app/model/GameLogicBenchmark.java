@@ -0,0 +1,77 @@
+package inf112.skeleton.app.model;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import inf112.skeleton.app.model.entities.enemies.Enemy;
+
+/**
+ * Measures the cost of one call to {@link GameLogic#update()}, which runs one fixed tick
+ * with the fixed clock of {@link HeadlessSimulation}, while a wave of enemies chases the player.
+ * A wave has NUM_STARTER_ENEMIES + 2 * wave enemies, so wave 50 has 102 enemies.
+ *
+ * The scenario is kept the same through every iteration: neither the player nor the enemies can die,
+ * so the game never ends and the wave never advances. Without this the player dies within
+ * a couple of seconds at wave 50, and most samples would time the game after game over.
+ * An iteration fails if the scenario changed anyway.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameLogicBenchmark {
+    @Param({"0", "10", "50"})
+    private int wave;
+
+    private HeadlessSimulation simulation;
+    private GameLogic gameLogic;
+    private int enemies;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        simulation = new HeadlessSimulation();
+        gameLogic = simulation.getGameLogic();
+        for (Enemy enemy : new ArrayList<>(gameLogic.getAllEnemies())) {
+            gameLogic.removeEntity(enemy);
+        }
+        gameLogic.setWave(wave);
+        gameLogic.initializeEnemies();
+        for (Enemy enemy : gameLogic.getAllEnemies()) {
+            enemy.setHP(Integer.MAX_VALUE);
+        }
+        gameLogic.getPlayer().setHealth(Integer.MAX_VALUE);
+        enemies = gameLogic.getEnemyCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        GameState state = gameLogic.getGameState();
+        int remaining = gameLogic.getEnemyCount();
+        simulation.dispose();
+        if (state != GameState.GAME_ACTIVE || remaining != enemies) {
+            throw new IllegalStateException("The scenario changed while measuring: " + state + " with "
+                    + remaining + " of " + enemies + " enemies");
+        }
+    }
+
+    @Benchmark
+    public void update() {
+        gameLogic.update();
+    }
+}
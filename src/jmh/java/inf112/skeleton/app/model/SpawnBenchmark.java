@@ -0,0 +1,143 @@
+package inf112.skeleton.app.model;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
+import inf112.skeleton.app.model.entities.Coin;
+import inf112.skeleton.app.model.entities.Entity;
+import inf112.skeleton.app.model.entities.enemies.Enemy;
+
+import static inf112.skeleton.app.utils.Constants.*;
+
+/**
+ * Measures spawning: the point-in-polygon test against the out-of-bounds layer of
+ * {@link inf112.skeleton.app.utils.Constants#MAP_IMG}, and spawning a wave of enemies or coins.
+ *
+ * The geometry checks take nanoseconds, so they use a state with no per-invocation setup or teardown.
+ * Only the spawn benchmarks use {@link Spawning}, which destroys the spawned bodies after every call,
+ * so the physics world does not grow.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpawnBenchmark {
+    private static final int NUM_POINTS = 1024;
+
+    /**
+     * A game with random points on the map and the out-of-bounds polygons, for the geometry checks.
+     */
+    @State(Scope.Benchmark)
+    public static class Geometry {
+        private HeadlessSimulation simulation;
+        private GameLogic gameLogic;
+        private final Vector2[] points = new Vector2[NUM_POINTS];
+        private float[][] outOfBoundsPolygons;
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            simulation = new HeadlessSimulation();
+            gameLogic = simulation.getGameLogic();
+            MathUtils.random.setSeed(42);
+            for (int i = 0; i < NUM_POINTS; i++) {
+                points[i] = new Vector2(MathUtils.random(0, WINDOW_WIDTH), MathUtils.random(0, WINDOW_HEIGHT));
+            }
+            ArrayList<float[]> polygons = new ArrayList<>();
+            for (MapObject object : gameLogic.getMap().getLayers().get("out-of-bounds-layer").getObjects()) {
+                if (object instanceof PolygonMapObject) {
+                    polygons.add(((PolygonMapObject) object).getPolygon().getTransformedVertices());
+                }
+            }
+            outOfBoundsPolygons = polygons.toArray(new float[0][]);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            simulation.dispose();
+        }
+
+        private Vector2 nextPoint() {
+            next = (next + 1) & (NUM_POINTS - 1);
+            return points[next];
+        }
+    }
+
+    /**
+     * A game that spawns, and removes what was spawned after every call.
+     */
+    @State(Scope.Benchmark)
+    public static class Spawning {
+        private HeadlessSimulation simulation;
+        private GameLogic gameLogic;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            simulation = new HeadlessSimulation();
+            gameLogic = simulation.getGameLogic();
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            simulation.dispose();
+        }
+
+        /**
+         * Destroys the bodies of everything spawned by the last call, except the player and weapon.
+         */
+        @TearDown(Level.Invocation)
+        public void removeSpawned() {
+            for (Entity entity : new ArrayList<>(gameLogic.getAllEntities())) {
+                if ((entity instanceof Enemy || entity instanceof Coin) && !entity.getIsDestroyed()) {
+                    gameLogic.removeEntity(entity);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean isLegalSpawnPosition(Geometry geometry) {
+        return geometry.gameLogic.isLegalSpawnPosition(geometry.nextPoint());
+    }
+
+    @Benchmark
+    public int isPointInPolygon(Geometry geometry) {
+        Vector2 point = geometry.nextPoint();
+        int inside = 0;
+        for (float[] polygon : geometry.outOfBoundsPolygons) {
+            if (geometry.gameLogic.isPointInPolygon(polygon, point)) {
+                inside++;
+            }
+        }
+        return inside;
+    }
+
+    @Benchmark
+    public void initializeEnemies(Spawning spawning) {
+        spawning.gameLogic.initializeEnemies();
+    }
+
+    @Benchmark
+    public void initializeCoins(Spawning spawning) {
+        spawning.gameLogic.initializeCoins();
+    }
+}
@@ -0,0 +1,95 @@
+package inf112.skeleton.app.utils.B2DPhysics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.utils.Array;
+
+import inf112.skeleton.app.model.GameLogic;
+import inf112.skeleton.app.model.HeadlessSimulation;
+import inf112.skeleton.app.model.entities.Coin;
+import inf112.skeleton.app.model.entities.Entity;
+import inf112.skeleton.app.model.entities.Spike;
+
+/**
+ * Measures how fast {@link B2dContactListener} dispatches contacts between real fixtures
+ * from the game: weapon and enemy, player and spike, and two fixtures with no handler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContactListenerBenchmark {
+    private HeadlessSimulation simulation;
+    private B2dContactListener listener;
+    private Fixture player;
+    private Fixture weapon;
+    private Fixture enemy;
+    private Fixture spike;
+    private Fixture coin;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulation = new HeadlessSimulation();
+        GameLogic gameLogic = simulation.getGameLogic();
+        listener = new B2dContactListener(gameLogic);
+        player = fixtureOf(gameLogic.getPlayer());
+        weapon = fixtureOf(gameLogic.getWeapon());
+        enemy = fixtureOf(gameLogic.getAllEnemies().get(0));
+        for (Entity entity : gameLogic.getAllEntities()) {
+            if (entity instanceof Coin) {
+                coin = fixtureOf(entity);
+            }
+        }
+        Array<Body> bodies = new Array<>();
+        gameLogic.getWorld().getBodies(bodies);
+        for (Body body : bodies) {
+            for (Fixture fixture : body.getFixtureList()) {
+                if (fixture.getUserData() instanceof Spike) {
+                    spike = fixture;
+                }
+            }
+        }
+    }
+
+    private static Fixture fixtureOf(Entity entity) {
+        return entity.getBody().getFixtureList().get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+    }
+
+    @Benchmark
+    public void weaponAndEnemy() {
+        listener.beginContact(weapon, enemy);
+    }
+
+    @Benchmark
+    public void playerAndSpike() {
+        listener.beginContact(player, spike);
+        listener.endContact(player, spike);
+    }
+
+    @Benchmark
+    public void unhandled() {
+        listener.beginContact(player, coin);
+    }
+}
@@ -0,0 +1,71 @@
+package inf112.skeleton.app.view;
+
+import static inf112.skeleton.app.utils.Constants.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+
+import inf112.skeleton.app.model.HeadlessSimulation;
+import inf112.skeleton.app.utils.CompiledMap;
+import inf112.skeleton.app.utils.SpawnRaster;
+
+/**
+ * Compares loading {@link inf112.skeleton.app.utils.Constants#MAP_IMG} from its .tmx file,
+ * including building the spawn raster, with loading the compiled map made by the build.
+ * Both load and dispose the tile set textures, with a mocked GL.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapLoadBenchmark {
+    private static final String COMPILED_MAP = MAP_IMG.replace(".tmx", CompiledMap.EXTENSION);
+
+    @Setup
+    public void setUp() {
+        HeadlessSimulation.initGdx();
+    }
+
+    @Benchmark
+    public SpawnRaster tmxMap() {
+        TiledMap map = new TmxMapLoader().load(MAP_IMG);
+        List<float[]> polygons = new ArrayList<>();
+        for (MapObject object : map.getLayers().get("out-of-bounds-layer").getObjects()) {
+            polygons.add(((PolygonMapObject) object).getPolygon().getTransformedVertices());
+        }
+        SpawnRaster raster = SpawnRaster.build(polygons.toArray(new float[0][]), WINDOW_WIDTH, WINDOW_HEIGHT, SPAWN_CELL_SIZE);
+        map.dispose();
+        return raster;
+    }
+
+    @Benchmark
+    public SpawnRaster compiledMap() {
+        AssetManager manager = new AssetManager();
+        manager.setLoader(TiledMap.class, CompiledMap.EXTENSION, new CompiledMapLoader(manager.getFileHandleResolver()));
+        manager.load(COMPILED_MAP, TiledMap.class);
+        TiledMap map = manager.finishLoadingAsset(COMPILED_MAP);
+        SpawnRaster raster = (SpawnRaster) map.getProperties().get(CompiledMap.SPAWN_RASTER_PROPERTY);
+        manager.dispose();
+        return raster;
+    }
+}
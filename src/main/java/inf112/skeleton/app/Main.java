@@ -18,7 +18,9 @@ public class Main {
         gameWindow.setWindowedMode(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
 
         // Run
+        // Run the game logic on its own thread with -Dgame.simulationThread=true
         GameLogic gameLogic = new GameLogic(GameState.GAME_TITLE);
-        new Lwjgl3Application(new GameRenderer(gameLogic), gameWindow);
+        boolean simulationThread = Boolean.getBoolean("game.simulationThread");
+        new Lwjgl3Application(new GameRenderer(gameLogic, simulationThread), gameWindow);
     }
 }
@@ -0,0 +1,19 @@
+package inf112.skeleton.app.controller.myInput;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Input source reading the mouse of the running libGDX application.
+ */
+public class GdxInputSource implements InputSource {
+
+    @Override
+    public int getMouseX() {
+        return Gdx.input.getX();
+    }
+
+    @Override
+    public int getMouseY() {
+        return Gdx.input.getY();
+    }
+}
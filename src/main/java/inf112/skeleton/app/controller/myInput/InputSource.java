@@ -0,0 +1,43 @@
+package inf112.skeleton.app.controller.myInput;
+
+/**
+ * Source of pointer input for the game logic.
+ * Lets the simulation run without a window, e.g. headless in tests and benchmarks.
+ */
+public interface InputSource {
+
+    /**
+     * Gets the x-coordinate of the mouse, in screen coordinates.
+     *
+     * @return the mouse x-coordinate.
+     */
+    int getMouseX();
+
+    /**
+     * Gets the y-coordinate of the mouse, in screen coordinates with y pointing down.
+     *
+     * @return the mouse y-coordinate.
+     */
+    int getMouseY();
+
+    /**
+     * Creates an input source where the mouse never moves.
+     *
+     * @param mouseX the mouse x-coordinate.
+     * @param mouseY the mouse y-coordinate.
+     * @return the fixed input source.
+     */
+    static InputSource fixed(int mouseX, int mouseY) {
+        return new InputSource() {
+            @Override
+            public int getMouseX() {
+                return mouseX;
+            }
+
+            @Override
+            public int getMouseY() {
+                return mouseY;
+            }
+        };
+    }
+}
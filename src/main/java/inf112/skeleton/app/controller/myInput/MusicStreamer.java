@@ -0,0 +1,454 @@
+package inf112.skeleton.app.controller.myInput;
+
+import static inf112.skeleton.app.utils.Constants.MUSIC_BUFFER_FRAMES;
+import static inf112.skeleton.app.utils.Constants.MUSIC_CROSSFADE;
+import static inf112.skeleton.app.utils.Constants.MUSIC_SAMPLE_RATE;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * The MusicStreamer class streams music to a {@link SourceDataLine} on its own thread.
+ *
+ * A track is read and decoded {@link inf112.skeleton.app.utils.Constants#MUSIC_BUFFER_FRAMES} frames at a time,
+ * so only a few small buffers are kept in memory no matter how long the track is. A looping track is reopened
+ * as soon as it ends, and the next frames are written to the line without a gap. Playing a new track crossfades
+ * from the old one. Tracks are resampled to {@link #FORMAT}, and the volume is applied to the samples,
+ * so it works even if the line has no gain control.
+ *
+ * Requests from other threads are handed over through an atomic reference, and the audio line is opened
+ * on the music thread, so neither starting the game nor playing a track waits for the audio device.
+ * If the line cannot be opened, the music thread stops and later requests are ignored.
+ */
+public class MusicStreamer implements Runnable {
+    /** The format written to the audio line: 16-bit signed little-endian stereo. */
+    public static final AudioFormat FORMAT = new AudioFormat(MUSIC_SAMPLE_RATE, 16, 2, true, false);
+
+    /**
+     * A request to play a track, or to stop if the path is null.
+     */
+    private static class Request {
+        final String path;
+        final boolean loop;
+
+        Request(String path, boolean loop) {
+            this.path = path;
+            this.loop = loop;
+        }
+    }
+
+    private final Function<String, AudioInputStream> opener;
+    private final int crossfadeFrames;
+    private final AtomicReference<Request> request = new AtomicReference<>();
+    private volatile float volume = 1;
+    private volatile boolean playing;
+    private volatile boolean running;
+    private volatile boolean unavailable;
+    private Thread thread;
+    private SourceDataLine line;
+
+    private Track current;
+    private Track fading;
+
+    /**
+     * Constructs a MusicStreamer playing tracks from the classpath.
+     */
+    public MusicStreamer() {
+        this(MusicStreamer::openResource, MUSIC_CROSSFADE);
+    }
+
+    /**
+     * Constructs a MusicStreamer opening tracks with the given function.
+     *
+     * @param opener          Opens the track at a path, or returns null if it cannot be opened.
+     * @param crossfadeMillis How long a crossfade between two tracks takes, in milliseconds.
+     */
+    MusicStreamer(Function<String, AudioInputStream> opener, int crossfadeMillis) {
+        this.opener = opener;
+        this.crossfadeFrames = (int) ((long) crossfadeMillis * MUSIC_SAMPLE_RATE / 1000);
+    }
+
+    private static AudioInputStream openResource(String path) {
+        InputStream in = MusicStreamer.class.getResourceAsStream(path);
+        if (in == null) {
+            System.err.println("Resource not found: " + path);
+            return null;
+        }
+        try {
+            return AudioSystem.getAudioInputStream(new BufferedInputStream(in));
+        } catch (UnsupportedAudioFileException | IOException e) {
+            System.err.println("Error loading music: " + path + " - " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Starts the music thread. The thread is a daemon, so it does not keep the game running.
+     */
+    public void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "music");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Plays a track, crossfading from the track that is playing.
+     *
+     * @param path The classpath path of the track.
+     * @param loop True to loop the track without a gap, false to play it once.
+     */
+    public void play(String path, boolean loop) {
+        submit(new Request(path, loop));
+    }
+
+    /**
+     * Fades out the track that is playing.
+     */
+    public void stop() {
+        submit(new Request(null, false));
+    }
+
+    private void submit(Request next) {
+        if (unavailable) {
+            return;
+        }
+        request.set(next);
+        Thread music = thread;
+        if (music != null) {
+            LockSupport.unpark(music);
+        }
+    }
+
+    /**
+     * Checks if a track is playing or about to play.
+     *
+     * @return True if a track is playing, otherwise false.
+     */
+    public boolean isPlaying() {
+        Request pending = request.get();
+        return pending != null ? pending.path != null : playing;
+    }
+
+    /**
+     * Sets the volume of the music.
+     *
+     * @param volume The volume, from 0 for silence to 1 for full volume.
+     */
+    public void setVolume(float volume) {
+        this.volume = Math.max(0, Math.min(1, volume));
+    }
+
+    /**
+     * Gets the volume of the music.
+     *
+     * @return The volume, from 0 to 1.
+     */
+    public float getVolume() {
+        return volume;
+    }
+
+    @Override
+    public void run() {
+        byte[] out = new byte[MUSIC_BUFFER_FRAMES * FORMAT.getFrameSize()];
+        while (running) {
+            if (current == null && fading == null && request.get() == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            render(out);
+            if (!openLine(out.length)) {
+                unavailable = true;
+                request.set(null);
+                break;
+            }
+            line.write(out, 0, out.length);
+        }
+        closeTracks();
+        if (line != null) {
+            line.close();
+        }
+    }
+
+    private boolean openLine(int bufferSize) {
+        if (line != null) {
+            return true;
+        }
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, bufferSize * 2);
+            line.start();
+            return true;
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("Error opening music line - " + e);
+            line = null;
+            return false;
+        }
+    }
+
+    /**
+     * Mixes the next frames of the playing tracks into a buffer in {@link #FORMAT}. Called by the music thread.
+     *
+     * @param out The buffer to fill. Filled with silence if no track is playing.
+     */
+    void render(byte[] out) {
+        Request pending = request.getAndSet(null);
+        if (pending != null) {
+            apply(pending);
+        }
+        float gain = volume;
+        for (int i = 0; i + 3 < out.length; i += 4) {
+            float left = 0;
+            float right = 0;
+            if (current != null) {
+                current.next();
+                left += current.left * current.gain;
+                right += current.right * current.gain;
+                current.advanceGain(crossfadeFrames);
+                if (current.finished) {
+                    current.close();
+                    current = null;
+                }
+            }
+            if (fading != null) {
+                fading.next();
+                left += fading.left * fading.gain;
+                right += fading.right * fading.gain;
+                fading.advanceGain(crossfadeFrames);
+                if (fading.finished || fading.gain == 0) {
+                    fading.close();
+                    fading = null;
+                }
+            }
+            writeSample(out, i, left * gain);
+            writeSample(out, i + 2, right * gain);
+        }
+        playing = current != null;
+    }
+
+    private static void writeSample(byte[] out, int index, float sample) {
+        int value = Math.round(Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sample)));
+        out[index] = (byte) value;
+        out[index + 1] = (byte) (value >> 8);
+    }
+
+    private void apply(Request pending) {
+        if (fading != null) {
+            fading.close();
+        }
+        fading = current;
+        current = null;
+        if (fading != null) {
+            fading.fade(-1);
+        }
+        if (pending.path != null) {
+            current = Track.open(opener, pending.path, pending.loop);
+            if (current != null && fading != null) {
+                current.gain = 0;
+                current.fade(1);
+            }
+        }
+    }
+
+    private void closeTracks() {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+        if (fading != null) {
+            fading.close();
+            fading = null;
+        }
+        playing = false;
+    }
+
+    /**
+     * Stops the music thread and closes the tracks and the audio line.
+     */
+    public void dispose() {
+        running = false;
+        Thread music = thread;
+        if (music != null) {
+            LockSupport.unpark(music);
+            try {
+                music.join(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            closeTracks();
+        }
+    }
+
+    /**
+     * A track being decoded, with its position, resampling state and fade.
+     */
+    private static class Track {
+        private final Function<String, AudioInputStream> opener;
+        private final String path;
+        private final boolean loop;
+        private final byte[] buffer = new byte[MUSIC_BUFFER_FRAMES * 4];
+        private AudioInputStream stream;
+        private int frameSize;
+        private int channels;
+        private double step;
+        private double phase;
+        private int position;
+        private int limit;
+        private short previousLeft;
+        private short previousRight;
+        private short nextLeft;
+        private short nextRight;
+
+        float left;
+        float right;
+        float gain = 1;
+        private float gainStep;
+        boolean finished;
+
+        private Track(Function<String, AudioInputStream> opener, String path, boolean loop) {
+            this.opener = opener;
+            this.path = path;
+            this.loop = loop;
+        }
+
+        /**
+         * Opens a track, or returns null if it cannot be opened or decoded to 16-bit mono or stereo.
+         */
+        static Track open(Function<String, AudioInputStream> opener, String path, boolean loop) {
+            Track track = new Track(opener, path, loop);
+            if (!track.openStream()) {
+                return null;
+            }
+            track.readFrame();
+            track.previousLeft = track.nextLeft;
+            track.previousRight = track.nextRight;
+            track.readFrame();
+            return track;
+        }
+
+        private boolean openStream() {
+            AudioInputStream source = opener.apply(path);
+            if (source == null) {
+                return false;
+            }
+            AudioFormat format = source.getFormat();
+            if (format.getChannels() < 1 || format.getChannels() > 2) {
+                System.err.println("Unsupported music format: " + path + " - " + format);
+                closeQuietly(source);
+                return false;
+            }
+            AudioFormat decoded = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+            try {
+                stream = format.matches(decoded) ? source : AudioSystem.getAudioInputStream(decoded, source);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unsupported music format: " + path + " - " + format);
+                closeQuietly(source);
+                return false;
+            }
+            channels = decoded.getChannels();
+            frameSize = decoded.getFrameSize();
+            step = decoded.getSampleRate() / MUSIC_SAMPLE_RATE;
+            position = 0;
+            limit = 0;
+            return true;
+        }
+
+        /**
+         * Starts fading in or out over the crossfade, with 1 for in and -1 for out.
+         */
+        void fade(int direction) {
+            gainStep = direction;
+        }
+
+        /**
+         * Computes the next output frame by interpolating between the two nearest frames of the track.
+         */
+        void next() {
+            left = previousLeft + (nextLeft - previousLeft) * (float) phase;
+            right = previousRight + (nextRight - previousRight) * (float) phase;
+            phase += step;
+            while (phase >= 1 && !finished) {
+                previousLeft = nextLeft;
+                previousRight = nextRight;
+                readFrame();
+                phase -= 1;
+            }
+        }
+
+        /**
+         * Moves the gain one frame further along the fade.
+         */
+        void advanceGain(int crossfadeFrames) {
+            if (gainStep != 0) {
+                gain = crossfadeFrames == 0 ? (gainStep > 0 ? 1 : 0)
+                        : Math.max(0, Math.min(1, gain + gainStep / crossfadeFrames));
+            }
+        }
+
+        private void readFrame() {
+            if (position >= limit && !refill()) {
+                finished = true;
+                nextLeft = 0;
+                nextRight = 0;
+                return;
+            }
+            nextLeft = (short) ((buffer[position] & 0xff) | (buffer[position + 1] << 8));
+            nextRight = channels == 2
+                    ? (short) ((buffer[position + 2] & 0xff) | (buffer[position + 3] << 8))
+                    : nextLeft;
+            position += frameSize;
+        }
+
+        /**
+         * Reads the next buffer of the track, reopening it at the end if it loops.
+         */
+        private boolean refill() {
+            try {
+                int read = stream.read(buffer, 0, buffer.length / frameSize * frameSize);
+                if (read <= 0 && loop) {
+                    close();
+                    if (!openStream()) {
+                        return false;
+                    }
+                    read = stream.read(buffer, 0, buffer.length / frameSize * frameSize);
+                }
+                position = 0;
+                limit = Math.max(0, read) / frameSize * frameSize;
+                return limit > 0;
+            } catch (IOException e) {
+                System.err.println("Error reading music: " + path + " - " + e);
+                return false;
+            }
+        }
+
+        void close() {
+            closeQuietly(stream);
+        }
+
+        private static void closeQuietly(AudioInputStream stream) {
+            if (stream == null) {
+                return;
+            }
+            try {
+                stream.close();
+            } catch (IOException e) {
+                System.err.println("Error closing music - " + e);
+            }
+        }
+    }
+}
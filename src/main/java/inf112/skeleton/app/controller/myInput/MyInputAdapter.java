@@ -6,6 +6,8 @@ import inf112.skeleton.app.model.Direction;
 import inf112.skeleton.app.model.GameLogic;
 import inf112.skeleton.app.model.GameState;
 import inf112.skeleton.app.model.entities.Player;
+import inf112.skeleton.app.utils.DebugOptions;
+import inf112.skeleton.app.utils.DebugOptions.Overlay;
 
 import static inf112.skeleton.app.model.Direction.*;
 import static inf112.skeleton.app.model.GameState.*;
@@ -14,12 +16,15 @@ import static inf112.skeleton.app.model.GameState.*;
  * Handles player input and game state transitions.
  * Extends {@link InputAdapter}.
  * This class manages player movement and changes in game states based on key inputs.
+ * The F1 to F5 keys toggle the debug overlays, see {@link DebugOptions}.
  */
 public class MyInputAdapter extends InputAdapter {
 
     private final Player player;
     private GameLogic gameLogic;
-    private static boolean keyPressed = false;
+    private final DebugOptions debugOptions;
+    // Read by the player when it moves, which may be on the simulation thread
+    private static volatile boolean keyPressed = false;
 
     /**
      * Constructs a new MyInputAdapter.
@@ -28,8 +33,20 @@ public class MyInputAdapter extends InputAdapter {
      * @param gameLogic The game logic to manage the game's state.
      */
     public MyInputAdapter(Player player, GameLogic gameLogic) {
+        this(player, gameLogic, null);
+    }
+
+    /**
+     * Constructs a new MyInputAdapter that also toggles debug overlays.
+     *
+     * @param player       The player character to control.
+     * @param gameLogic    The game logic to manage the game's state.
+     * @param debugOptions The debug overlays to toggle, or null to ignore the debug keys.
+     */
+    public MyInputAdapter(Player player, GameLogic gameLogic, DebugOptions debugOptions) {
         this.player = player;
         this.gameLogic = gameLogic;
+        this.debugOptions = debugOptions;
     }
     
     @Override
@@ -40,6 +57,11 @@ public class MyInputAdapter extends InputAdapter {
             player.setMovement(direction, true);
             return true;
         }
+        Overlay overlay = getDebugOverlay(keycode);
+        if (overlay != null && debugOptions != null) {
+            debugOptions.toggle(overlay);
+            return true;
+        }
         GameState gameState = getGameState(keycode, gameLogic.getGameState());
         if (gameState != null) {
             gameLogic.setGameState(gameState);
@@ -78,6 +100,17 @@ public class MyInputAdapter extends InputAdapter {
         };
     }
 
+    private Overlay getDebugOverlay(int keycode) {
+        return switch (keycode) {
+            case Keys.F1 -> Overlay.PHYSICS;
+            case Keys.F2 -> Overlay.GRID;
+            case Keys.F3 -> Overlay.TIMING;
+            case Keys.F4 -> Overlay.COUNTS;
+            case Keys.F5 -> Overlay.PROFILER;
+            default -> null;
+        };
+    }
+
     private GameState getGameState(int keycode, GameState gameState) {
         return switch (gameState) {
             case GAME_ACTIVE -> switch (keycode) {
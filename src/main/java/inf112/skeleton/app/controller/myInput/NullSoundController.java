@@ -0,0 +1,60 @@
+package inf112.skeleton.app.controller.myInput;
+
+/**
+ * Sound controller that plays nothing.
+ * Used when the game runs without an audio device, e.g. headless in tests and benchmarks.
+ */
+public class NullSoundController implements ISoundController {
+
+    @Override
+    public void playMoveSound() {
+    }
+
+    @Override
+    public void playCollectCoinSound() {
+    }
+
+    @Override
+    public void playDamageSound() {
+    }
+
+    @Override
+    public void playBackgroundMusic(float volume) {
+    }
+
+    @Override
+    public void stopBackgroundMusic() {
+    }
+
+    @Override
+    public void spikeHurtSound() {
+    }
+
+    @Override
+    public void playPestilenceSound() {
+    }
+
+    @Override
+    public void playTechoShotSound() {
+    }
+
+    @Override
+    public void playSound(String soundKey) {
+    }
+
+    @Override
+    public void playGameOverSound() {
+    }
+
+    @Override
+    public void initializeBackgroundMusic() {
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    @Override
+    public void setMusicVolume(float volume) {
+    }
+}
@@ -1,92 +1,129 @@
 package inf112.skeleton.app.controller.myInput;
 
-import javax.sound.sampled.*;
+import static inf112.skeleton.app.utils.Constants.BACKGROUND_MUSIC;
+import static inf112.skeleton.app.utils.Constants.SOUND_MIN_INTERVAL;
+import static inf112.skeleton.app.utils.Constants.SOUND_VOICES;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
+import javax.sound.sampled.*;
 
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import inf112.skeleton.app.utils.WorkerPool;
 
 /**
  * Controls sound effects and background music for the game.
  * Implements the {@link ISoundController} interface.
+ *
+ * Sound effects are played by a {@link SoundEngine} and the background music is streamed by a {@link MusicStreamer},
+ * so playing a sound never touches an audio line on the game thread.
+ * The sounds are decoded in parallel in the background, and sounds played before they are ready are skipped.
  */
 public class SoundController implements ISoundController {
 
-    private HashMap<String, Clip> clips = new HashMap<>();
-    private Music backgroundMusic;
+    private final SoundEngine engine;
+    private final MusicStreamer backgroundMusic;
+    private final CompletableFuture<Void> loading;
 
     /**
-     * Constructs a new SoundController and initializes the sounds.
+     * Constructs a new SoundController, decodes the sounds on the shared {@link WorkerPool}
+     * and starts the audio and music threads.
      */
     public SoundController() {
+        this(WorkerPool.shared());
+    }
 
-        //initializeBackgroundMusic();
+    /**
+     * Constructs a new SoundController, decodes the sounds in parallel on the given workers
+     * and starts the audio and music threads. The audio thread starts once every sound is decoded.
+     *
+     * @param workers Runs the decoding tasks.
+     */
+    public SoundController(Executor workers) {
+        this.engine = new SoundEngine();
+        this.backgroundMusic = new MusicStreamer();
         // Map specific sounds to actio
-        loadSound("background", "/sounds/background.wav");
-        ///loadSound("background", "/sounds/battleBackground.wav");
-        loadSound("technologyShot", "/sounds/simpleSwordHurt.wav");
-        loadSound("damage", "/sounds/damageSound.wav");
-        loadSound("death", "/sounds/Death_sound.wav");
-        loadSound("isaacDeath", "/sounds/isaacDies.wav");
-        loadSound("pestilence", "/sounds/dragonHurt.wav");
-        loadSound("collision", "/sounds/bellofDeath.wav");
-        loadSound("coin", "/sounds/collectCoinSound.wav");
-    }
-
-    private void loadSound(String key, String path) {
-        try {
-            InputStream audioSrc = getClass().getResourceAsStream(path);
-            if (audioSrc == null) {
-                System.err.println("Resource not found: " + path);
-                return;
+        this.loading = CompletableFuture.allOf(
+                loadSound("technologyShot", "/sounds/simpleSwordHurt.wav", SOUND_VOICES, workers),
+                loadSound("damage", "/sounds/damageSound.wav", SOUND_VOICES, workers),
+                loadSound("death", "/sounds/Death_sound.wav", SOUND_VOICES, workers),
+                loadSound("isaacDeath", "/sounds/isaacDies.wav", 1, workers),
+                loadSound("pestilence", "/sounds/dragonHurt.wav", SOUND_VOICES, workers),
+                loadSound("collision", "/sounds/bellofDeath.wav", SOUND_VOICES, workers),
+                loadSound("coin", "/sounds/collectCoinSound.wav", SOUND_VOICES, workers))
+                .thenRun(engine::start);
+        backgroundMusic.start();
+    }
+
+    /**
+     * Constructs a SoundController playing effects with the given engine and music with the given streamer.
+     *
+     * @param engine          The engine playing the sound effects.
+     * @param backgroundMusic The streamer playing the background music.
+     */
+    SoundController(SoundEngine engine, MusicStreamer backgroundMusic) {
+        this.engine = engine;
+        this.backgroundMusic = backgroundMusic;
+        this.loading = CompletableFuture.completedFuture(null);
+    }
+
+    private CompletableFuture<Void> loadSound(String key, String path, int voiceCount, Executor workers) {
+        return CompletableFuture.supplyAsync(() -> openVoices(key, path, voiceCount), workers)
+                .thenAccept(voices -> {
+                    synchronized (engine) {
+                        engine.addEffect(key, voices, SOUND_MIN_INTERVAL);
+                    }
+                });
+    }
+
+    /**
+     * Loads a sound once and opens a clip per voice, all sharing the decoded audio data.
+     * The sound gets no voices if the file is missing or no audio device supports it.
+     */
+    private List<SoundEngine.ClipVoice> openVoices(String key, String path, int voiceCount) {
+        List<SoundEngine.ClipVoice> voices = new ArrayList<>();
+        InputStream audioSrc = getClass().getResourceAsStream(path);
+        if (audioSrc == null) {
+            System.err.println("Resource not found: " + path);
+            return voices;
+        }
+        try (AudioInputStream audioStream = AudioSystem.getAudioInputStream(new BufferedInputStream(audioSrc))) {
+            AudioFormat format = audioStream.getFormat();
+            byte[] data = audioStream.readAllBytes();
+            for (int i = 0; i < voiceCount; i++) {
+                Clip clip = AudioSystem.getClip();
+                clip.open(format, data, 0, data.length);
+                voices.add(new SoundEngine.ClipVoice(clip));
             }
-            BufferedInputStream bufferedIn = new BufferedInputStream(audioSrc);
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(bufferedIn);
-
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioStream);
-            clips.put(key, clip);
-            // Close the stream after use
-            audioStream.close();
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
+        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException | IllegalArgumentException e) {
             System.err.println("Error loading sound: " + key + " - " + e);
         }
+        return voices;
     }
-    
+
     @Override
     public void initializeBackgroundMusic() {
-        playSound("background");
         setMusicVolume(0.2f); // Set to 20% volume; adjust as necessary
-    
-        
+        backgroundMusic.play(BACKGROUND_MUSIC, true);
     }
 
     @Override
     public void playSound(String soundKey) {
-        Clip clip = clips.get(soundKey);
-        if (clip != null) {
-            if (clip.isRunning()) {
-                clip.stop();
-            }
-            clip.setFramePosition(0);
-            clip.start();
+        if (loading.isDone()) {
+            engine.play(soundKey);
         }
     }
 
     @Override
     public void dispose() {
-        for (Clip clip : clips.values()) {
-            if (clip != null) {
-                clip.close();
-            }
-        }
-        if (backgroundMusic != null) {
-            backgroundMusic.dispose();
-        }
+        loading.join();
+        engine.dispose();
+        backgroundMusic.dispose();
     }
 
     @Override
@@ -119,50 +156,55 @@ public class SoundController implements ISoundController {
     public void playCollectCoinSound() {
         playSound("coin");
     }
-    
+
     @Override
     public void playBackgroundMusic(float volume) {
-        if (backgroundMusic != null) {
-            backgroundMusic.setVolume(volume); // Set the volume
-            if (!backgroundMusic.isPlaying()) {
-                backgroundMusic.play();
-            }
+        backgroundMusic.setVolume(volume); // Set the volume
+        if (!backgroundMusic.isPlaying()) {
+            backgroundMusic.play(BACKGROUND_MUSIC, true);
         }
     }
 
 
     @Override
     public void stopBackgroundMusic() {
-        if (backgroundMusic != null && backgroundMusic.isPlaying()) {
+        if (backgroundMusic.isPlaying()) {
             System.out.println("Stopping background music...");  // Debug log
             backgroundMusic.stop();
         } else {
-            System.out.println("Background music was not playing or is null.");  // Debug log
+            System.out.println("Background music was not playing.");  // Debug log
         }
     }
 
     @Override
     public void setMusicVolume(float volume) {
-        if (backgroundMusic != null) {
-            backgroundMusic.setVolume(volume);
-        }
+        backgroundMusic.setVolume(volume);
+    }
+
+    /**
+     * Checks if every sound has been decoded and the audio thread has started.
+     *
+     * @return True if sounds can be played, otherwise false.
+     */
+    public boolean isLoaded() {
+        return loading.isDone();
     }
 
     /**
-     * Gets the map of sound clips.
+     * Gets the engine playing the sound effects.
      *
-     * @return The map of sound clips.
+     * @return The sound engine.
      */
-    public HashMap<String, Clip> getClips() {
-        return this.clips;
+    public SoundEngine getEngine() {
+        return this.engine;
     }
 
     /**
-     * Gets the background music.
+     * Gets the streamer playing the background music.
      *
      * @return The background music.
      */
-    public Music getBackgroundMusic() {
+    public MusicStreamer getBackgroundMusic() {
         return this.backgroundMusic;
     }
 
@@ -0,0 +1,260 @@
+package inf112.skeleton.app.controller.myInput;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.Clip;
+
+/**
+ * The SoundEngine class plays sound effects on its own audio thread, so the game thread never waits for an audio line.
+ *
+ * Each effect has a fixed pool of voices, so the same effect can overlap itself without cutting itself off.
+ * Playing an effect only increments a pending count for the effect and wakes the audio thread, which is lock-free
+ * and allocates nothing. The audio thread drains every pending count at once, so requests for the same effect
+ * arriving before it wakes up are coalesced into one voice start. An effect is also never started twice within
+ * its minimum interval; requests arriving sooner are dropped.
+ *
+ * Effects must be added before the engine is started.
+ */
+public class SoundEngine implements Runnable {
+
+    /**
+     * A voice that can play one instance of an effect at a time.
+     */
+    public interface Voice {
+        /**
+         * Plays the voice from the start, cutting off what it was playing.
+         */
+        void play();
+
+        /**
+         * Checks if the voice is playing.
+         *
+         * @return True if the voice is playing, otherwise false.
+         */
+        boolean isPlaying();
+
+        /**
+         * Releases the audio line of the voice.
+         */
+        void close();
+    }
+
+    /**
+     * A voice playing a {@link Clip}.
+     */
+    public static class ClipVoice implements Voice {
+        private final Clip clip;
+
+        /**
+         * Constructs a voice playing an opened clip.
+         *
+         * @param clip The clip to play.
+         */
+        public ClipVoice(Clip clip) {
+            this.clip = clip;
+        }
+
+        @Override
+        public void play() {
+            if (clip.isRunning()) {
+                clip.stop();
+            }
+            clip.setFramePosition(0);
+            clip.start();
+        }
+
+        @Override
+        public boolean isPlaying() {
+            return clip.isActive();
+        }
+
+        @Override
+        public void close() {
+            clip.close();
+        }
+    }
+
+    private final HashMap<String, Integer> indices = new HashMap<>();
+    private final List<Voice[]> voices = new ArrayList<>();
+    private final List<Long> minIntervals = new ArrayList<>();
+    private AtomicIntegerArray pending = new AtomicIntegerArray(0);
+    private int[] cursors = new int[0];
+    private long[] lastStarted = new long[0];
+    private long[] startedCount = new long[0];
+    private long[] droppedCount = new long[0];
+
+    private final AtomicBoolean signalled = new AtomicBoolean();
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Adds an effect. Must be called before {@link #start()}.
+     *
+     * @param key         The key the effect is played with.
+     * @param effectVoices The voices of the effect. An effect can overlap itself this many times.
+     * @param minInterval The minimum time in milliseconds between two starts of the effect.
+     */
+    public void addEffect(String key, List<? extends Voice> effectVoices, long minInterval) {
+        if (thread != null) {
+            throw new IllegalStateException("Effects must be added before the sound engine is started");
+        }
+        if (effectVoices.isEmpty()) {
+            return;
+        }
+        indices.put(key, voices.size());
+        voices.add(effectVoices.toArray(new Voice[0]));
+        minIntervals.add(TimeUnit.MILLISECONDS.toNanos(minInterval));
+        int count = voices.size();
+        pending = new AtomicIntegerArray(count);
+        cursors = new int[count];
+        lastStarted = new long[count];
+        startedCount = new long[count];
+        droppedCount = new long[count];
+        for (int i = 0; i < count; i++) {
+            lastStarted[i] = Long.MIN_VALUE / 2;
+        }
+    }
+
+    /**
+     * Checks if an effect has been added.
+     *
+     * @param key The key of the effect.
+     * @return True if the effect can be played, otherwise false.
+     */
+    public boolean hasEffect(String key) {
+        return indices.containsKey(key);
+    }
+
+    /**
+     * Starts the audio thread. The thread is a daemon, so it does not keep the game running.
+     */
+    public void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "audio");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Requests an effect to be played by the audio thread. Safe to call from any thread.
+     * Unknown keys are ignored.
+     *
+     * @param key The key of the effect.
+     */
+    public void play(String key) {
+        Integer index = indices.get(key);
+        if (index == null) {
+            return;
+        }
+        pending.incrementAndGet(index);
+        Thread audio = thread;
+        if (audio != null && signalled.compareAndSet(false, true)) {
+            LockSupport.unpark(audio);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            signalled.set(false);
+            drain(System.nanoTime());
+            if (!signalled.get()) {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * Starts a voice for every effect with pending requests. Called by the audio thread.
+     *
+     * @param now The current time in nanoseconds.
+     */
+    void drain(long now) {
+        for (int i = 0; i < cursors.length; i++) {
+            int requests = pending.getAndSet(i, 0);
+            if (requests == 0) {
+                continue;
+            }
+            if (now - lastStarted[i] < minIntervals.get(i)) {
+                droppedCount[i] += requests;
+                continue;
+            }
+            nextVoice(i).play();
+            lastStarted[i] = now;
+            startedCount[i]++;
+            droppedCount[i] += requests - 1;
+        }
+    }
+
+    /**
+     * Picks the voice of an effect to start: the next idle voice, or the one started longest ago if all are playing.
+     */
+    private Voice nextVoice(int effect) {
+        Voice[] pool = voices.get(effect);
+        int cursor = cursors[effect];
+        Voice voice = pool[cursor];
+        for (int i = 0; i < pool.length; i++) {
+            int candidate = (cursor + i) % pool.length;
+            if (!pool[candidate].isPlaying()) {
+                cursor = candidate;
+                voice = pool[candidate];
+                break;
+            }
+        }
+        cursors[effect] = (cursor + 1) % pool.length;
+        return voice;
+    }
+
+    /**
+     * Gets how many times an effect has been started.
+     *
+     * @param key The key of the effect.
+     * @return The number of voice starts, or 0 if the effect is unknown.
+     */
+    public long getStartedCount(String key) {
+        Integer index = indices.get(key);
+        return index == null ? 0 : startedCount[index];
+    }
+
+    /**
+     * Gets how many requests for an effect were coalesced into another start or dropped by the rate limit.
+     *
+     * @param key The key of the effect.
+     * @return The number of requests that did not start a voice, or 0 if the effect is unknown.
+     */
+    public long getDroppedCount(String key) {
+        Integer index = indices.get(key);
+        return index == null ? 0 : droppedCount[index];
+    }
+
+    /**
+     * Stops the audio thread and closes every voice.
+     */
+    public void dispose() {
+        running = false;
+        Thread audio = thread;
+        if (audio != null) {
+            LockSupport.unpark(audio);
+            try {
+                audio.join(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (Voice[] pool : voices) {
+            for (Voice voice : pool) {
+                voice.close();
+            }
+        }
+    }
+}
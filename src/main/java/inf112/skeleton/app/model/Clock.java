@@ -0,0 +1,25 @@
+package inf112.skeleton.app.model;
+
+/**
+ * Source of frame time for the game logic.
+ * Lets the simulation run without a window, e.g. headless in tests and benchmarks.
+ */
+public interface Clock {
+
+    /**
+     * Gets the time elapsed since the last frame.
+     *
+     * @return the frame time in seconds.
+     */
+    float getDeltaTime();
+
+    /**
+     * Creates a clock that reports the same frame time every frame.
+     *
+     * @param deltaTime the frame time in seconds.
+     * @return the fixed clock.
+     */
+    static Clock fixed(float deltaTime) {
+        return () -> deltaTime;
+    }
+}
@@ -0,0 +1,241 @@
+package inf112.skeleton.app.model;
+
+import static inf112.skeleton.app.utils.Constants.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import inf112.skeleton.app.model.entities.enemies.Enemy;
+import inf112.skeleton.app.utils.FlowField;
+
+/**
+ * Updates the enemies' stun timers and steering once per tick, in two phases:
+ * <ol>
+ * <li>Compute - the new stun timers, opacities and directions are worked out from the arrays of the
+ * {@link EnemyStore} only. With many enemies this is split into batches run on a {@link ForkJoinPool}.</li>
+ * <li>Apply - the opacities are written to the enemies and the impulses applied to their bodies.</li>
+ * </ol>
+ * Box2D is only touched in the apply phase, which runs on the calling thread.
+ *
+ * The batches are fixed ranges of enemies, claimed by index by the calling thread and by helper tasks made
+ * once per stage, so a parallel update allocates nothing. Each claim is tagged with the update it belongs to,
+ * so a helper that the pool only starts after its update is over finds nothing to claim and ends,
+ * or helps with the update running then. The calling thread never waits for a helper to be scheduled, only for
+ * batches already being computed, and it yields its time slice instead of joining them, since blocking in a join allocates.
+ */
+public class EnemyAIStage {
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final Helper[] helpers;
+    // Whether each helper has been handed to the pool, only used by the calling thread
+    private final boolean[] submitted;
+
+    // Batches of the compute phase. The claim holds the update's number in the high half
+    // and the next batch to claim in the low half.
+    private final AtomicLong claim = new AtomicLong();
+    private final AtomicInteger doneBatches = new AtomicInteger();
+    private volatile int batches;
+    private int generation;
+    private volatile Throwable failure;
+
+    // Output, filled in the compute phase
+    private float[] opacity = new float[0];
+    private float[] directionX = new float[0];
+    private float[] directionY = new float[0];
+    private boolean[] moving = new boolean[0];
+    private int count;
+
+    // Shared by all enemies during one update
+    private EnemyStore enemies;
+    private FlowField flowField;
+    private float targetX;
+    private float targetY;
+
+    /**
+     * Constructs a stage that runs on the common fork/join pool once there are
+     * {@link inf112.skeleton.app.utils.Constants#AI_PARALLEL_THRESHOLD} enemies.
+     */
+    public EnemyAIStage() {
+        this(ForkJoinPool.commonPool(), AI_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Constructs a stage with a given pool and threshold.
+     *
+     * @param pool              The pool running the compute phase.
+     * @param parallelThreshold The number of enemies from which the compute phase runs in parallel.
+     */
+    public EnemyAIStage(ForkJoinPool pool, int parallelThreshold) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.helpers = new Helper[pool.getParallelism()];
+        this.submitted = new boolean[helpers.length];
+        for (int i = 0; i < helpers.length; i++) {
+            helpers[i] = new Helper();
+        }
+    }
+
+    /**
+     * Counts down the enemies' stun timers and moves every enemy that is not stunned towards the target,
+     * following the flow field around walls. Enemies in the target's cell, or with no way around,
+     * move straight at the target.
+     *
+     * @param enemies   The enemies to update, with their positions synced since the last world step.
+     * @param flowField The flow field towards the target, already updated, or null to move straight at it.
+     * @param targetX   The x-coordinate of the target.
+     * @param targetY   The y-coordinate of the target.
+     */
+    public void update(EnemyStore enemies, FlowField flowField, float targetX, float targetY) {
+        this.enemies = enemies;
+        this.flowField = flowField;
+        this.targetX = targetX;
+        this.targetY = targetY;
+        count = enemies.size();
+        ensureCapacity(count);
+        if (count >= parallelThreshold) {
+            computeParallel();
+        } else {
+            compute(0, count);
+        }
+        apply();
+        this.enemies = null;
+        this.flowField = null;
+    }
+
+    /**
+     * Works out the results for the enemies from index from to index to, reading only the arrays
+     * and the flow field, so batches can run on different threads.
+     */
+    private void compute(int from, int to) {
+        for (int i = from; i < to; i++) {
+            float stun = enemies.getStunTimer(i) - TIME_STEP;
+            enemies.setStunTimer(i, stun);
+            boolean stunned = stun > 0;
+            opacity[i] = stunned ? 0.5f : 1f;
+            moving[i] = !stunned;
+            if (stunned) {
+                continue;
+            }
+            float dx = 0;
+            float dy = 0;
+            float x = enemies.getX(i);
+            float y = enemies.getY(i);
+            if (flowField != null) {
+                int cell = flowField.getCell(x, y);
+                dx = flowField.getDirectionX(cell);
+                dy = flowField.getDirectionY(cell);
+            }
+            if (dx == 0 && dy == 0) {
+                dx = targetX - x;
+                dy = targetY - y;
+                float length = (float) Math.sqrt(dx * dx + dy * dy);
+                if (length != 0) {
+                    dx /= length;
+                    dy /= length;
+                }
+            }
+            directionX[i] = dx;
+            directionY[i] = dy;
+        }
+    }
+
+    /**
+     * Runs the compute phase in batches of {@link inf112.skeleton.app.utils.Constants#AI_BATCH_SIZE} enemies,
+     * shared between the calling thread and up to one helper per thread of the pool.
+     */
+    private void computeParallel() {
+        doneBatches.set(0);
+        failure = null;
+        batches = (count + AI_BATCH_SIZE - 1) / AI_BATCH_SIZE;
+        generation++;
+        // Publishes the fields of this update to the helpers that claim a batch of it
+        claim.set((long) generation << 32);
+        int wanted = Math.min(helpers.length, batches - 1);
+        for (int i = 0; i < helpers.length && wanted > 0; i++) {
+            // A helper still queued from an earlier update will help with this one if it starts in time
+            if (submitted[i] && !helpers[i].isDone()) {
+                wanted--;
+                continue;
+            }
+            helpers[i].reinitialize();
+            pool.execute(helpers[i]);
+            submitted[i] = true;
+            wanted--;
+        }
+        computeBatches();
+        // Every batch is claimed now, so this only waits for batches other threads are computing
+        for (int spins = 0; doneBatches.get() < batches; spins++) {
+            if (spins < AI_WAIT_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        Throwable thrown = failure;
+        if (thrown instanceof RuntimeException) {
+            throw (RuntimeException) thrown;
+        } else if (thrown instanceof Error) {
+            throw (Error) thrown;
+        }
+    }
+
+    /**
+     * Claims and computes batches of the current update until none are left. Every claimed batch is counted as done,
+     * also if it fails, so the calling thread never waits for a batch that will not finish.
+     * The update's fields stay the same while one of its batches is claimed, since the calling thread
+     * waits for every batch to be done before it moves on.
+     */
+    private void computeBatches() {
+        while (true) {
+            long current = claim.get();
+            int batch = (int) current;
+            if (batch >= batches) {
+                return;
+            }
+            if (!claim.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            int from = batch * AI_BATCH_SIZE;
+            try {
+                compute(from, Math.min(from + AI_BATCH_SIZE, count));
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                doneBatches.incrementAndGet();
+            }
+        }
+    }
+
+    private void apply() {
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = enemies.get(i);
+            enemy.setOpacity(opacity[i]);
+            if (moving[i]) {
+                enemy.moveInDirection(directionX[i], directionY[i]);
+            }
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (opacity.length >= size) {
+            return;
+        }
+        int capacity = Math.max(size, opacity.length * 2);
+        opacity = new float[capacity];
+        directionX = new float[capacity];
+        directionY = new float[capacity];
+        moving = new boolean[capacity];
+    }
+
+    /**
+     * Computes batches on a thread of the pool.
+     */
+    private class Helper extends RecursiveAction {
+        @Override
+        protected void compute() {
+            computeBatches();
+        }
+    }
+}
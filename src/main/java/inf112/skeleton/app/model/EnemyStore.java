@@ -0,0 +1,161 @@
+package inf112.skeleton.app.model;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Vector2;
+
+import inf112.skeleton.app.model.entities.EntityType;
+import inf112.skeleton.app.model.entities.enemies.Enemy;
+
+/**
+ * A store of enemies that keeps their state in parallel arrays, one array per field, indexed like the store.
+ * The per-tick loops read and write these arrays in order instead of following each enemy's object graph.
+ * An enemy in the store reads and writes its health and stun timer here, and gets them back when removed,
+ * so the Enemy objects are only handles. Positions are a cache of the bodies, refreshed by {@link #syncBodies()}
+ * after each world step. Velocities are not cached, since nothing reads them every tick and
+ * each read from a body is a native call.
+ */
+public class EnemyStore extends EntityStore<Enemy> {
+    private float[] x = new float[16];
+    private float[] y = new float[16];
+    private float[] speed = new float[16];
+    private float[] stunTimer = new float[16];
+    private int[] hp = new int[16];
+    private int[] type = new int[16];
+
+    @Override
+    protected void added(Enemy enemy, int index) {
+        ensureCapacity(index + 1);
+        Vector2 position = enemy.getBody().getPosition();
+        x[index] = position.x;
+        y[index] = position.y;
+        speed[index] = enemy.getSpeed();
+        stunTimer[index] = enemy.getStunTimer();
+        hp[index] = enemy.getHP();
+        type[index] = EntityType.enemyTypeOf(enemy);
+        enemy.attach(this, index);
+    }
+
+    @Override
+    protected void removed(Enemy enemy, int index) {
+        enemy.detach();
+    }
+
+    @Override
+    protected void moved(Enemy enemy, int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        speed[to] = speed[from];
+        stunTimer[to] = stunTimer[from];
+        hp[to] = hp[from];
+        type[to] = type[from];
+        enemy.attach(this, to);
+    }
+
+    private void ensureCapacity(int size) {
+        if (x.length >= size) {
+            return;
+        }
+        int capacity = Math.max(size, x.length * 2);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        stunTimer = Arrays.copyOf(stunTimer, capacity);
+        hp = Arrays.copyOf(hp, capacity);
+        type = Arrays.copyOf(type, capacity);
+    }
+
+    /**
+     * Copies the position of every enemy's body into the arrays.
+     * Call once after each world step, before reading positions.
+     */
+    public void syncBodies() {
+        for (int i = 0; i < size(); i++) {
+            Enemy enemy = get(i);
+            Vector2 position = enemy.getBody().getPosition();
+            x[i] = position.x;
+            y[i] = position.y;
+        }
+    }
+
+    /**
+     * Gets the x-coordinate of an enemy, as of the last {@link #syncBodies()}.
+     *
+     * @param index The index of the enemy.
+     * @return The x-coordinate of the enemy.
+     */
+    public float getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * Gets the y-coordinate of an enemy, as of the last {@link #syncBodies()}.
+     *
+     * @param index The index of the enemy.
+     * @return The y-coordinate of the enemy.
+     */
+    public float getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * Gets the movement speed of an enemy.
+     *
+     * @param index The index of the enemy.
+     * @return The movement speed of the enemy.
+     */
+    public float getSpeed(int index) {
+        return speed[index];
+    }
+
+    /**
+     * Gets the remaining stun time of an enemy.
+     *
+     * @param index The index of the enemy.
+     * @return The remaining stun time of the enemy.
+     */
+    public float getStunTimer(int index) {
+        return stunTimer[index];
+    }
+
+    /**
+     * Sets the remaining stun time of an enemy.
+     * Different indices may be set from different threads.
+     *
+     * @param index     The index of the enemy.
+     * @param stunTimer The remaining stun time of the enemy.
+     */
+    public void setStunTimer(int index, float stunTimer) {
+        this.stunTimer[index] = stunTimer;
+    }
+
+    /**
+     * Gets the health points of an enemy.
+     *
+     * @param index The index of the enemy.
+     * @return The health points of the enemy.
+     */
+    public int getHP(int index) {
+        return hp[index];
+    }
+
+    /**
+     * Sets the health points of an enemy.
+     *
+     * @param index The index of the enemy.
+     * @param hp    The health points of the enemy.
+     */
+    public void setHP(int index, int hp) {
+        this.hp[index] = hp;
+    }
+
+    /**
+     * Gets the type of an enemy, one of the ENEMY constants in {@link EntityType}.
+     *
+     * @param index The index of the enemy.
+     * @return The type of the enemy.
+     */
+    public int getType(int index) {
+        return type[index];
+    }
+}
@@ -0,0 +1,143 @@
+package inf112.skeleton.app.model;
+
+import static inf112.skeleton.app.utils.Constants.*;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Pool;
+
+import inf112.skeleton.app.model.entities.Coin;
+import inf112.skeleton.app.model.entities.Entity;
+import inf112.skeleton.app.model.entities.enemies.Heavy;
+import inf112.skeleton.app.model.entities.enemies.Light;
+import inf112.skeleton.app.model.entities.enemies.Medium;
+import inf112.skeleton.app.utils.B2DPhysics.PhysicsFactory;
+
+/**
+ * Keeps dead enemies and collected coins so they can be spawned again, together with their Box2D bodies.
+ * A freed entity's body is deactivated instead of destroyed, and activated again when the entity is obtained,
+ * so waves do not create and destroy bodies.
+ */
+public class EntityPools {
+    private final World world;
+
+    private final Pool<Light> lightPool = new Pool<>() {
+        @Override
+        protected Light newObject() {
+            return new Light(world);
+        }
+    };
+
+    private final Pool<Medium> mediumPool = new Pool<>() {
+        @Override
+        protected Medium newObject() {
+            return new Medium(world);
+        }
+    };
+
+    private final Pool<Heavy> heavyPool = new Pool<>() {
+        @Override
+        protected Heavy newObject() {
+            return new Heavy(world);
+        }
+    };
+
+    private final Pool<Coin> coinPool = new Pool<>() {
+        @Override
+        protected Coin newObject() {
+            Body coinBody = PhysicsFactory.createStaticEntityBody(world, new Vector2(), COIN_WIDTH, COIN_HEIGHT, CATEGORY_COIN);
+            coinBody.setUserData("coin");
+            return new Coin(coinBody, COIN_SPRITE, 0, "coin");
+        }
+    };
+
+    /**
+     * Constructs empty pools for entities in the given world.
+     *
+     * @param world The Box2D world the bodies of the entities belong to.
+     */
+    public EntityPools(World world) {
+        this.world = world;
+    }
+
+    /**
+     * Gets a light enemy at full health, reusing a dead one if there is one.
+     *
+     * @return The light enemy.
+     */
+    public Light obtainLight() {
+        return spawn(lightPool.obtain());
+    }
+
+    /**
+     * Gets a medium enemy at full health, reusing a dead one if there is one.
+     *
+     * @return The medium enemy.
+     */
+    public Medium obtainMedium() {
+        return spawn(mediumPool.obtain());
+    }
+
+    /**
+     * Gets a heavy enemy at full health, reusing a dead one if there is one.
+     *
+     * @return The heavy enemy.
+     */
+    public Heavy obtainHeavy() {
+        return spawn(heavyPool.obtain());
+    }
+
+    /**
+     * Gets an uncollected coin, reusing a collected one if there is one.
+     *
+     * @param value The monetary value of the coin.
+     * @return The coin.
+     */
+    public Coin obtainCoin(int value) {
+        Coin coin = spawn(coinPool.obtain());
+        coin.setValue(value);
+        return coin;
+    }
+
+    private <T extends Entity> T spawn(T entity) {
+        entity.setIsDestroyed(false);
+        entity.getBody().setActive(true);
+        return entity;
+    }
+
+    /**
+     * Returns an entity to its pool and deactivates its body.
+     * Must not be called while the world is stepping.
+     *
+     * @param entity The entity to free.
+     * @return True if the entity was pooled, false if it is of a type that is not pooled.
+     */
+    public boolean free(Entity entity) {
+        if (entity instanceof Light) {
+            entity.getBody().setActive(false);
+            lightPool.free((Light) entity);
+        } else if (entity instanceof Medium) {
+            entity.getBody().setActive(false);
+            mediumPool.free((Medium) entity);
+        } else if (entity instanceof Heavy) {
+            entity.getBody().setActive(false);
+            heavyPool.free((Heavy) entity);
+        } else if (entity instanceof Coin) {
+            entity.getBody().setActive(false);
+            coinPool.free((Coin) entity);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of free entities waiting to be reused.
+     *
+     * @return The number of free entities in all pools.
+     */
+    public int getFree() {
+        return lightPool.getFree() + mediumPool.getFree() + heavyPool.getFree() + coinPool.getFree();
+    }
+}
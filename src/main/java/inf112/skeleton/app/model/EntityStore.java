@@ -0,0 +1,141 @@
+package inf112.skeleton.app.model;
+
+import java.util.AbstractList;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import inf112.skeleton.app.model.entities.Entity;
+
+/**
+ * A list of entities with constant time add, remove and contains.
+ * Each entity's index is tracked, and removing an entity moves the last entity into its place,
+ * so the order of the entities changes when one is removed.
+ * Iterate by index to avoid creating an iterator. To remove while iterating, iterate backwards,
+ * since only entities after the removed one are moved.
+ * Subclasses can keep data of their own by index, kept in step through {@link #added}, {@link #moved} and {@link #removed}.
+ *
+ * @param <T> The type of entity in the store.
+ */
+public class EntityStore<T extends Entity> extends AbstractList<T> {
+    private final Array<T> items = new Array<>(false, 16);
+    private final ObjectIntMap<T> indices = new ObjectIntMap<>();
+
+    /**
+     * Adds an entity at the end of the store. Does nothing if the entity is already in the store.
+     *
+     * @param entity The entity to add.
+     * @return True if the entity was added, otherwise false.
+     */
+    @Override
+    public boolean add(T entity) {
+        if (indices.containsKey(entity)) {
+            return false;
+        }
+        indices.put(entity, items.size);
+        items.add(entity);
+        modCount++;
+        added(entity, items.size - 1);
+        return true;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= items.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + items.size);
+        }
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object entity) {
+        return entity instanceof Entity && indices.containsKey((T) entity);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int indexOf(Object entity) {
+        return entity instanceof Entity ? indices.get((T) entity, -1) : -1;
+    }
+
+    /**
+     * Removes an entity by moving the last entity into its place.
+     *
+     * @param entity The entity to remove.
+     * @return True if the entity was in the store, otherwise false.
+     */
+    @Override
+    public boolean remove(Object entity) {
+        int index = indexOf(entity);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes the entity at an index by moving the last entity into its place.
+     *
+     * @param index The index of the entity to remove.
+     * @return The removed entity.
+     */
+    @Override
+    public T remove(int index) {
+        T removed = get(index);
+        removed(removed, index);
+        indices.remove(removed, -1);
+        T last = items.pop();
+        if (index < items.size) {
+            items.set(index, last);
+            indices.put(last, index);
+            moved(last, items.size, index);
+        }
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = items.size - 1; i >= 0; i--) {
+            removed(items.get(i), i);
+        }
+        items.clear();
+        indices.clear();
+        modCount++;
+    }
+
+    /**
+     * Called after an entity is added.
+     *
+     * @param entity The added entity.
+     * @param index  The index of the entity.
+     */
+    protected void added(T entity, int index) {
+    }
+
+    /**
+     * Called before an entity is removed, while it is still at its index.
+     *
+     * @param entity The entity being removed.
+     * @param index  The index of the entity.
+     */
+    protected void removed(T entity, int index) {
+    }
+
+    /**
+     * Called after the last entity is moved into the place of a removed one.
+     *
+     * @param entity The moved entity.
+     * @param from   The index the entity was at.
+     * @param to     The index the entity is at now.
+     */
+    protected void moved(T entity, int from, int to) {
+    }
+}
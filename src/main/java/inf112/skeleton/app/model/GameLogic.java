@@ -4,23 +4,34 @@ import inf112.skeleton.app.model.entities.*;
 import inf112.skeleton.app.utils.B2DPhysics.B2dContactListener;
 import inf112.skeleton.app.utils.B2DPhysics.CollisionCallBack;
 import inf112.skeleton.app.utils.B2DPhysics.PhysicsFactory;
+import inf112.skeleton.app.utils.CompiledMap;
+import inf112.skeleton.app.utils.FlowField;
+import inf112.skeleton.app.utils.FrameProfiler;
+import inf112.skeleton.app.utils.FrameProfiler.Section;
+import inf112.skeleton.app.utils.SpatialHashGrid;
+import inf112.skeleton.app.utils.SpawnRaster;
 
 import static inf112.skeleton.app.utils.Constants.*;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.function.Function;
+import inf112.skeleton.app.controller.myInput.GdxInputSource;
+import inf112.skeleton.app.controller.myInput.ISoundController;
+import inf112.skeleton.app.controller.myInput.InputSource;
 import inf112.skeleton.app.controller.myInput.SoundController;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.PolylineMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
 import inf112.skeleton.app.model.entities.enemies.*;
 import inf112.skeleton.app.model.entities.weapons.*;
 
@@ -29,40 +40,86 @@ import inf112.skeleton.app.model.entities.weapons.*;
  */
 public class GameLogic implements CollisionCallBack {
     // State
-    private GameState gameState;
+    private volatile GameState gameState; // Read by the renderer while the simulation may run on another thread
     private int wave;
 
     // Entities
     private Player player;
     private Weapon weapon;
-    private List<Enemy> enemies = new ArrayList<>();
-    private List<Coin> coins = new ArrayList<>();
-    private List<Entity> entities = new ArrayList<>();
+    private final EnemyStore enemies = new EnemyStore();
+    private final EntityStore<Coin> coins = new EntityStore<>();
+    private final EntityStore<Entity> entities = new EntityStore<>();
     private List<Polygon> spikePolygons = new ArrayList<>();
 
-    // Time
-    private long lastHitTime;
-    private final long hitCooldown = HIT_COOLDOWN;
-    private final int hitWarningDuration = HIT_WARNING_DURATION;
+    // Proximity - enemies and coins sorted by position, so only those near the player are checked
+    private final SpatialHashGrid<Enemy> enemyGrid = new SpatialHashGrid<>(NUM_COLS, NUM_ROWS, CELL_WIDTH, CELL_HEIGHT);
+    private final SpatialHashGrid<Coin> coinGrid = new SpatialHashGrid<>(NUM_COLS, NUM_ROWS, CELL_WIDTH, CELL_HEIGHT);
+    private final Array<Enemy> nearbyEnemies = new Array<>();
+    private final Array<Coin> nearbyCoins = new Array<>();
+    private float enemyQueryRadius = 0;
+    private float coinQueryRadius = 0;
+
+    // Spawning - the out-of-bounds polygons and the cells outside them, computed in setMap
+    private float[][] outOfBoundsPolygons = new float[0][];
+    private SpawnRaster spawnRaster;
+
+    // Navigation - the way to the player around walls, shared by all enemies, computed in setMap
+    private FlowField flowField;
+    private final EnemyAIStage enemyAI = new EnemyAIStage();
+
+    // Pools - dead enemies and collected coins, kept with their bodies to be spawned again
+    private EntityPools pools;
+
+    // Time - simulation time in seconds, advanced by one TIME_STEP per tick
+    private float time = 0;
+    private float lastHitTime = -HIT_COOLDOWN / 1000f;
+    private final float hitCooldown = HIT_COOLDOWN / 1000f;
+    private final float hitWarningDuration = HIT_WARNING_DURATION / 1000f;
     private boolean showHitWarning = false;
-    private long hitWarningStartTime = 0;
+    private float hitWarningStartTime = 0;
     private int coinValue = 0;
     private TiledMap map;
     public World world;
-    // sounds
-    private SoundController soundController = new SoundController();
+    // Platform
+    private final Clock clock;
+    private final InputSource input;
+    private final ISoundController soundController;
 
     private float waveTimer = 0;
     private float waveDelay = 5; // 5 seconds delay for respawning enemies
+    private float accumulator = 0;
+    private float alpha = 0;
+    // How long the last tick took in nanoseconds, shown by the timing debug overlay
+    private long tickNanos;
+    // Times the sections of each tick while the profiler overlay is on
+    private final FrameProfiler profiler = new FrameProfiler();
 
     /**
-     * Constructs a new GameLogic instance with the given game state.
+     * Constructs a new GameLogic instance with the given game state,
+     * using the libGDX frame time and mouse, and playing sounds.
      *
      * @param gameState the initial game state
      */
-
     public GameLogic(GameState gameState) {
+        this(gameState, new GdxClock(), new GdxInputSource(), new SoundController());
+    }
+
+    /**
+     * Constructs a new GameLogic instance with the given game state and platform services.
+     * Pass a fixed {@link Clock}, a fixed {@link InputSource} and a
+     * {@link inf112.skeleton.app.controller.myInput.NullSoundController} to run the game
+     * without a window or audio device.
+     *
+     * @param gameState       the initial game state
+     * @param clock           the source of frame time, used by {@link #update()}
+     * @param input           the source of mouse input
+     * @param soundController the sound controller playing the game's sounds
+     */
+    public GameLogic(GameState gameState, Clock clock, InputSource input, ISoundController soundController) {
         this.gameState = gameState;
+        this.clock = clock;
+        this.input = input;
+        this.soundController = soundController;
         setWorld(new World(new Vector2(0, 0), true));
         world.setContactListener(new B2dContactListener(this));
         soundController.initializeBackgroundMusic();
@@ -75,33 +132,28 @@ public class GameLogic implements CollisionCallBack {
      * - Prints "Resetting game" to the console.
      * - Resets the player's health and position to predefined constants.
      * - Sets the player's linear velocity and applies zero force to the player's center.
-     * - Clears all existing entities, coins, and enemies.
-     * - Reinitializes the coins and enemies arrays and populates them.
-     * - Adds player and weapon back to the entities list along with all enemies and coins.
+     * - Returns all existing enemies and coins to their pools.
+     * - Spawns new coins and enemies.
      */
     public void resetGame() {
         // Reset player
         this.player.setHealth(PLAYER_HEALTH);
         this.player.setPos(PLAYER_SPAWN_X, PLAYER_SPAWN_Y);
+        this.player.savePreviousPosition();
         this.player.getBody().setLinearVelocity(new Vector2().scl(0));
         this.player.getBody().applyForceToCenter(new Vector2().scl(0), true);
 
-        // Clear entities
-        destroyInactiveEntities();
-        entities.clear();
-        coins.clear();
-        enemies.clear();
+        // Return enemies and coins to their pools
+        while (!enemies.isEmpty()) {
+            removeEntity(enemies.get(enemies.size() - 1));
+        }
+        while (!coins.isEmpty()) {
+            removeEntity(coins.get(coins.size() - 1));
+        }
 
-        // Initialize new entities
-        coins = new ArrayList<>();
+        // Spawn new entities
         initializeCoins();
-        enemies = new ArrayList<>();
         initializeEnemies();
-
-        entities.add(player);
-        entities.add(weapon);
-        entities.addAll(enemies);
-        entities.addAll(coins);
     }
     /**
      * Returns the current value of a coin.
@@ -130,6 +182,7 @@ public class GameLogic implements CollisionCallBack {
      */
     public void setWorld(World world) {
         this.world = world;
+        this.pools = new EntityPools(world);
     }
     /**
      * Sets the game's player to a new instance.
@@ -179,6 +232,25 @@ public class GameLogic implements CollisionCallBack {
         return showHitWarning;
     }
 
+    /**
+     * Gets the current wave number, starting at 0.
+     *
+     * @return the current wave
+     */
+    public int getWave() {
+        return wave;
+    }
+
+    /**
+     * Sets the wave number. The next spawned wave has
+     * NUM_STARTER_ENEMIES + 2 * wave enemies.
+     *
+     * @param wave the new wave number
+     */
+    public void setWave(int wave) {
+        this.wave = wave;
+    }
+
     // Ensure there is a way to access the specific weapon
     public Weapon getWeapon() {
         return weapon;
@@ -194,6 +266,22 @@ public class GameLogic implements CollisionCallBack {
         this.weapon = weapon;
         entities.add(weapon);
     }
+    /**
+     * Buys a new weapon if the player has enough coins, and swaps it for the current one.
+     * When the game logic runs on a {@link SimulationThread}, call this through {@link SimulationThread#runBetweenTicks},
+     * since the new weapon's body is created in the world.
+     * @param factory creates the new weapon in the world.
+     * @param cost the number of coins the weapon costs.
+     * @return true if the weapon was bought, false if the player has too few coins.
+     */
+    public boolean buyWeapon(Function<World, ? extends Weapon> factory, int cost) {
+        if (coinValue < cost) {
+            return false;
+        }
+        coinValue -= cost;
+        setWeapon(factory.apply(world));
+        return true;
+    }
     /**
      * Initializes all game entities including player, enemies, weapon, and coins.
      * Specific initialization methods for each entity type are called.
@@ -221,7 +309,8 @@ public class GameLogic implements CollisionCallBack {
                 new Vector2(PLAYER_SPAWN_X, PLAYER_SPAWN_Y),
                 PLAYER_WIDTH,
                 PLAYER_HEIGHT,
-                true);
+                true,
+                CATEGORY_PLAYER);
         this.player = new Player(playerBody, PLAYER_SPRITE, "player");
         setUserDataToParent(player);
         entities.add(this.player);
@@ -240,7 +329,7 @@ public class GameLogic implements CollisionCallBack {
      * Creates different types of enemies (light, medium, heavy) in proportions based on the game's difficulty wave.
      * Each enemy is initialized at a random position and added to the enemies list and game entities.
      */
-    private void initializeEnemies() {
+    void initializeEnemies() {
         int num_enemies = NUM_STARTER_ENEMIES + 2 * this.wave;
         int num_heavy = (int) (num_enemies * 0.2f);
         int num_medium = (int) (num_enemies * 0.4f);
@@ -250,51 +339,69 @@ public class GameLogic implements CollisionCallBack {
             for (int j = 0; j < enemyTypes[i]; j++)   {
                 Enemy enemy;
                 if (enemyTypes[i] == num_light) {
-                    enemy = new Light(world);
+                    enemy = pools.obtainLight();
                 } else if (enemyTypes[i] == num_medium) {
-                    enemy = new Medium(world);
+                    enemy = pools.obtainMedium();
                 } else if (enemyTypes[i] == num_heavy) {
-                    enemy = new Heavy(world);
+                    enemy = pools.obtainHeavy();
                 } else {
                     throw new IllegalStateException("Unexpected value: " + enemyTypes[i]);
                 }
                 Vector2 randomPosition = getRandomEntityPosition();
                 enemy.setPos(randomPosition.x, randomPosition.y);
+                enemy.savePreviousPosition();
                 enemies.add(enemy);
+                entities.add(enemy);
+                addToGrid(enemy);
             }
         }
-        entities.addAll(enemies);
     }
     /**
      * Initializes coins and distributes them randomly within the game world.
-     * Each coin is instantiated with a random value and sprite, then added to the game entities.
+     * Each coin is given a random value and position, then added to the game entities.
+     * Collected coins are reused before new ones are created.
      */
-    private void initializeCoins() {
+    void initializeCoins() {
         for (int i = 0; i < NUM_COINS; i++) {
-            Body coinBody = PhysicsFactory.createStaticEntityBody(world,
-                    getRandomEntityPosition(),
-                    COIN_WIDTH,
-                    COIN_HEIGHT);
-            coinBody.setUserData("coin");
-            Coin coin = switch ((int) (Math.random() * 5)) {
-                case 0 -> new Coin(coinBody, COIN_SPRITE, COIN_VALUE_ONE, "coin");
-                case 1 -> new Coin(coinBody, COIN_SPRITE, COIN_VALUE_TWO, "coin");
-                case 2 -> new Coin(coinBody, COIN_SPRITE, COIN_VALUE_THREE, "coin");
-                case 3 -> new Coin(coinBody, COIN_SPRITE, COIN_VALUE_FOUR, "coin");
-                case 4 -> new Coin(coinBody, COIN_SPRITE, COIN_VALUE_FIVE, "coin");
+            int value = switch ((int) (Math.random() * 5)) {
+                case 0 -> COIN_VALUE_ONE;
+                case 1 -> COIN_VALUE_TWO;
+                case 2 -> COIN_VALUE_THREE;
+                case 3 -> COIN_VALUE_FOUR;
+                case 4 -> COIN_VALUE_FIVE;
                 default -> throw new IllegalStateException("Unexpected value");
             };
+            Coin coin = pools.obtainCoin(value);
+            Vector2 position = getRandomEntityPosition();
+            coin.setPos(position.x / PPM, position.y / PPM);
+            coin.savePreviousPosition();
             coins.add(coin);
+            entities.add(coin);
+            addToGrid(coin);
         }
-        entities.addAll(coins);
-        
+    }
+    private void addToGrid(Enemy enemy) {
+        Vector2 position = enemy.getBody().getPosition();
+        enemyGrid.insert(enemy, position.x, position.y);
+        enemyQueryRadius = Math.max(enemyQueryRadius, Player.getCollisionDistance(enemy));
+    }
+
+    private void addToGrid(Coin coin) {
+        Vector2 position = coin.getBody().getPosition();
+        coinGrid.insert(coin, position.x, position.y);
+        coinQueryRadius = Math.max(coinQueryRadius, Player.getCollisionDistance(coin));
     }
     /**
      * Generates a random position for an entity within the game window.
      * Ensures that the generated position is a legal spawn position for entities.
+     * Picks a random cell of the spawn raster when a map is set, which needs no polygon tests,
+     * and otherwise tries random positions until a legal one is found.
      * @return a Vector2 representing a legal random position within the game window.
      */
-    private Vector2 getRandomEntityPosition() {
+    Vector2 getRandomEntityPosition() {
+        if (spawnRaster != null && spawnRaster.getLegalCellCount() > 0) {
+            return spawnRaster.randomPosition(new Vector2());
+        }
         Vector2 randomPosition;
         do {
             randomPosition = new Vector2(
@@ -310,8 +417,8 @@ public class GameLogic implements CollisionCallBack {
      */
     private void checkForSpikeCollisions() {
         Vector2 playerPosition = this.player.getPosition();
-        for (Polygon spikePolygon : spikePolygons) {
-            if (isPointInPolygon(spikePolygon.getTransformedVertices(), playerPosition)) {
+        for (int i = 0; i < spikePolygons.size(); i++) {
+            if (isPointInPolygon(spikePolygons.get(i).getTransformedVertices(), playerPosition)) {
                 applyHitToPlayer();
                 break;
             }
@@ -319,35 +426,45 @@ public class GameLogic implements CollisionCallBack {
     }
     /**
      * Removes a specified entity from the game.
-     * If the entity is an enemy, it is removed from the enemy list.
-     * The entity's body is destroyed in the physics world, and it is marked as destroyed.
+     * If the entity is an enemy or a coin, it is removed from its list and returned to its pool,
+     * which deactivates its body. Other entities have their body destroyed in the physics world.
+     * The entity is marked as destroyed. Removing an entity that is not in the game does nothing.
      * @param entity the entity to be removed from the game.
      */
     public void removeEntity(Entity entity) {
+        if (!entities.remove(entity)) {
+            return;
+        }
         if (entity instanceof Enemy) {
             enemies.remove(entity);
+            enemyGrid.remove((Enemy) entity);
+        } else if (entity instanceof Coin) {
+            coins.remove(entity);
+            coinGrid.remove((Coin) entity);
         }
-        world.destroyBody(entity.getBody());
-        entities.remove(entity);
         entity.setIsDestroyed(true);
+        if (!pools.free(entity)) {
+            world.destroyBody(entity.getBody());
+        }
     }
     /**
-     * Checks for collisions between the player and coins.
+     * Checks for collisions between the player and the coins near the player.
      * If a coin is collided with and not yet collected, it is marked as collected and its value is added to the player's score.
      */
     private void checkForCoinCollisions() {
-        List<Coin> coinsToRemove = new ArrayList<>();
-        for (Coin coin : coins) {
+        Vector2 playerPosition = player.getBody().getPosition();
+        coinGrid.query(playerPosition.x, playerPosition.y, coinQueryRadius, nearbyCoins);
+        for (int i = 0; i < nearbyCoins.size; i++) {
+            Coin coin = nearbyCoins.get(i);
             if (player.collidesWith(coin)) {
                 if (!coin.isCollected()) {
                     coin.setCollected();
                     coinValue += coin.getValue();
                     soundController.playCollectCoinSound();
-                    coinsToRemove.add(coin);
+                    removeEntity(coin);
                 }
             }
         }
-        coins.removeAll(coinsToRemove);
     }
 
     /**
@@ -356,20 +473,10 @@ public class GameLogic implements CollisionCallBack {
      * @param position the Vector2 position to check.
      * @return true if the position is legal (not out-of-bounds), false otherwise.
      */
-    private boolean isLegalSpawnPosition(Vector2 position) {
-        MapLayer layer = map.getLayers().get("out-of-bounds-layer");
-        if (layer == null) {
-            return true;
-            
-        }
-        for (MapObject object : layer.getObjects()) {
-            if (object instanceof PolygonMapObject) {
-                PolygonMapObject polygonObject = (PolygonMapObject) object;
-                Polygon polygon = polygonObject.getPolygon();
-
-                if (isPointInPolygon(polygon.getTransformedVertices(), position)) {
-                    return false;
-                }
+    boolean isLegalSpawnPosition(Vector2 position) {
+        for (float[] polygon : outOfBoundsPolygons) {
+            if (isPointInPolygon(polygon, position)) {
+                return false;
             }
         }
         return true;
@@ -382,52 +489,133 @@ public class GameLogic implements CollisionCallBack {
      * @param point the point to check.
      * @return true if the point is inside the polygon, false otherwise.
      */
-    private boolean isPointInPolygon(float[] polygonVertices, Vector2 point) {
-        int intersects = 0;
-        float x = point.x;
-        float y = point.y;
+    boolean isPointInPolygon(float[] polygonVertices, Vector2 point) {
+        return SpawnRaster.isPointInPolygon(polygonVertices, point.x, point.y);
+    }
 
-        for (int i = 0; i < polygonVertices.length; i += 2) {
-            float x1 = polygonVertices[i];
-            float y1 = polygonVertices[i + 1];
-            float x2 = polygonVertices[(i + 2) % polygonVertices.length];
-            float y2 = polygonVertices[(i + 3) % polygonVertices.length];
+    /**
+     * Updates the game logic with the time elapsed since the last frame.
+     */
+    public void update() {
+        update(clock.getDeltaTime());
+    }
 
-            if (((y1 <= y && y < y2) || (y2 <= y && y < y1)) &&
-                    (x < (x2 - x1) * (y - y1) / (y2 - y1) + x1)) {
-                intersects++;
-            }
+    /**
+     * Advances the game by the given frame time, in fixed ticks of {@link inf112.skeleton.app.utils.Constants#TIME_STEP}.
+     * Time that does not add up to a whole tick is kept for the next frame.
+     * At most {@link inf112.skeleton.app.utils.Constants#MAX_SUB_STEPS} ticks are run per frame, and the rest is dropped,
+     * so a slow frame does not make the next frame even slower.
+     *
+     * @param deltaTime the time elapsed since the last frame in seconds.
+     */
+    public void update(float deltaTime) {
+        accumulator += deltaTime;
+        int steps = 0;
+        while (accumulator >= TIME_STEP && steps < MAX_SUB_STEPS) {
+            tick();
+            accumulator -= TIME_STEP;
+            steps++;
         }
+        if (accumulator >= TIME_STEP) {
+            accumulator %= TIME_STEP;
+        }
+        alpha = accumulator / TIME_STEP;
+    }
 
-        return (intersects % 2) == 1;
+    /**
+     * Gets how far the game is into the next tick, used to interpolate entity positions when rendering.
+     *
+     * @return a value from 0 (at the previous tick) to 1 (at the next tick).
+     */
+    public float getAlpha() {
+        return alpha;
     }
 
     /**
-     * Updates the game logic.
+     * Runs one fixed simulation tick of {@link inf112.skeleton.app.utils.Constants#TIME_STEP} seconds.
      */
-    public void update() {
+    public void tick() {
+        long start = System.nanoTime();
+        time += TIME_STEP;
+        savePreviousPositions();
+        long section = profiler.start();
         updateWorld();
+        profiler.stop(Section.WORLD_STEP, section);
+        updateEnemyGrid();
+        section = profiler.start();
         destroyInactiveEntities();
+        profiler.stop(Section.CLEANUP, section);
         updatePlayerPosition();
+        section = profiler.start();
         checkPlayerHit();
         checkForSpikeCollisions();
         checkForCoinCollisions();
+        profiler.stop(Section.COLLISIONS, section);
         checkGameOver();
         updateHitWarning();
-        updateEnemyStunTimer();
-        updateEnemyPositions();
+        section = profiler.start();
+        updateEnemies();
+        profiler.stop(Section.ENEMY_AI, section);
         updateWeapon();
         updateWave();
         updateCoins();
+        tickNanos = System.nanoTime() - start;
+        if (profiler.isEnabled()) {
+            profiler.record(Section.TICK, tickNanos);
+        }
+    }
+
+    /**
+     * Gets the profiler timing the sections of each tick. The renderer adds the sections of each frame to it.
+     *
+     * @return the profiler.
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
     }
+
+    /**
+     * Gets how long the last tick took to run.
+     *
+     * @return the duration of the last tick in nanoseconds.
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Gets the number of enemies in the game.
+     *
+     * @return the number of enemies.
+     */
+    public int getEnemyCount() {
+        return enemies.size();
+    }
+
+    /**
+     * Gets the number of coins in the game.
+     *
+     * @return the number of coins.
+     */
+    public int getCoinCount() {
+        return coins.size();
+    }
+    private void savePreviousPositions() {
+        for (int i = 0; i < entities.size(); i++) {
+            entities.get(i).savePreviousPosition();
+        }
+    }
+
     /**
      * Retrieves a list of all active entities in the game.
      * An entity is considered active if its 'isActive' method returns true.
+     * Creates a new list on every call, see {@link #getActiveEntities(Array)} for drawing every frame.
      * @return a list of active entities.
      */
     public List<Entity> getActiveEntities() {
         List<Entity> activeEntities = new ArrayList<>();
-        for (Entity entity : entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
             if (entity.isActive()) {
                 activeEntities.add(entity);
             }
@@ -435,38 +623,44 @@ public class GameLogic implements CollisionCallBack {
         return activeEntities;
     }
     /**
-     * Removes all inactive entities from the game.
-     * It first gathers all active entities and then removes any that are not in this list and have not been destroyed.
-     * If the inactive entity is an enemy, it also plays the death sound for that enemy type.
+     * Fills an array with all active entities in the game, without creating a new list.
+     * @param result the array to fill. It is cleared first, so it can be reused between frames.
+     * @return the result array.
      */
-    private void destroyInactiveEntities() {
-        List<Entity> activeEntities = getActiveEntities();
-        List<Enemy> enemiesToRemove = new ArrayList<>();
-        for (Entity entity : entities) {
-            if (!activeEntities.contains(entity)) {
-                if (!entity.getIsDestroyed()) {
-                    if (entity instanceof Enemy) {
-                        enemiesToRemove.add((Enemy) entity);
-                        playEnemyDeathSound((Enemy) entity);
-                    }
-                }
+    public Array<Entity> getActiveEntities(Array<Entity> result) {
+        result.clear();
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            if (entity.isActive()) {
+                result.add(entity);
             }
         }
-        for (Enemy enemy : enemiesToRemove) {
-            removeEntity(enemy);
+        return result;
+    }
+    /**
+     * Removes all inactive enemies from the game in a single pass, and plays the death sound for each enemy type.
+     * Only enemies can become inactive, when their health runs out.
+     * The enemies are visited backwards, since removing one moves the last enemy into its place.
+     */
+    private void destroyInactiveEntities() {
+        for (int i = enemies.size() - 1; i >= 0; i--) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isActive() && !enemy.getIsDestroyed()) {
+                playEnemyDeathSound(enemies.getType(i));
+                removeEntity(enemy);
+            }
         }
     }
     /**
      * Plays a specific sound effect based on the type of enemy that was destroyed.
-     * @param enemy the enemy that was destroyed.
-     */
-    private void playEnemyDeathSound(Enemy enemy) {
-        if (enemy instanceof Light) {
-            soundController.playTechoShotSound();
-        } else if (enemy instanceof Medium) {
-            soundController.playDamageSound();
-        } else if (enemy instanceof Heavy) {
-            soundController.playPestilenceSound();
+     * @param type the type of the enemy that was destroyed, one of the ENEMY constants in {@link EntityType}.
+     */
+    private void playEnemyDeathSound(int type) {
+        switch (type) {
+            case EntityType.ENEMY_LIGHT -> soundController.playTechoShotSound();
+            case EntityType.ENEMY_MEDIUM -> soundController.playDamageSound();
+            case EntityType.ENEMY_HEAVY -> soundController.playPestilenceSound();
+            default -> { }
         }
     }
 
@@ -485,7 +679,7 @@ public class GameLogic implements CollisionCallBack {
     }
 
     private void updateWeaponCooldownTimer() {
-        weapon.setCooldownTimer((weapon.getCooldownTimer() - (float) 1 / 60));
+        weapon.setCooldownTimer(weapon.getCooldownTimer() - TIME_STEP);
         if (weapon.getCooldownTimer() > 0) {
             weapon.setOpacity(0.5f);
         } else {
@@ -493,16 +687,6 @@ public class GameLogic implements CollisionCallBack {
         }
     }
 
-    private void updateEnemyStunTimer() {
-        for (Enemy enemy : enemies) {
-            enemy.setStunTimer((enemy.getStunTimer() - (float) 1 / 60));
-            if (enemy.getStunTimer() > 0) {
-                enemy.setOpacity(0.5f);
-            } else {
-                enemy.setOpacity(1f);
-            }
-        }
-    }
     /**
      * Calculates the angle from a given point to the mouse cursor in degrees.
      * The angle is adjusted to be between 0 and 360 degrees.
@@ -511,7 +695,7 @@ public class GameLogic implements CollisionCallBack {
      * @return the angle in degrees from the point to the mouse cursor.
      */
     private float getAngleToMouse(float x1, float y1) {
-        float angle = (float) Math.toDegrees(Math.atan2(Gdx.input.getY() - y1, Gdx.input.getX() - x1));
+        float angle = (float) Math.toDegrees(Math.atan2(input.getMouseY() - y1, input.getMouseX() - x1));
         angle += 90;
         if (angle < 0) {
             angle += 360;
@@ -520,12 +704,10 @@ public class GameLogic implements CollisionCallBack {
         return angle;
     }
     /**
-     * Updates the physics world simulation.
-     * @param deltaTime the time elapsed since the last frame in seconds.
+     * Steps the physics world simulation by one fixed tick.
      */
     private void updateWorld() {
-        float deltaTime = Gdx.graphics.getDeltaTime();
-        world.step(deltaTime, 6, 2); // The numbers 6 and 2 are velocity and position iterations, you can adjust
+        world.step(TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
     }
 
     private void updatePlayerPosition() {
@@ -539,7 +721,7 @@ public class GameLogic implements CollisionCallBack {
     }
 
     private void updateWave() {
-        waveTimer += Gdx.graphics.getDeltaTime();
+        waveTimer += TIME_STEP;
         if (enemies.size() == 0 && waveTimer >= waveDelay) {
             player.setHealth(PLAYER_HEALTH);
             initializeEnemies();
@@ -548,8 +730,22 @@ public class GameLogic implements CollisionCallBack {
         }
     }
 
+    /**
+     * Copies the enemies' new positions from their bodies into the enemy store,
+     * and moves the enemies to the grid cells of those positions.
+     */
+    private void updateEnemyGrid() {
+        enemies.syncBodies();
+        for (int i = 0; i < enemies.size(); i++) {
+            enemyGrid.update(enemies.get(i), enemies.getX(i), enemies.getY(i));
+        }
+    }
+
     private void checkPlayerHit() {
-        for (Enemy enemy : enemies) {
+        Vector2 playerPosition = player.getBody().getPosition();
+        enemyGrid.query(playerPosition.x, playerPosition.y, enemyQueryRadius, nearbyEnemies);
+        for (int i = 0; i < nearbyEnemies.size; i++) {
+            Enemy enemy = nearbyEnemies.get(i);
             if (player.collidesWith(enemy)) {
                 applyHitToPlayer();
 
@@ -558,16 +754,16 @@ public class GameLogic implements CollisionCallBack {
     }
     /**
      * Applies damage to the player and plays a damage sound.
-     * Checks the cooldown to prevent repeated hits in a short time.
+     * Checks the cooldown to prevent repeated hits, and repeated damage sounds, in a short time.
      */
     private void applyHitToPlayer() {
-        if (System.currentTimeMillis() - lastHitTime > hitCooldown) {
+        if (time - lastHitTime > hitCooldown) {
             player.takeDamage(HIT_DAMAGE);
-            lastHitTime = System.currentTimeMillis();
+            lastHitTime = time;
             showHitWarning = true;
-            hitWarningStartTime = System.currentTimeMillis();
+            hitWarningStartTime = time;
+            soundController.playDamageSound();
         }
-        soundController.playDamageSound();
     }
 
     private void checkGameOver() {
@@ -580,17 +776,20 @@ public class GameLogic implements CollisionCallBack {
     }
 
     private void updateHitWarning() {
-        if (showHitWarning && System.currentTimeMillis() - hitWarningStartTime > hitWarningDuration) {
+        if (showHitWarning && time - hitWarningStartTime > hitWarningDuration) {
             showHitWarning = false;
         }
     }
 
-    private void updateEnemyPositions() {
-        for (Enemy enemy : enemies) {
-            if (enemy.getStunTimer() <= 0) {
-                enemy.moveTowards(player.getX(), player.getY());
-            } // If enemy has no stun remaining
+    /**
+     * Counts down the enemies' stun timers and moves every enemy that is not stunned towards the player,
+     * following the flow field around walls. See {@link EnemyAIStage}.
+     */
+    private void updateEnemies() {
+        if (flowField != null) {
+            flowField.update(player.getX(), player.getY());
         }
+        enemyAI.update(enemies, flowField, player.getX(), player.getY());
     }
     /**
      * Sets the current game state to a new value.
@@ -605,9 +804,58 @@ public class GameLogic implements CollisionCallBack {
      */
     public void setMap(TiledMap map) {
         this.map = map;
+        initializeSpawnArea();
+        initializeNavigation();
         initializeEntities();
     }
 
+    /**
+     * Reads the polygons of the map's 'out-of-bounds-layer' and rasterizes the cells outside them,
+     * so that spawning does not need to look at the map again.
+     */
+    private void initializeSpawnArea() {
+        List<float[]> polygons = new ArrayList<>();
+        MapLayer layer = map.getLayers().get("out-of-bounds-layer");
+        if (layer != null) {
+            for (MapObject object : layer.getObjects()) {
+                if (object instanceof PolygonMapObject) {
+                    polygons.add(((PolygonMapObject) object).getPolygon().getTransformedVertices().clone());
+                }
+            }
+        }
+        outOfBoundsPolygons = polygons.toArray(new float[0][]);
+        // A compiled map comes with the raster precomputed at build time
+        Object compiled = map.getProperties().get(CompiledMap.SPAWN_RASTER_PROPERTY);
+        if (compiled instanceof SpawnRaster && ((SpawnRaster) compiled).isBuiltFor(WINDOW_WIDTH, WINDOW_HEIGHT, SPAWN_CELL_SIZE)) {
+            spawnRaster = (SpawnRaster) compiled;
+        } else {
+            spawnRaster = SpawnRaster.build(outOfBoundsPolygons, WINDOW_WIDTH, WINDOW_HEIGHT, SPAWN_CELL_SIZE);
+        }
+    }
+
+    /**
+     * Builds the enemies' flow field over the map, blocking the cells crossed by the walls of the
+     * 'collision-layer' and the cells inside the out-of-bounds polygons.
+     * Must be called after {@link #initializeSpawnArea()}.
+     */
+    private void initializeNavigation() {
+        flowField = new FlowField((int) Math.ceil(WINDOW_WIDTH / NAV_CELL_SIZE),
+                (int) Math.ceil(WINDOW_HEIGHT / NAV_CELL_SIZE), NAV_CELL_SIZE);
+        MapLayer layer = map.getLayers().get("collision-layer");
+        if (layer != null) {
+            for (MapObject object : layer.getObjects()) {
+                if (object instanceof PolylineMapObject) {
+                    flowField.blockPolyline(((PolylineMapObject) object).getPolyline().getTransformedVertices(), false);
+                } else if (object instanceof PolygonMapObject) {
+                    flowField.blockPolygon(((PolygonMapObject) object).getPolygon().getTransformedVertices());
+                }
+            }
+        }
+        for (float[] polygon : outOfBoundsPolygons) {
+            flowField.blockPolygon(polygon);
+        }
+    }
+
     /**
      * Handles collision between the player and a spike object.
      * Applies damage to the player and plays a corresponding sound.
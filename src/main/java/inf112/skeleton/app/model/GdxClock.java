@@ -0,0 +1,14 @@
+package inf112.skeleton.app.model;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Clock reading the frame time of the running libGDX application.
+ */
+public class GdxClock implements Clock {
+
+    @Override
+    public float getDeltaTime() {
+        return Gdx.graphics.getDeltaTime();
+    }
+}
@@ -0,0 +1,314 @@
+package inf112.skeleton.app.model;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import inf112.skeleton.app.model.entities.Entity;
+import inf112.skeleton.app.model.entities.Player;
+
+/**
+ * Everything the renderer needs from one simulation tick: each active entity's id, texture,
+ * positions at the previous and current tick, angle, sprite offset, size and opacity,
+ * plus the player's position, health and coins for the camera and HUD.
+ * The renderer reads only the snapshot, never the game logic, so the simulation can run on another thread.
+ * A snapshot is filled by {@link #capture} and must not be changed once handed to the renderer.
+ */
+public class RenderSnapshot {
+    private final Array<Entity> activeEntities = new Array<>();
+    private final Vector2 spriteOffset = new Vector2();
+
+    private int count;
+    private int[] id = new int[0];
+    private String[] textureId = new String[0];
+    private float[] previousX = new float[0];
+    private float[] previousY = new float[0];
+    private float[] x = new float[0];
+    private float[] y = new float[0];
+    private float[] angle = new float[0];
+    private float[] spriteOffsetX = new float[0];
+    private float[] spriteOffsetY = new float[0];
+    private float[] spriteWidth = new float[0];
+    private float[] spriteHeight = new float[0];
+    private float[] opacity = new float[0];
+
+    private float playerPreviousX;
+    private float playerPreviousY;
+    private float playerX;
+    private float playerY;
+    private int playerHealth;
+    private int coinValue;
+    private boolean showHitWarning;
+    private long time;
+    private long tickNanos;
+    private int enemyCount;
+    private int coinCount;
+    private int bodyCount;
+
+    /**
+     * Copies the state of the game into the snapshot.
+     * Must be called on the thread running the simulation, between ticks.
+     *
+     * @param gameLogic The game logic to copy.
+     * @param time      The time of the capture in nanoseconds, see {@link System#nanoTime()}.
+     */
+    public void capture(GameLogic gameLogic, long time) {
+        gameLogic.getActiveEntities(activeEntities);
+        count = activeEntities.size;
+        ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            Entity entity = activeEntities.get(i);
+            id[i] = entity.getId();
+            textureId[i] = entity.getTextureId();
+            previousX[i] = entity.getInterpolatedX(0);
+            previousY[i] = entity.getInterpolatedY(0);
+            x[i] = entity.getX();
+            y[i] = entity.getY();
+            angle[i] = entity.getAngle();
+            entity.trigVector(entity.getOffset().y, angle[i], spriteOffset);
+            spriteOffsetX[i] = spriteOffset.x;
+            spriteOffsetY[i] = spriteOffset.y;
+            spriteWidth[i] = entity.getSpriteWidth();
+            spriteHeight[i] = entity.getSpriteHeight();
+            opacity[i] = entity.getOpacity();
+        }
+        activeEntities.clear();
+
+        Player player = gameLogic.getPlayer();
+        playerPreviousX = player.getInterpolatedX(0);
+        playerPreviousY = player.getInterpolatedY(0);
+        playerX = player.getX();
+        playerY = player.getY();
+        playerHealth = player.getHealth();
+        coinValue = gameLogic.getCoinValue();
+        showHitWarning = gameLogic.isShowHitWarning();
+        this.time = time;
+        tickNanos = gameLogic.getTickNanos();
+        enemyCount = gameLogic.getEnemyCount();
+        coinCount = gameLogic.getCoinCount();
+        bodyCount = gameLogic.getWorld().getBodyCount();
+    }
+
+    private void ensureCapacity(int size) {
+        if (id.length >= size) {
+            return;
+        }
+        int capacity = Math.max(size, id.length * 2);
+        id = Arrays.copyOf(id, capacity);
+        textureId = Arrays.copyOf(textureId, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        angle = Arrays.copyOf(angle, capacity);
+        spriteOffsetX = Arrays.copyOf(spriteOffsetX, capacity);
+        spriteOffsetY = Arrays.copyOf(spriteOffsetY, capacity);
+        spriteWidth = Arrays.copyOf(spriteWidth, capacity);
+        spriteHeight = Arrays.copyOf(spriteHeight, capacity);
+        opacity = Arrays.copyOf(opacity, capacity);
+    }
+
+    /**
+     * Gets the number of entities in the snapshot.
+     *
+     * @return The number of entities.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the id of an entity, see {@link Entity#getId()}.
+     *
+     * @param index The index of the entity in the snapshot.
+     * @return The id of the entity.
+     */
+    public int getId(int index) {
+        return id[index];
+    }
+
+    /**
+     * Gets the texture identifier of an entity.
+     *
+     * @param index The index of the entity in the snapshot.
+     * @return The texture identifier of the entity.
+     */
+    public String getTextureId(int index) {
+        return textureId[index];
+    }
+
+    /**
+     * Gets the x-coordinate of an entity between the previous and current tick.
+     *
+     * @param index The index of the entity in the snapshot.
+     * @param alpha How far into the next tick the renderer is, from 0 (previous tick) to 1 (current tick).
+     * @return The interpolated x-coordinate.
+     */
+    public float getX(int index, float alpha) {
+        return previousX[index] + (x[index] - previousX[index]) * alpha;
+    }
+
+    /**
+     * Gets the y-coordinate of an entity between the previous and current tick.
+     *
+     * @param index The index of the entity in the snapshot.
+     * @param alpha How far into the next tick the renderer is, from 0 (previous tick) to 1 (current tick).
+     * @return The interpolated y-coordinate.
+     */
+    public float getY(int index, float alpha) {
+        return previousY[index] + (y[index] - previousY[index]) * alpha;
+    }
+
+    /**
+     * Gets the angle of an entity in degrees.
+     *
+     * @param index The index of the entity in the snapshot.
+     * @return The angle of the entity.
+     */
+    public float getAngle(int index) {
+        return angle[index];
+    }
+
+    /**
+     * Gets how far along x the sprite of an entity is drawn from its body, turned by the entity's angle.
+     *
+     * @param index The index of the entity in the snapshot.
+     * @return The x-component of the sprite's offset.
+     */
+    public float getSpriteOffsetX(int index) {
+        return spriteOffsetX[index];
+    }
+
+    /**
+     * Gets how far along y the sprite of an entity is drawn from its body, turned by the entity's angle.
+     *
+     * @param index The index of the entity in the snapshot.
+     * @return The y-component of the sprite's offset.
+     */
+    public float getSpriteOffsetY(int index) {
+        return spriteOffsetY[index];
+    }
+
+    /**
+     * Gets the width of an entity's sprite.
+     *
+     * @param index The index of the entity in the snapshot.
+     * @return The width of the sprite.
+     */
+    public float getSpriteWidth(int index) {
+        return spriteWidth[index];
+    }
+
+    /**
+     * Gets the height of an entity's sprite.
+     *
+     * @param index The index of the entity in the snapshot.
+     * @return The height of the sprite.
+     */
+    public float getSpriteHeight(int index) {
+        return spriteHeight[index];
+    }
+
+    /**
+     * Gets the opacity of an entity.
+     *
+     * @param index The index of the entity in the snapshot.
+     * @return The opacity of the entity.
+     */
+    public float getOpacity(int index) {
+        return opacity[index];
+    }
+
+    /**
+     * Gets the player's x-coordinate between the previous and current tick.
+     *
+     * @param alpha How far into the next tick the renderer is, from 0 (previous tick) to 1 (current tick).
+     * @return The interpolated x-coordinate of the player.
+     */
+    public float getPlayerX(float alpha) {
+        return playerPreviousX + (playerX - playerPreviousX) * alpha;
+    }
+
+    /**
+     * Gets the player's y-coordinate between the previous and current tick.
+     *
+     * @param alpha How far into the next tick the renderer is, from 0 (previous tick) to 1 (current tick).
+     * @return The interpolated y-coordinate of the player.
+     */
+    public float getPlayerY(float alpha) {
+        return playerPreviousY + (playerY - playerPreviousY) * alpha;
+    }
+
+    /**
+     * Gets the player's health.
+     *
+     * @return The player's health.
+     */
+    public int getPlayerHealth() {
+        return playerHealth;
+    }
+
+    /**
+     * Gets the player's coins.
+     *
+     * @return The total value of the coins collected.
+     */
+    public int getCoinValue() {
+        return coinValue;
+    }
+
+    /**
+     * Gets whether the hit warning is shown.
+     *
+     * @return True if the player was hit recently, otherwise false.
+     */
+    public boolean isShowHitWarning() {
+        return showHitWarning;
+    }
+
+    /**
+     * Gets when the snapshot was captured.
+     *
+     * @return The time of the capture in nanoseconds, see {@link System#nanoTime()}.
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Gets how long the last tick before the capture took.
+     *
+     * @return The duration of the tick in nanoseconds.
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Gets the number of enemies, including those not drawn.
+     *
+     * @return The number of enemies.
+     */
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+
+    /**
+     * Gets the number of coins, including those not drawn.
+     *
+     * @return The number of coins.
+     */
+    public int getCoinCount() {
+        return coinCount;
+    }
+
+    /**
+     * Gets the number of bodies in the physics world, including the static bodies of the map.
+     *
+     * @return The number of bodies.
+     */
+    public int getBodyCount() {
+        return bodyCount;
+    }
+}
@@ -0,0 +1,189 @@
+package inf112.skeleton.app.model;
+
+import static inf112.skeleton.app.utils.Constants.*;
+
+import java.util.concurrent.locks.LockSupport;
+
+import inf112.skeleton.app.utils.TripleBuffer;
+
+/**
+ * Runs the game logic on its own thread at {@link inf112.skeleton.app.utils.Constants#TICK_RATE} ticks per second,
+ * and publishes a {@link RenderSnapshot} after every tick through a {@link TripleBuffer}.
+ * Rendering and simulating then no longer share a frame budget: a slow frame does not slow the simulation,
+ * and a slow tick does not stall the renderer.
+ *
+ * The thread starts paused. While it is paused, other threads may change the game logic,
+ * e.g. from menu screens. {@link #pause()} waits for the tick in progress to finish.
+ */
+public class SimulationThread implements Runnable {
+    private static final long TICK_NANOS = (long) (TIME_STEP * 1_000_000_000L);
+
+    private final GameLogic gameLogic;
+    private final TripleBuffer<RenderSnapshot> snapshots = new TripleBuffer<>(RenderSnapshot::new);
+    // Held while ticking, so pausing waits for the tick in progress
+    private final Object lock = new Object();
+    private final Thread thread;
+    private volatile boolean running = false;
+    private volatile boolean paused = true;
+    private volatile long nextTick;
+    private volatile long ticks = 0;
+
+    /**
+     * Constructs a paused simulation thread for the given game logic.
+     *
+     * @param gameLogic The game logic to run.
+     */
+    public SimulationThread(GameLogic gameLogic) {
+        this.gameLogic = gameLogic;
+        this.thread = new Thread(this, "game-logic");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts the thread, still paused. Does nothing if it has already started.
+     */
+    public synchronized void start() {
+        if (!running && !thread.isAlive()) {
+            running = true;
+            thread.start();
+        }
+    }
+
+    /**
+     * Resumes ticking, starting the thread if needed.
+     * Publishes a snapshot first, so the renderer has a current one at once.
+     * The simulation thread is waiting for the lock meanwhile, so this thread may write the snapshot.
+     */
+    public void resume() {
+        start();
+        synchronized (lock) {
+            publishSnapshot();
+            paused = false;
+            nextTick = System.nanoTime();
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Pauses ticking, and waits for the tick in progress to finish.
+     * The game logic may be changed from the calling thread once this returns.
+     */
+    public void pause() {
+        synchronized (lock) {
+            paused = true;
+        }
+    }
+
+    /**
+     * Runs an action that changes the game logic between two ticks, and publishes a snapshot of the result.
+     * The simulation thread waits for the action, whether it is paused or not,
+     * so the action may e.g. create bodies in the world.
+     *
+     * @param action The action to run on the calling thread.
+     */
+    public void runBetweenTicks(Runnable action) {
+        synchronized (lock) {
+            action.run();
+            publishSnapshot();
+        }
+    }
+
+    /**
+     * Stops the thread and waits for it to end.
+     */
+    public void stop() {
+        running = false;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Checks if the simulation is paused.
+     *
+     * @return True if paused, otherwise false.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Gets the number of ticks run since the thread started.
+     *
+     * @return The number of ticks.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the latest snapshot. Only call from the render thread.
+     * The snapshot stays the same until the next call.
+     *
+     * @return The snapshot published after the latest tick.
+     */
+    public RenderSnapshot getSnapshot() {
+        return snapshots.acquire();
+    }
+
+    /**
+     * Gets how far the simulation is into the next tick, to interpolate a snapshot with.
+     *
+     * @param snapshot The snapshot being drawn.
+     * @return A value from 0 (at the snapshot's tick) to 1 (a whole tick later).
+     */
+    public float getAlpha(RenderSnapshot snapshot) {
+        if (isPaused()) {
+            return 1;
+        }
+        float alpha = (float) (System.nanoTime() - snapshot.getTime()) / TICK_NANOS;
+        return Math.max(0, Math.min(1, alpha));
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            synchronized (lock) {
+                while (paused && running) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        running = false;
+                    }
+                }
+                if (!running) {
+                    break;
+                }
+                gameLogic.tick();
+                ticks++;
+                publishSnapshot();
+                nextTick += TICK_NANOS;
+            }
+            waitForNextTick();
+        }
+    }
+
+    private void publishSnapshot() {
+        snapshots.getBack().capture(gameLogic, System.nanoTime());
+        snapshots.publish();
+    }
+
+    /**
+     * Sleeps until the next tick is due. If the simulation has fallen more than
+     * {@link inf112.skeleton.app.utils.Constants#MAX_SUB_STEPS} ticks behind, the missed ticks are dropped.
+     */
+    private void waitForNextTick() {
+        long now = System.nanoTime();
+        if (now - nextTick > MAX_SUB_STEPS * TICK_NANOS) {
+            nextTick = now;
+        }
+        while (running && (now = System.nanoTime()) < nextTick) {
+            LockSupport.parkNanos(nextTick - now);
+        }
+    }
+}
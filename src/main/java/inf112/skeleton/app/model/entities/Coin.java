@@ -4,13 +4,15 @@ import static inf112.skeleton.app.utils.Constants.COIN_HEIGHT;
 import static inf112.skeleton.app.utils.Constants.COIN_WIDTH;
 
 import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * Represents a coin in the game.
  * Extends the {@link Entity} class.
  * This class provides attributes and behavior for a collectible coin.
+ * Coins are pooled, see {@link #reset()}.
  */
-public class Coin extends Entity {
+public class Coin extends Entity implements Pool.Poolable {
     private int value;
     private boolean collected;
     
@@ -38,6 +40,24 @@ public class Coin extends Entity {
         return value;
     }
     
+    /**
+     * Sets the value of the coin.
+     *
+     * @param value The monetary value of the coin.
+     */
+    public void setValue(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Makes the coin collectable again, so it can be spawned again.
+     * Called when the coin is returned to its pool.
+     */
+    @Override
+    public void reset() {
+        collected = false;
+    }
+
     /**
      * Marks the coin as collected.
      */
@@ -1,5 +1,7 @@
 package inf112.skeleton.app.model.entities;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 
@@ -9,11 +11,17 @@ import com.badlogic.gdx.physics.box2d.Body;
  * including attributes for position, size, texture, and behavior.
  */
 public abstract class Entity {
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    protected final int id = NEXT_ID.getAndIncrement();
+    protected final int typeId = EntityType.ofClass(getClass());
 
     protected Body body;
     protected String textureIdentifer;
     protected String tag;
     protected Vector2 offset = new Vector2();
+    protected Vector2 previousPosition = new Vector2();
+    protected boolean hasPreviousPosition = false;
     protected boolean isActive = true;
     protected boolean isDestroyed = false;
     protected float opacity = 1f;
@@ -38,6 +46,24 @@ public abstract class Entity {
         this.body.getFixtureList().get(0).setUserData(this);
     }
 
+    /**
+     * Gets the id of the entity, unique among all entities created while the game runs.
+     *
+     * @return The id of the entity.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the type id of the entity, one of the constants in {@link EntityType}.
+     *
+     * @return The type id of the entity.
+     */
+    public int getTypeId() {
+        return typeId;
+    }
+
     /**
      * Gets whether the entity has been destroyed.
      *
@@ -101,6 +127,41 @@ public abstract class Entity {
         return body.getPosition().y;
     }
 
+    /**
+     * Stores the current position as the position at the start of a simulation tick.
+     * Used to interpolate between the last two ticks when rendering.
+     */
+    public void savePreviousPosition() {
+        previousPosition.set(body.getPosition());
+        hasPreviousPosition = true;
+    }
+
+    /**
+     * Gets the x-coordinate between the previous and current tick.
+     *
+     * @param alpha How far into the next tick the renderer is, from 0 (previous tick) to 1 (current tick).
+     * @return The interpolated x-coordinate.
+     */
+    public float getInterpolatedX(float alpha) {
+        if (!hasPreviousPosition) {
+            return getX();
+        }
+        return previousPosition.x + (getX() - previousPosition.x) * alpha;
+    }
+
+    /**
+     * Gets the y-coordinate between the previous and current tick.
+     *
+     * @param alpha How far into the next tick the renderer is, from 0 (previous tick) to 1 (current tick).
+     * @return The interpolated y-coordinate.
+     */
+    public float getInterpolatedY(float alpha) {
+        if (!hasPreviousPosition) {
+            return getY();
+        }
+        return previousPosition.y + (getY() - previousPosition.y) * alpha;
+    }
+
     /**
      * Sets the position of the entity.
      *
@@ -179,6 +240,19 @@ public abstract class Entity {
      * @return The computed vector as a {@link Vector2}.
      */
     public Vector2 trigVector(float hyp, float angle) {
+        return trigVector(hyp, angle, new Vector2());
+    }
+
+    /**
+     * Computes the x and y coordinates from the hypotenuse and angle using trigonometry,
+     * storing them in the given vector instead of creating a new one.
+     *
+     * @param hyp   The length of the hypotenuse.
+     * @param angle The angle in degrees.
+     * @param out   The vector to store the result in.
+     * @return The out vector.
+     */
+    public Vector2 trigVector(float hyp, float angle, Vector2 out) {
         float x = (float) Math.sin(Math.toRadians(angle)) * hyp;
         float y = (float) Math.cos(Math.toRadians(angle)) * hyp;
         if ((angle <= 90) || (angle >= 270)) {
@@ -187,7 +261,7 @@ public abstract class Entity {
         if (angle >= 180) {
             y *= -1;
         }
-        return new Vector2(x, y);
+        return out.set(x, y);
     }
 
     /**
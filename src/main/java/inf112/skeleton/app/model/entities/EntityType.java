@@ -0,0 +1,104 @@
+package inf112.skeleton.app.model.entities;
+
+import inf112.skeleton.app.model.entities.enemies.Enemy;
+import inf112.skeleton.app.model.entities.enemies.Heavy;
+import inf112.skeleton.app.model.entities.enemies.Light;
+import inf112.skeleton.app.model.entities.enemies.Medium;
+import inf112.skeleton.app.model.entities.weapons.Weapon;
+
+/**
+ * The compact integer type ids of the entities, used to look up contact handlers in a table
+ * instead of checking the user data of a fixture against every entity class.
+ *
+ * The id belongs to the class of an entity and is worked out once per class, the first time an object of it is seen.
+ * Every entity stores the id of its class when it is created, so looking up the id of an entity is a field read.
+ * Subclasses get the id of the nearest listed type.
+ *
+ * Enemies also have an enemy type, one of the ENEMY constants, worked out once per class in the same way.
+ */
+public final class EntityType {
+    /** Anything that is not a listed entity, including null. */
+    public static final int NONE = 0;
+    public static final int PLAYER = 1;
+    public static final int ENEMY = 2;
+    public static final int WEAPON = 3;
+    public static final int SPIKE = 4;
+    public static final int COIN = 5;
+    /** The number of type ids, the size of tables indexed by type. */
+    public static final int COUNT = 6;
+
+    /** An enemy of an unlisted class, or not an enemy. */
+    public static final int ENEMY_OTHER = 0;
+    public static final int ENEMY_LIGHT = 1;
+    public static final int ENEMY_MEDIUM = 2;
+    public static final int ENEMY_HEAVY = 3;
+
+    private static final ClassValue<Integer> BY_CLASS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            if (Player.class.isAssignableFrom(type)) {
+                return PLAYER;
+            } else if (Enemy.class.isAssignableFrom(type)) {
+                return ENEMY;
+            } else if (Weapon.class.isAssignableFrom(type)) {
+                return WEAPON;
+            } else if (Spike.class.isAssignableFrom(type)) {
+                return SPIKE;
+            } else if (Coin.class.isAssignableFrom(type)) {
+                return COIN;
+            }
+            return NONE;
+        }
+    };
+
+    private static final ClassValue<Integer> ENEMY_BY_CLASS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            if (Light.class.isAssignableFrom(type)) {
+                return ENEMY_LIGHT;
+            } else if (Medium.class.isAssignableFrom(type)) {
+                return ENEMY_MEDIUM;
+            } else if (Heavy.class.isAssignableFrom(type)) {
+                return ENEMY_HEAVY;
+            }
+            return ENEMY_OTHER;
+        }
+    };
+
+    private EntityType() {
+    }
+
+    /**
+     * Gets the type id of an object, e.g. the user data of a fixture.
+     *
+     * @param object The object, or null.
+     * @return The type id, or {@link #NONE} if the object is null or not a listed entity.
+     */
+    public static int of(Object object) {
+        if (object instanceof Entity entity && entity.typeId != NONE) {
+            return entity.typeId;
+        }
+        // Objects made without running the Entity constructor, e.g. mocks, fall back to the class
+        return object == null ? NONE : ofClass(object.getClass());
+    }
+
+    /**
+     * Gets the type id of a class.
+     *
+     * @param type The class.
+     * @return The type id, or {@link #NONE} if the class is not a listed entity.
+     */
+    public static int ofClass(Class<?> type) {
+        return BY_CLASS.get(type);
+    }
+
+    /**
+     * Gets the enemy type of an enemy.
+     *
+     * @param enemy The enemy.
+     * @return The enemy type, or {@link #ENEMY_OTHER} if the enemy is not of a listed class.
+     */
+    public static int enemyTypeOf(Enemy enemy) {
+        return ENEMY_BY_CLASS.get(enemy.getClass());
+    }
+}
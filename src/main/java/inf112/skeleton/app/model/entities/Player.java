@@ -6,15 +6,24 @@ import inf112.skeleton.app.controller.myInput.MyInputAdapter;
 import inf112.skeleton.app.model.Direction;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import static inf112.skeleton.app.utils.Constants.*;
 
 /**
  * Represents a player in the game.
  * Extends the {@link Entity} class.
  * This class provides attributes and behavior for a player character.
+ *
+ * The movement keys are set by the input handler on the render thread and read when the player moves,
+ * which may be on the simulation thread. They are kept as bits of an {@link AtomicInteger},
+ * one per {@link Direction}, so a key press is seen by the next tick.
  */
 public class Player extends Entity {
-    private Map<Direction, Boolean> moveDirections;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Bit 1 << direction.ordinal() is set while the player moves in that direction
+    private final AtomicInteger moveDirections = new AtomicInteger();
+    private final Vector2 direction = new Vector2();
     private int health;
     private boolean inContactWithSpike = false;
 
@@ -28,10 +37,6 @@ public class Player extends Entity {
     public Player(Body body, String textureId, String tag) {
         super(body, textureId, tag, PLAYER_HEIGHT, PLAYER_WIDTH);
         health = PLAYER_HEALTH;
-        moveDirections = new EnumMap<>(Direction.class);
-        for (Direction dir : Direction.values()) {
-            moveDirections.put(dir, false);
-        }
     }
 
     @Override
@@ -87,10 +92,15 @@ public class Player extends Entity {
     /**
      * Gets the movement directions of the player.
      *
-     * @return A map representing the movement directions of the player.
+     * @return A new map from every direction to whether the player moves in it.
      */
     public Map<Direction, Boolean> getMovementDirections() {
-        return moveDirections;
+        int directions = moveDirections.get();
+        Map<Direction, Boolean> map = new EnumMap<>(Direction.class);
+        for (Direction dir : DIRECTIONS) {
+            map.put(dir, (directions & bit(dir)) != 0);
+        }
+        return map;
     }
 
     /**
@@ -100,19 +110,29 @@ public class Player extends Entity {
      * @param isActive  True if the player should move in the specified direction, otherwise false.
      */
     public void setMovement(Direction direction, boolean isActive) {
-        moveDirections.put(direction, isActive);
+        int bit = bit(direction);
+        int current;
+        do {
+            current = moveDirections.get();
+        } while (!moveDirections.compareAndSet(current, isActive ? current | bit : current & ~bit));
+    }
+
+    private static int bit(Direction direction) {
+        return 1 << direction.ordinal();
     }
 
     /**
      * Moves the player according to the active movement directions.
      * The player's speed is determined by the constant {@link Constants#PLAYER_SPEED}.
+     * Reuses one direction vector, so moving does not allocate.
      */
     public void move() {
         // Calculate movement direction
-        Vector2 direction = new Vector2();
-        for (Map.Entry<Direction, Boolean> entry : moveDirections.entrySet()) {
-            if (entry.getValue()) {
-                switch (entry.getKey()) {
+        direction.set(0, 0);
+        int directions = moveDirections.get();
+        for (Direction dir : DIRECTIONS) {
+            if ((directions & bit(dir)) != 0) {
+                switch (dir) {
                     case UP:
                         direction.y += 1;
                         break;
@@ -153,6 +173,17 @@ public class Player extends Entity {
      * @return True if the player collides with the specified entity, otherwise false.
      */
     public boolean collidesWith(Entity entity)  {
-        return body.getPosition().dst(entity.getBody().getPosition()) < Math.max(entity.getSpriteWidth(), entity.getSpriteHeight()) + PLAYER_COLLISION_RADIUS;
+        float distance = getCollisionDistance(entity);
+        return body.getPosition().dst2(entity.getBody().getPosition()) < distance * distance;
+    }
+
+    /**
+     * Gets how close the specified entity must be to collide with the player.
+     *
+     * @param entity The entity to check collision with.
+     * @return The largest distance between the centres at which the player and the entity collide.
+     */
+    public static float getCollisionDistance(Entity entity) {
+        return Math.max(entity.getSpriteWidth(), entity.getSpriteHeight()) + PLAYER_COLLISION_RADIUS;
     }
 }
@@ -2,9 +2,10 @@ package inf112.skeleton.app.model.entities.enemies;
 
 import static inf112.skeleton.app.utils.Constants.*;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Pool;
+import inf112.skeleton.app.model.EnemyStore;
 import inf112.skeleton.app.model.entities.Entity;
 
 /**
@@ -12,12 +13,21 @@ import inf112.skeleton.app.model.entities.Entity;
  * Extends the {@link Entity} class.
  * This class provides methods for enemy behavior, including movement, 
  * damage handling, and knockback.
+ * Enemies are pooled, see {@link #reset()}.
+ * While an enemy is in an {@link EnemyStore}, its health and stun timer are kept in the store.
  */
-public class Enemy extends Entity {
+public class Enemy extends Entity implements Pool.Poolable {
 
     private float speed;
     private int hp;
+    private final int maxHp;
+    private final float linearDamping;
     private float stunTimer = 0;
+    // Reused for impulses and knockback, so steering does not allocate
+    private final Vector2 scratch = new Vector2();
+    // The store holding the enemy's state, or null when the state is kept in the fields above
+    private EnemyStore store;
+    private int index = -1;
 
     /**
      * Constructs a new Enemy with the specified parameters.
@@ -33,6 +43,23 @@ public class Enemy extends Entity {
         super(body, textureId, "enemy", spriteHeight, spriteWidth);
         this.speed = speed;
         this.hp = hp;
+        this.maxHp = hp;
+        this.linearDamping = body.getLinearDamping();
+    }
+
+    /**
+     * Resets the enemy to full health and no stun or knockback, so it can be spawned again.
+     * Called when the enemy is returned to its pool.
+     */
+    @Override
+    public void reset() {
+        setHP(maxHp);
+        setStunTimer(0);
+        isActive = true;
+        opacity = 1f;
+        body.setLinearVelocity(0, 0);
+        body.setAngularVelocity(0);
+        body.setLinearDamping(linearDamping);
     }
 
     /**
@@ -42,12 +69,21 @@ public class Enemy extends Entity {
      * @param targetY The y-coordinate of the target location.
      */
     public void moveTowards(float targetX, float targetY) {
-        float diffX = targetX - getX();
-        float diffY = targetY - getY();
-        float angle = MathUtils.atan2(diffY, diffX);
+        Vector2 position = body.getPosition();
+        scratch.set(targetX - position.x, targetY - position.y).nor();
+        moveInDirection(scratch.x, scratch.y);
+    }
+
+    /**
+     * Moves the enemy in a specified direction, e.g. one looked up in a flow field.
+     *
+     * @param directionX The x-component of the unit direction.
+     * @param directionY The y-component of the unit direction.
+     */
+    public void moveInDirection(float directionX, float directionY) {
         float speed = this.speed / 100;
-        Vector2 velocity = new Vector2(MathUtils.cos(angle) * speed, MathUtils.sin(angle) * speed);
-        body.applyLinearImpulse(velocity, body.getWorldCenter(), true);
+        scratch.set(directionX * speed, directionY * speed);
+        body.applyLinearImpulse(scratch, body.getWorldCenter(), true);
     }
 
     /**
@@ -71,15 +107,15 @@ public class Enemy extends Entity {
      * @param angle     The angle at which the knockback should be applied.
      */
     private void applyKnockback(float knockback, float angle) {
-        Vector2 trigCoords = trigVector(knockback, angle);
+        Vector2 trigCoords = trigVector(knockback, angle, scratch);
         body.setLinearVelocity(trigCoords.x, trigCoords.y);
         body.setLinearDamping(ENEMY_KNOCKBACK_DAMPING);
-        body.applyForceToCenter(new Vector2().scl(PLAYER_SPEED), true);
+        body.applyForceToCenter(0, 0, true);
     }
 
     private void takeDmg(int dmg) {
-        hp -= dmg;
-        if (hp <= 0) {
+        setHP(getHP() - dmg);
+        if (getHP() <= 0) {
             isActive = false;
         }
     }
@@ -90,7 +126,7 @@ public class Enemy extends Entity {
      * @return The remaining stun time for the enemy.
      */
     public float getStunTimer() {
-        return stunTimer;
+        return store != null ? store.getStunTimer(index) : stunTimer;
     }
 
     /**
@@ -99,7 +135,11 @@ public class Enemy extends Entity {
      * @param stunTimer The remaining stun time for the enemy.
      */
     public void setStunTimer(float stunTimer) {
-        this.stunTimer = stunTimer;
+        if (store != null) {
+            store.setStunTimer(index, stunTimer);
+        } else {
+            this.stunTimer = stunTimer;
+        }
     }
 
     /**
@@ -117,7 +157,16 @@ public class Enemy extends Entity {
      * @return The health points of the enemy.
      */
     public int getHP() {
-        return hp;
+        return store != null ? store.getHP(index) : hp;
+    }
+
+    /**
+     * Gets the health points the enemy starts with.
+     *
+     * @return The starting health points of the enemy.
+     */
+    public int getMaxHP() {
+        return maxHp;
     }
 
     /**
@@ -126,7 +175,37 @@ public class Enemy extends Entity {
      * @param hp The health points of the enemy.
      */
     public void setHP(int hp) {
-        this.hp = hp;
+        if (store != null) {
+            store.setHP(index, hp);
+        } else {
+            this.hp = hp;
+        }
+    }
+
+    /**
+     * Moves the enemy's state to a store, which must already hold it at the given index.
+     * Called by {@link EnemyStore} when the enemy is added or moved.
+     *
+     * @param store The store holding the enemy's state.
+     * @param index The index of the enemy in the store.
+     */
+    public void attach(EnemyStore store, int index) {
+        this.store = store;
+        this.index = index;
+    }
+
+    /**
+     * Takes the enemy's state back from its store. Does nothing if the enemy is not in a store.
+     * Called by {@link EnemyStore} when the enemy is removed.
+     */
+    public void detach() {
+        if (store == null) {
+            return;
+        }
+        hp = store.getHP(index);
+        stunTimer = store.getStunTimer(index);
+        store = null;
+        index = -1;
     }
 }
 
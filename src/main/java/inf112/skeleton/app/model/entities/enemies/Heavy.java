@@ -22,7 +22,8 @@ public class Heavy extends Enemy {
                 new Vector2(),
                 HEAVY_ENEMY_WIDTH,
                 HEAVY_ENEMY_HEIGHT,
-                true),
+                true,
+                CATEGORY_ENEMY),
                 HEAVY_ENEMY_SPRITE,
                 HEAVY_ENEMY_HEIGHT,
                 HEAVY_ENEMY_WIDTH,
@@ -22,7 +22,8 @@ public class Light extends Enemy{
                 new Vector2(),
                 LIGHT_ENEMY_WIDTH,
                 LIGHT_ENEMY_HEIGHT,
-                true),
+                true,
+                CATEGORY_ENEMY),
                 LIGHT_ENEMY_SPRITE,
                 LIGHT_ENEMY_HEIGHT,
                 LIGHT_ENEMY_WIDTH,
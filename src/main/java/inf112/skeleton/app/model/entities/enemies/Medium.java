@@ -22,7 +22,8 @@ public class Medium extends Enemy{
                 new Vector2(),
                 MEDIUM_ENEMY_WIDTH,
                 MEDIUM_ENEMY_HEIGHT,
-                true),
+                true,
+                CATEGORY_ENEMY),
                 MEDIUM_ENEMY_SPRITE,
                 MEDIUM_ENEMY_HEIGHT,
                 MEDIUM_ENEMY_WIDTH,
@@ -23,7 +23,8 @@ public class DiamondSword extends Weapon {
                 new Vector2(DIAMOND_X_OFFSET, DIAMOND_Y_OFFSET),
                 DIAMOND_WIDTH,
                 DIAMOND_HEIGHT,
-                false),
+                false,
+                CATEGORY_WEAPON),
                 DIAMOND_SWORD_IMG,
                 DIAMOND_HEIGHT,
                 DIAMOND_WIDTH,
@@ -23,7 +23,8 @@ public class MetalSword extends Weapon {
                 new Vector2(METAL_X_OFFSET, METAL_Y_OFFSET),
                 METAL_WIDTH,
                 METAL_HEIGHT,
-                false),
+                false,
+                CATEGORY_WEAPON),
                 METAL_SWORD_IMG,
                 METAL_HEIGHT,
                 METAL_WIDTH,
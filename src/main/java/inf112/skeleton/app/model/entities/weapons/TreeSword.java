@@ -23,7 +23,8 @@ public class TreeSword extends Weapon {
                 new Vector2(TREE_X_OFFSET, TREE_Y_OFFSET),
                 TREE_WIDTH,
                 TREE_HEIGHT,
-                false),
+                false,
+                CATEGORY_WEAPON),
                 TREE_SWORD_IMG,
                 TREE_HEIGHT,
                 TREE_WIDTH,
@@ -0,0 +1,178 @@
+package inf112.skeleton.app.utils;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Build-time tool that packs a list of images into a single texture atlas page.
+ * The result is a PNG page and a libGDX .atlas file, which can be read with
+ * {@link com.badlogic.gdx.graphics.g2d.TextureAtlas}.
+ * Each region is named after the path of its image relative to the input folder,
+ * without the file extension (e.g. "sprites/light_enemy").
+ * Paths starting with "classpath:" are read from the classpath instead, which is used
+ * to pack the default libGDX font.
+ *
+ * Run from Maven during the compile phase, see pom.xml.
+ */
+public class AtlasPacker {
+    private static final int PADDING = 2;
+    private static final int MIN_PAGE_SIZE = 256;
+    private static final int MAX_PAGE_SIZE = 4096;
+    private static final String IMAGE_EXTENSION = ".png";
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    /**
+     * An image to be packed, and where it ended up on the page.
+     */
+    static class PackedImage {
+        final String name;
+        final BufferedImage image;
+        int x;
+        int y;
+
+        PackedImage(String name, BufferedImage image) {
+            this.name = name;
+            this.image = image;
+        }
+    }
+
+    /**
+     * Packs the images listed in a pack file into an atlas.
+     *
+     * @param args input folder, pack file listing the images, output folder and atlas name.
+     * @throws IOException if an image cannot be read or the atlas cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            throw new IllegalArgumentException("Usage: AtlasPacker <inputDir> <packFile> <outputDir> <atlasName>");
+        }
+        File inputDir = new File(args[0]);
+        File outputDir = new File(args[2]);
+        String atlasName = args[3];
+
+        List<PackedImage> images = readImages(inputDir, Files.readAllLines(new File(args[1]).toPath(), StandardCharsets.UTF_8));
+        int[] pageSize = pack(images);
+        write(images, pageSize, outputDir, atlasName);
+        System.out.println("Packed " + images.size() + " images into " + atlasName + ".atlas (" + pageSize[0] + "x" + pageSize[1] + ")");
+    }
+
+    private static List<PackedImage> readImages(File inputDir, List<String> lines) throws IOException {
+        List<PackedImage> images = new ArrayList<>();
+        for (String line : lines) {
+            String path = line.trim();
+            if (path.isEmpty() || path.startsWith("#")) {
+                continue;
+            }
+            BufferedImage image;
+            if (path.startsWith(CLASSPATH_PREFIX)) {
+                path = path.substring(CLASSPATH_PREFIX.length());
+                URL resource = AtlasPacker.class.getClassLoader().getResource(path);
+                image = resource == null ? null : ImageIO.read(resource);
+            } else {
+                image = ImageIO.read(new File(inputDir, path));
+            }
+            if (image == null) {
+                throw new IOException("Could not read image: " + path);
+            }
+            String name = path.endsWith(IMAGE_EXTENSION) ? path.substring(0, path.length() - IMAGE_EXTENSION.length()) : path;
+            images.add(new PackedImage(name, image));
+        }
+        return images;
+    }
+
+    /**
+     * Places the images on the page with the smallest area that fits them, using shelf packing.
+     * The images are sorted by height first, so each shelf wastes as little space as possible.
+     *
+     * @param images the images to place. Their x and y are updated.
+     * @return the page width and height.
+     */
+    static int[] pack(List<PackedImage> images) {
+        images.sort(Comparator.comparingInt((PackedImage image) -> image.image.getHeight()).reversed()
+                .thenComparing(image -> image.name));
+        int bestWidth = -1;
+        int bestHeight = -1;
+        for (int width = MIN_PAGE_SIZE; width <= MAX_PAGE_SIZE; width *= 2) {
+            int height = nextPowerOfTwo(placeOnShelves(images, width));
+            if (height <= MAX_PAGE_SIZE && (bestWidth < 0 || (long) width * height < (long) bestWidth * bestHeight)) {
+                bestWidth = width;
+                bestHeight = height;
+            }
+        }
+        if (bestWidth < 0) {
+            throw new IllegalStateException("Images do not fit on a " + MAX_PAGE_SIZE + "x" + MAX_PAGE_SIZE + " page");
+        }
+        placeOnShelves(images, bestWidth);
+        return new int[] {bestWidth, bestHeight};
+    }
+
+    private static int placeOnShelves(List<PackedImage> images, int pageWidth) {
+        int x = PADDING;
+        int y = PADDING;
+        int shelfHeight = 0;
+        for (PackedImage packed : images) {
+            int width = packed.image.getWidth();
+            if (width + 2 * PADDING > pageWidth) {
+                return Integer.MAX_VALUE;
+            }
+            if (x + width + PADDING > pageWidth) {
+                x = PADDING;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            packed.x = x;
+            packed.y = y;
+            x += width + PADDING;
+            shelfHeight = Math.max(shelfHeight, packed.image.getHeight());
+        }
+        return y + shelfHeight + PADDING;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        if (value > MAX_PAGE_SIZE) {
+            return Integer.MAX_VALUE;
+        }
+        int power = MIN_PAGE_SIZE;
+        while (power < value) {
+            power *= 2;
+        }
+        return power;
+    }
+
+    private static void write(List<PackedImage> images, int[] pageSize, File outputDir, String atlasName) throws IOException {
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Could not create output folder: " + outputDir);
+        }
+        BufferedImage page = new BufferedImage(pageSize[0], pageSize[1], BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = page.createGraphics();
+        for (PackedImage packed : images) {
+            graphics.drawImage(packed.image, packed.x, packed.y, null);
+        }
+        graphics.dispose();
+
+        String pageName = atlasName + IMAGE_EXTENSION;
+        ImageIO.write(page, "png", new File(outputDir, pageName));
+
+        try (PrintWriter writer = new PrintWriter(new File(outputDir, atlasName + ".atlas"), StandardCharsets.UTF_8)) {
+            writer.println(pageName);
+            writer.println("size:" + pageSize[0] + "," + pageSize[1]);
+            writer.println("format:RGBA8888");
+            writer.println("filter:Nearest,Nearest");
+            writer.println("repeat:none");
+            for (PackedImage packed : images) {
+                writer.println(packed.name);
+                writer.println("  bounds:" + packed.x + "," + packed.y + "," + packed.image.getWidth() + "," + packed.image.getHeight());
+            }
+        }
+    }
+}
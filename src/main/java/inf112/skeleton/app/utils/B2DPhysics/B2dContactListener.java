@@ -8,9 +8,34 @@ import inf112.skeleton.app.model.entities.weapons.Weapon;
 /**
  * Handles collisions between entities in the game.
  * Implements {@link ContactListener}.
+ *
+ * Contacts are dispatched through tables of handlers indexed by the {@link EntityType} ids of the two fixtures'
+ * user data. Each pair of types is stored once, with the lower id first, and the user data of a contact
+ * is put in the same order before the handler is called. A new interaction is added by registering a handler
+ * with {@link #onBegin} or {@link #onEnd}.
  */
 public class B2dContactListener implements ContactListener {
+
+    /**
+     * Handles a contact between the user data of two fixtures.
+     *
+     * @param <A> The type of the first user data.
+     * @param <B> The type of the second user data.
+     */
+    @FunctionalInterface
+    public interface ContactHandler<A, B> {
+        /**
+         * Handles the contact.
+         *
+         * @param a The user data of type A.
+         * @param b The user data of type B.
+         */
+        void handle(A a, B b);
+    }
+
     private CollisionCallBack collisionCallBack;
+    private final ContactHandler<Object, Object>[][] beginHandlers = newTable();
+    private final ContactHandler<Object, Object>[][] endHandlers = newTable();
 
     /**
      * Constructs a new B2dContactListener.
@@ -19,77 +44,118 @@ public class B2dContactListener implements ContactListener {
      */
     public B2dContactListener(CollisionCallBack collisionCallBack) {
         this.collisionCallBack = collisionCallBack;
+        this.<Weapon, Enemy>onBegin(EntityType.WEAPON, EntityType.ENEMY, this::weaponAndEnemyContact);
+        this.<Player, Spike>onBegin(EntityType.PLAYER, EntityType.SPIKE, this::playerAndSpikeContact);
+        this.<Player, Spike>onEnd(EntityType.PLAYER, EntityType.SPIKE, this::resolvePlayerAndSpikeContact);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ContactHandler<Object, Object>[][] newTable() {
+        return new ContactHandler[EntityType.COUNT][EntityType.COUNT];
+    }
+
+    /**
+     * Registers the handler called when fixtures of two types start touching, replacing any earlier one.
+     *
+     * @param <A>     The class of the first type.
+     * @param <B>     The class of the second type.
+     * @param typeA   The {@link EntityType} id of the first user data passed to the handler.
+     * @param typeB   The {@link EntityType} id of the second user data passed to the handler.
+     * @param handler The handler.
+     */
+    public <A, B> void onBegin(int typeA, int typeB, ContactHandler<A, B> handler) {
+        register(beginHandlers, typeA, typeB, handler);
+    }
+
+    /**
+     * Registers the handler called when fixtures of two types stop touching, replacing any earlier one.
+     *
+     * @param <A>     The class of the first type.
+     * @param <B>     The class of the second type.
+     * @param typeA   The {@link EntityType} id of the first user data passed to the handler.
+     * @param typeB   The {@link EntityType} id of the second user data passed to the handler.
+     * @param handler The handler.
+     */
+    public <A, B> void onEnd(int typeA, int typeB, ContactHandler<A, B> handler) {
+        register(endHandlers, typeA, typeB, handler);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A, B> void register(ContactHandler<Object, Object>[][] table, int typeA, int typeB, ContactHandler<A, B> handler) {
+        ContactHandler<Object, Object> untyped = (a, b) -> handler.handle((A) a, (B) b);
+        if (typeA <= typeB) {
+            table[typeA][typeB] = untyped;
+        } else {
+            // Stored with the lower id first, so the handler gets its arguments swapped back
+            table[typeB][typeA] = (b, a) -> untyped.handle(a, b);
+        }
     }
 
     @Override
     public void beginContact(Contact contact) {
-        Fixture fA = contact.getFixtureA();
-        Fixture fB = contact.getFixtureB();
-        weaponAndEnemyContact(fA, fB);
-        playerAndSpikeContact(fA, fB);
+        beginContact(contact.getFixtureA(), contact.getFixtureB());
     }
 
     @Override
     public void endContact(Contact contact) {
-        Fixture fA = contact.getFixtureA();
-        Fixture fB = contact.getFixtureB();
-        resolvePlayerAndSpikeContact(fA, fB);
+        endContact(contact.getFixtureA(), contact.getFixtureB());
     }
 
-    @Override
-    public void preSolve(Contact contact, Manifold manifold) {}
+    /**
+     * Handles the start of a contact between two fixtures.
+     *
+     * @param fA The first fixture of the contact.
+     * @param fB The second fixture of the contact.
+     */
+    void beginContact(Fixture fA, Fixture fB) {
+        dispatch(beginHandlers, fA.getUserData(), fB.getUserData());
+    }
 
-    @Override
-    public void postSolve(Contact contact, ContactImpulse contactImpulse) {}
+    /**
+     * Handles the end of a contact between two fixtures.
+     *
+     * @param fA The first fixture of the contact.
+     * @param fB The second fixture of the contact.
+     */
+    void endContact(Fixture fA, Fixture fB) {
+        dispatch(endHandlers, fA.getUserData(), fB.getUserData());
+    }
 
-    private void weaponAndEnemyContact(Fixture fA, Fixture fB) {
-        if (isWeaponContact(fA, fB) && isEnemyContact(fA, fB)) {
-            Weapon weapon;
-            Enemy enemy;
-            if (fA.getUserData() instanceof Weapon) {
-                weapon = (Weapon) fA.getUserData();
-                enemy = (Enemy) fB.getUserData();
-            } else {
-                weapon = (Weapon) fB.getUserData();
-                enemy = (Enemy) fA.getUserData();
+    private static void dispatch(ContactHandler<Object, Object>[][] table, Object dataA, Object dataB) {
+        int typeA = EntityType.of(dataA);
+        int typeB = EntityType.of(dataB);
+        if (typeA <= typeB) {
+            ContactHandler<Object, Object> handler = table[typeA][typeB];
+            if (handler != null) {
+                handler.handle(dataA, dataB);
             }
-
-            if (weapon.getCooldownTimer() <= 0) {
-                enemy.hit(weapon.getDmg(), weapon.getKnockback(), weapon.getAngle(), weapon.getStun());
-                weapon.startCooldownTimer();
+        } else {
+            ContactHandler<Object, Object> handler = table[typeB][typeA];
+            if (handler != null) {
+                handler.handle(dataB, dataA);
             }
         }
     }
 
-    private void playerAndSpikeContact(Fixture fA, Fixture fB) {
-        if (isPlayerContact(fA, fB) && isSpikeContact(fA, fB)) {
-            Player player = (fA.getUserData() instanceof Player) ? (Player) fA.getUserData() : (Player) fB.getUserData();
-            Spike spike = (fA.getUserData() instanceof Spike) ? (Spike) fA.getUserData() : (Spike) fB.getUserData();
-            player.setInContactWithSpike(true);
-            collisionCallBack.onPlayerSpikeCollision(player, spike); // Call the callback method
-        }
-    }
-
-    private void resolvePlayerAndSpikeContact(Fixture fA, Fixture fB) {
-        if (isPlayerContact(fA, fB) && isSpikeContact(fA, fB)) {
-            Player player = (fA.getUserData() instanceof Player) ? (Player) fA.getUserData() : (Player) fB.getUserData();
-            player.setInContactWithSpike(false);
-        }
-    }
+    @Override
+    public void preSolve(Contact contact, Manifold manifold) {}
 
-    private boolean isPlayerContact(Fixture fA, Fixture fB) {
-        return (fA.getUserData() instanceof Player) || (fB.getUserData() instanceof Player);
-    }
+    @Override
+    public void postSolve(Contact contact, ContactImpulse contactImpulse) {}
 
-    private boolean isSpikeContact(Fixture fA, Fixture fB) {
-        return (fA.getUserData() instanceof Spike) || (fB.getUserData() instanceof Spike);
+    private void weaponAndEnemyContact(Weapon weapon, Enemy enemy) {
+        if (weapon.getCooldownTimer() <= 0) {
+            enemy.hit(weapon.getDmg(), weapon.getKnockback(), weapon.getAngle(), weapon.getStun());
+            weapon.startCooldownTimer();
+        }
     }
 
-    private boolean isWeaponContact(Fixture fA, Fixture fB) {
-        return (fA.getUserData() instanceof Weapon) || (fB.getUserData() instanceof Weapon);
+    private void playerAndSpikeContact(Player player, Spike spike) {
+        player.setInContactWithSpike(true);
+        collisionCallBack.onPlayerSpikeCollision(player, spike); // Call the callback method
     }
 
-    private boolean isEnemyContact(Fixture fA, Fixture fB) {
-        return (fA.getUserData() instanceof Enemy) || (fB.getUserData() instanceof Enemy);
+    private void resolvePlayerAndSpikeContact(Player player, Spike spike) {
+        player.setInContactWithSpike(false);
     }
 }
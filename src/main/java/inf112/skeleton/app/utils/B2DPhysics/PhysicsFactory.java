@@ -5,14 +5,47 @@ import com.badlogic.gdx.physics.box2d.*;
 
 import inf112.skeleton.app.utils.Constants;
 
-import static inf112.skeleton.app.utils.Constants.PPM;
+import static inf112.skeleton.app.utils.Constants.*;
 
 /**
  * Utility class for creating Box2D physics bodies and fixtures.
  * Provides methods for creating various types of bodies and fixtures for game entities.
+ *
+ * Every fixture gets a collision category, one of the CATEGORY constants in {@link Constants},
+ * and the matching mask, so Box2D only makes contacts between the kinds of entities the game cares about.
  */
 public abstract class PhysicsFactory {
 
+    /**
+     * Gets the categories a category collides with, from the MASK constants in {@link Constants}.
+     *
+     * @param category The collision category, one of the CATEGORY constants.
+     * @return The collision mask of the category.
+     * @throws IllegalArgumentException If the category is not one of the CATEGORY constants.
+     */
+    public static short getMask(short category) {
+        return switch (category) {
+            case CATEGORY_PLAYER -> MASK_PLAYER;
+            case CATEGORY_ENEMY -> MASK_ENEMY;
+            case CATEGORY_WEAPON -> MASK_WEAPON;
+            case CATEGORY_COIN -> MASK_COIN;
+            case CATEGORY_SPIKE -> MASK_SPIKE;
+            case CATEGORY_WALL -> MASK_WALL;
+            default -> throw new IllegalArgumentException("Unknown collision category: " + category);
+        };
+    }
+
+    /**
+     * Sets the collision category of a fixture definition, and the mask of the category.
+     *
+     * @param fixtureDef The fixture definition.
+     * @param category   The collision category, one of the CATEGORY constants in {@link Constants}.
+     */
+    static void setFilter(FixtureDef fixtureDef, short category) {
+        fixtureDef.filter.categoryBits = category;
+        fixtureDef.filter.maskBits = getMask(category);
+    }
+
     /**
      * Creates a Box2D body with the specified parameters.
      *
@@ -36,15 +69,17 @@ public abstract class PhysicsFactory {
      * @param width     The width of the fixture.
      * @param height    The height of the fixture.
      * @param isSensor  Indicates if the fixture should be a sensor.
+     * @param category  The collision category of the fixture.
      * @return The created Box2D fixture.
      */
-    private static Fixture createFixture(Body body, float width, float height, boolean isSensor) {
+    private static Fixture createFixture(Body body, float width, float height, boolean isSensor, short category) {
         PolygonShape shape = new PolygonShape();
         shape.setAsBox(width / 2 / PPM, height / 2 / PPM);
 
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.shape = shape;
         fixtureDef.isSensor = isSensor;
+        setFilter(fixtureDef, category);
 
         Fixture fixture = body.createFixture(fixtureDef);
         shape.dispose();
@@ -60,11 +95,12 @@ public abstract class PhysicsFactory {
      * @param width            The width of the body.
      * @param height           The height of the body.
      * @param collisionEnabled Indicates if the body should have collision enabled.
+     * @param category         The collision category of the body, e.g. {@link Constants#CATEGORY_ENEMY}.
      * @return The created Box2D body.
      */
-    public static Body createDynamicEntityBody(World world, Vector2 position, float width, float height, boolean collisionEnabled) {
+    public static Body createDynamicEntityBody(World world, Vector2 position, float width, float height, boolean collisionEnabled, short category) {
         Body body = createBody(world, position, BodyDef.BodyType.DynamicBody);
-        createFixture(body, width, height, !collisionEnabled);
+        createFixture(body, width, height, !collisionEnabled, category);
         return body;
     }
 
@@ -75,11 +111,12 @@ public abstract class PhysicsFactory {
      * @param position  The position of the body.
      * @param width     The width of the body.
      * @param height    The height of the body.
+     * @param category  The collision category of the body, e.g. {@link Constants#CATEGORY_COIN}.
      * @return The created Box2D body.
      */
-    public static Body createStaticEntityBody(World world, Vector2 position, float width, float height) {
+    public static Body createStaticEntityBody(World world, Vector2 position, float width, float height, short category) {
         Body body = createBody(world, position, BodyDef.BodyType.StaticBody);
-        Fixture fixture = createFixture(body, width, height, true);
+        Fixture fixture = createFixture(body, width, height, true, category);
         fixture.setUserData(body);
         return body;
     }
@@ -93,9 +130,10 @@ public abstract class PhysicsFactory {
      * @param width            The width of the body.
      * @param height           The height of the body.
      * @param collisionEnabled Indicates if the body should have collision enabled.
+     * @param category         The collision category of the body, e.g. {@link Constants#CATEGORY_WEAPON}.
      * @return The created Box2D body.
      */
-    public static Body createEntityBody(World world, Vector2 position, Vector2 offset, float width, float height, boolean collisionEnabled) {
+    public static Body createEntityBody(World world, Vector2 position, Vector2 offset, float width, float height, boolean collisionEnabled, short category) {
         BodyDef bodyDef = new BodyDef();
         bodyDef.type = BodyDef.BodyType.DynamicBody;
         bodyDef.position.set(position.x / Constants.PPM, position.y / Constants.PPM);
@@ -108,6 +146,7 @@ public abstract class PhysicsFactory {
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.isSensor = !collisionEnabled;
         fixtureDef.shape = shape;
+        setFilter(fixtureDef, category);
 
         body.createFixture(fixtureDef);
         shape.dispose();
@@ -17,6 +17,7 @@ public class TiledObjectUtil {
 
     /**
      * Parses a tiled object layer to create static Box2D bodies in the world.
+     * The bodies are walls, which only collide with the player and the enemies.
      *
      * @param world   The Box2D world in which to create the bodies.
      * @param objects The map objects representing the layer.
@@ -35,7 +36,11 @@ public class TiledObjectUtil {
             BodyDef bdef = new BodyDef();
             bdef.type = BodyDef.BodyType.StaticBody;
             Body body = world.createBody(bdef);
-            body.createFixture(shape, 1.0f);
+            FixtureDef fixtureDef = new FixtureDef();
+            fixtureDef.shape = shape;
+            fixtureDef.density = 1.0f;
+            PhysicsFactory.setFilter(fixtureDef, CATEGORY_WALL);
+            body.createFixture(fixtureDef);
             shape.dispose();
         }
     }
@@ -65,7 +70,7 @@ public class TiledObjectUtil {
     }
 
     /**
-     * Creates spike entities from polygon map objects.
+     * Creates spike entities from polygon map objects. The spikes are sensors that only touch the player.
      *
      * @param world   The Box2D world in which to create the spikes.
      * @param objects The map objects representing the spikes.
@@ -81,6 +86,7 @@ public class TiledObjectUtil {
                 FixtureDef fixtureDef = new FixtureDef(); 
                 fixtureDef.shape = shape;
                 fixtureDef.isSensor = true;
+                PhysicsFactory.setFilter(fixtureDef, CATEGORY_SPIKE);
 
                 Fixture fixture = body.createFixture(fixtureDef);
                 shape.dispose();
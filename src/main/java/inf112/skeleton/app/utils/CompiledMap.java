@@ -0,0 +1,517 @@
+package inf112.skeleton.app.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * A Tiled map in the compact binary format written by {@link MapCompiler} at build time.
+ * Tile ids are packed into shorts, the polygons of the object layers are already transformed to world coordinates,
+ * and the spawn raster is precomputed, so loading a map needs no XML parsing and no geometry work.
+ *
+ * The format is big-endian: a header, the tile sets, the layers in drawing order, and the spawn raster.
+ * A packed tile holds the global tile id in its low {@link #GID_BITS} bits and the flip flags in the high bits, 0 for no tile.
+ */
+public class CompiledMap {
+    /** The file extension of compiled maps. */
+    public static final String EXTENSION = ".gmap";
+    /** The map property holding the precomputed {@link SpawnRaster} of a loaded map. */
+    public static final String SPAWN_RASTER_PROPERTY = "spawnRaster";
+
+    public static final int GID_BITS = 13;
+    public static final int GID_MASK = (1 << GID_BITS) - 1;
+    public static final int FLIP_DIAGONALLY = 1 << 13;
+    public static final int FLIP_VERTICALLY = 1 << 14;
+    public static final int FLIP_HORIZONTALLY = 1 << 15;
+
+    private static final int MAGIC = 0x474D4150; // "GMAP"
+    private static final int VERSION = 1;
+    private static final byte TILE_LAYER = 0;
+    private static final byte OBJECT_LAYER = 1;
+
+    /**
+     * A tile set cut from a single image.
+     */
+    public static class Tileset {
+        private final String name;
+        private final int firstGid;
+        private final String image;
+        private final int imageWidth;
+        private final int imageHeight;
+        private final int tileWidth;
+        private final int tileHeight;
+        private final int spacing;
+        private final int margin;
+
+        /**
+         * Constructs a tile set.
+         *
+         * @param name        The name of the tile set.
+         * @param firstGid    The global id of the first tile.
+         * @param image       The path of the image, relative to the map file.
+         * @param imageWidth  The width of the image in pixels.
+         * @param imageHeight The height of the image in pixels.
+         * @param tileWidth   The width of a tile in pixels.
+         * @param tileHeight  The height of a tile in pixels.
+         * @param spacing     The space between tiles in pixels.
+         * @param margin      The space around the tiles in pixels.
+         */
+        public Tileset(String name, int firstGid, String image, int imageWidth, int imageHeight,
+                       int tileWidth, int tileHeight, int spacing, int margin) {
+            this.name = name;
+            this.firstGid = firstGid;
+            this.image = image;
+            this.imageWidth = imageWidth;
+            this.imageHeight = imageHeight;
+            this.tileWidth = tileWidth;
+            this.tileHeight = tileHeight;
+            this.spacing = spacing;
+            this.margin = margin;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getFirstGid() {
+            return firstGid;
+        }
+
+        public String getImage() {
+            return image;
+        }
+
+        public int getImageWidth() {
+            return imageWidth;
+        }
+
+        public int getImageHeight() {
+            return imageHeight;
+        }
+
+        public int getTileWidth() {
+            return tileWidth;
+        }
+
+        public int getTileHeight() {
+            return tileHeight;
+        }
+
+        public int getSpacing() {
+            return spacing;
+        }
+
+        public int getMargin() {
+            return margin;
+        }
+    }
+
+    /**
+     * A layer of the map, either a {@link TileLayer} or an {@link ObjectLayer}.
+     */
+    public abstract static class Layer {
+        private final String name;
+        private final boolean visible;
+        private final float opacity;
+
+        Layer(String name, boolean visible, float opacity) {
+            this.name = name;
+            this.visible = visible;
+            this.opacity = opacity;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        public float getOpacity() {
+            return opacity;
+        }
+    }
+
+    /**
+     * A layer of packed tiles, row by row from the top row, as in Tiled.
+     */
+    public static class TileLayer extends Layer {
+        private final float offsetX;
+        private final float offsetY;
+        private final short[] tiles;
+
+        /**
+         * Constructs a tile layer.
+         *
+         * @param name    The name of the layer.
+         * @param visible If the layer is drawn.
+         * @param opacity The opacity of the layer.
+         * @param offsetX The horizontal offset of the layer in pixels.
+         * @param offsetY The vertical offset of the layer in pixels, downwards as in Tiled.
+         * @param tiles   The packed tiles, map width times map height.
+         */
+        public TileLayer(String name, boolean visible, float opacity, float offsetX, float offsetY, short[] tiles) {
+            super(name, visible, opacity);
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.tiles = tiles;
+        }
+
+        public float getOffsetX() {
+            return offsetX;
+        }
+
+        public float getOffsetY() {
+            return offsetY;
+        }
+
+        /**
+         * Gets the packed tiles.
+         *
+         * @return The packed tiles. Not a copy, so it must not be changed.
+         */
+        public short[] getTiles() {
+            return tiles;
+        }
+    }
+
+    /**
+     * A layer of polygons and polylines in world coordinates.
+     */
+    public static class ObjectLayer extends Layer {
+        private final List<float[]> shapes = new ArrayList<>();
+        private final List<Boolean> closed = new ArrayList<>();
+
+        /**
+         * Constructs an empty object layer.
+         *
+         * @param name    The name of the layer.
+         * @param visible If the layer is drawn.
+         * @param opacity The opacity of the layer.
+         */
+        public ObjectLayer(String name, boolean visible, float opacity) {
+            super(name, visible, opacity);
+        }
+
+        /**
+         * Adds a shape to the layer.
+         *
+         * @param vertices The x, y pairs of the shape's vertices in world coordinates.
+         * @param polygon  True for a closed polygon, false for a polyline.
+         */
+        public void addShape(float[] vertices, boolean polygon) {
+            shapes.add(vertices);
+            closed.add(polygon);
+        }
+
+        public int getShapeCount() {
+            return shapes.size();
+        }
+
+        public float[] getVertices(int index) {
+            return shapes.get(index);
+        }
+
+        public boolean isPolygon(int index) {
+            return closed.get(index);
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final int tileWidth;
+    private final int tileHeight;
+    private final List<Tileset> tilesets;
+    private final List<Layer> layers;
+    private final SpawnRaster spawnRaster;
+
+    /**
+     * Constructs a compiled map.
+     *
+     * @param width       The width of the map in tiles.
+     * @param height      The height of the map in tiles.
+     * @param tileWidth   The width of a tile in pixels.
+     * @param tileHeight  The height of a tile in pixels.
+     * @param tilesets    The tile sets, by increasing first global id.
+     * @param layers      The layers in drawing order.
+     * @param spawnRaster The precomputed spawn raster.
+     */
+    public CompiledMap(int width, int height, int tileWidth, int tileHeight,
+                       List<Tileset> tilesets, List<Layer> layers, SpawnRaster spawnRaster) {
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.tilesets = Collections.unmodifiableList(tilesets);
+        this.layers = Collections.unmodifiableList(layers);
+        this.spawnRaster = spawnRaster;
+    }
+
+    /**
+     * Reads a compiled map from a file. A file on disk, including a classpath resource in a folder,
+     * is memory-mapped instead of copied to the heap. Resources inside a jar are read in full.
+     *
+     * @param file The compiled map file.
+     * @return The compiled map.
+     * @throws IOException if the file cannot be read or is not a compiled map.
+     */
+    public static CompiledMap load(FileHandle file) throws IOException {
+        Path path = diskPath(file);
+        if (path == null) {
+            return read(ByteBuffer.wrap(file.readBytes()));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private static Path diskPath(FileHandle file) {
+        if (file.type() != FileType.Classpath && file.file().isFile()) {
+            return file.file().toPath();
+        }
+        if (file.type() == FileType.Classpath || file.type() == FileType.Internal) {
+            URL url = CompiledMap.class.getClassLoader().getResource(file.path());
+            if (url != null && "file".equals(url.getProtocol())) {
+                try {
+                    return Paths.get(url.toURI());
+                } catch (URISyntaxException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads a compiled map from a buffer, from its position.
+     *
+     * @param buffer The buffer holding the compiled map.
+     * @return The compiled map.
+     * @throws IOException if the buffer does not hold a compiled map of this version.
+     */
+    public static CompiledMap read(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a compiled map");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported compiled map version: " + version);
+        }
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        int tileWidth = buffer.getInt();
+        int tileHeight = buffer.getInt();
+
+        int tilesetCount = buffer.getInt();
+        List<Tileset> tilesets = new ArrayList<>(tilesetCount);
+        for (int i = 0; i < tilesetCount; i++) {
+            tilesets.add(new Tileset(readString(buffer), buffer.getInt(), readString(buffer), buffer.getInt(), buffer.getInt(),
+                    buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt()));
+        }
+
+        int layerCount = buffer.getInt();
+        List<Layer> layers = new ArrayList<>(layerCount);
+        for (int i = 0; i < layerCount; i++) {
+            byte type = buffer.get();
+            String name = readString(buffer);
+            boolean visible = buffer.get() != 0;
+            float opacity = buffer.getFloat();
+            if (type == TILE_LAYER) {
+                float offsetX = buffer.getFloat();
+                float offsetY = buffer.getFloat();
+                short[] tiles = new short[width * height];
+                buffer.asShortBuffer().get(tiles);
+                buffer.position(buffer.position() + tiles.length * Short.BYTES);
+                layers.add(new TileLayer(name, visible, opacity, offsetX, offsetY, tiles));
+            } else if (type == OBJECT_LAYER) {
+                ObjectLayer layer = new ObjectLayer(name, visible, opacity);
+                int shapeCount = buffer.getInt();
+                for (int j = 0; j < shapeCount; j++) {
+                    boolean polygon = buffer.get() != 0;
+                    float[] vertices = new float[buffer.getInt()];
+                    buffer.asFloatBuffer().get(vertices);
+                    buffer.position(buffer.position() + vertices.length * Float.BYTES);
+                    layer.addShape(vertices, polygon);
+                }
+                layers.add(layer);
+            } else {
+                throw new IOException("Unknown layer type: " + type);
+            }
+        }
+
+        int cols = buffer.getInt();
+        int rows = buffer.getInt();
+        float cellWidth = buffer.getFloat();
+        float cellHeight = buffer.getFloat();
+        int[] legalCells = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(legalCells);
+        buffer.position(buffer.position() + legalCells.length * Integer.BYTES);
+        SpawnRaster spawnRaster = new SpawnRaster(cols, rows, cellWidth, cellHeight, legalCells);
+
+        return new CompiledMap(width, height, tileWidth, tileHeight, tilesets, layers, spawnRaster);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the map in the compiled format.
+     *
+     * @param stream The stream to write to. It is not closed.
+     * @throws IOException if the stream cannot be written.
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(width);
+        out.writeInt(height);
+        out.writeInt(tileWidth);
+        out.writeInt(tileHeight);
+
+        out.writeInt(tilesets.size());
+        for (Tileset tileset : tilesets) {
+            writeString(out, tileset.name);
+            out.writeInt(tileset.firstGid);
+            writeString(out, tileset.image);
+            out.writeInt(tileset.imageWidth);
+            out.writeInt(tileset.imageHeight);
+            out.writeInt(tileset.tileWidth);
+            out.writeInt(tileset.tileHeight);
+            out.writeInt(tileset.spacing);
+            out.writeInt(tileset.margin);
+        }
+
+        out.writeInt(layers.size());
+        for (Layer layer : layers) {
+            out.writeByte(layer instanceof TileLayer ? TILE_LAYER : OBJECT_LAYER);
+            writeString(out, layer.name);
+            out.writeBoolean(layer.visible);
+            out.writeFloat(layer.opacity);
+            if (layer instanceof TileLayer) {
+                TileLayer tileLayer = (TileLayer) layer;
+                out.writeFloat(tileLayer.offsetX);
+                out.writeFloat(tileLayer.offsetY);
+                for (short tile : tileLayer.tiles) {
+                    out.writeShort(tile);
+                }
+            } else {
+                ObjectLayer objectLayer = (ObjectLayer) layer;
+                out.writeInt(objectLayer.getShapeCount());
+                for (int i = 0; i < objectLayer.getShapeCount(); i++) {
+                    out.writeBoolean(objectLayer.isPolygon(i));
+                    float[] vertices = objectLayer.getVertices(i);
+                    out.writeInt(vertices.length);
+                    for (float vertex : vertices) {
+                        out.writeFloat(vertex);
+                    }
+                }
+            }
+        }
+
+        out.writeInt(spawnRaster.getCols());
+        out.writeInt(spawnRaster.getRows());
+        out.writeFloat(spawnRaster.getCellWidth());
+        out.writeFloat(spawnRaster.getCellHeight());
+        out.writeInt(spawnRaster.getLegalCells().length);
+        for (int cell : spawnRaster.getLegalCells()) {
+            out.writeInt(cell);
+        }
+        out.flush();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the map in the compiled format to a new array.
+     *
+     * @return The compiled map bytes.
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            write(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Packs a tile into a short.
+     *
+     * @param gid                 The global tile id, 0 for no tile.
+     * @param flipHorizontally    If the tile is flipped horizontally.
+     * @param flipVertically      If the tile is flipped vertically.
+     * @param flipDiagonally      If the tile is flipped diagonally.
+     * @return The packed tile.
+     * @throws IllegalArgumentException if the id does not fit in {@link #GID_BITS} bits.
+     */
+    public static short packTile(int gid, boolean flipHorizontally, boolean flipVertically, boolean flipDiagonally) {
+        if (gid < 0 || gid > GID_MASK) {
+            throw new IllegalArgumentException("Tile id does not fit in " + GID_BITS + " bits: " + gid);
+        }
+        int packed = gid;
+        if (flipHorizontally) {
+            packed |= FLIP_HORIZONTALLY;
+        }
+        if (flipVertically) {
+            packed |= FLIP_VERTICALLY;
+        }
+        if (flipDiagonally) {
+            packed |= FLIP_DIAGONALLY;
+        }
+        return (short) packed;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    public int getTileHeight() {
+        return tileHeight;
+    }
+
+    public List<Tileset> getTilesets() {
+        return tilesets;
+    }
+
+    public List<Layer> getLayers() {
+        return layers;
+    }
+
+    public SpawnRaster getSpawnRaster() {
+        return spawnRaster;
+    }
+}
@@ -14,6 +14,13 @@ public class Constants {
     public final static int WINDOW_HEIGHT = 800;
     public final static int WINDOW_WIDTH = 800;
     public final static int GAME_FPS = 60;
+
+    // Simulation - fixed time step, independent of the frame rate
+    public final static int TICK_RATE = 60;
+    public final static float TIME_STEP = 1f / TICK_RATE;
+    public final static int MAX_SUB_STEPS = 5;
+    public final static int VELOCITY_ITERATIONS = 6;
+    public final static int POSITION_ITERATIONS = 2;
     public final static float CAMERA_ZOOM_LEVEL = 0.7f;
     public final static float CAMERA_WINDOW_WIDTH = WINDOW_WIDTH * CAMERA_ZOOM_LEVEL;
     public final static float CAMERA_WINDOW_HEIGHT = WINDOW_HEIGHT * CAMERA_ZOOM_LEVEL;
@@ -95,11 +102,18 @@ public class Constants {
     public final static float DIAMOND_COOLDOWN = 0.1f;
     public final static int DIAMOND_SWORD_COST = 1000;
 
-    // Grid - PS: NOT CURRENTLY IN USE !!!
-    public final static int NUM_ROWS = 50;
-    public final static int NUM_COLS = 50;
+    // Grid - spatial hash used for the player's proximity checks against enemies and coins
+    public final static int NUM_ROWS = 25;
+    public final static int NUM_COLS = 25;
     public final static int CELL_WIDTH = WINDOW_WIDTH / NUM_COLS;
     public final static int CELL_HEIGHT = WINDOW_HEIGHT / NUM_ROWS;
+    public final static float SPAWN_CELL_SIZE = 16; // one map tile
+    public final static float NAV_CELL_SIZE = 16; // one map tile, for the enemies' flow field
+    public final static int MAP_CHUNK_TILES = 16; // tiles per side of a cached map chunk
+    public final static int AI_PARALLEL_THRESHOLD = 64; // enemies before their AI is split across cores
+    public final static int AI_BATCH_SIZE = 32; // enemies per batch claimed by a thread in the parallel AI
+    public final static int AI_WAIT_SPINS = 1000; // busy-wait spins for the AI batches of other threads before yielding
+    public final static int PROFILER_SAMPLES = 300; // samples kept per profiled section, 5 seconds of frames
 
     // HUD - All values adjusted for camera zoom level
     public final static float HEART_WIDTH = 20 * CAMERA_ZOOM_LEVEL;
@@ -121,18 +135,51 @@ public class Constants {
     // Map / Collision
     public final static int PPM = 1;
 
+    // Collision filtering - each fixture has one category, and Box2D only makes contacts between fixtures
+    // whose masks both contain the other's category, so every mask below must be matched by the other side
+    public final static short CATEGORY_PLAYER = 0x0002;
+    public final static short CATEGORY_ENEMY = 0x0004;
+    public final static short CATEGORY_WEAPON = 0x0008;
+    public final static short CATEGORY_COIN = 0x0010;
+    public final static short CATEGORY_SPIKE = 0x0020;
+    public final static short CATEGORY_WALL = 0x0040;
+    public final static short MASK_PLAYER = CATEGORY_WALL | CATEGORY_ENEMY | CATEGORY_SPIKE;
+    public final static short MASK_ENEMY = CATEGORY_WALL | CATEGORY_PLAYER | CATEGORY_ENEMY | CATEGORY_WEAPON; // enemies keep each other apart
+    public final static short MASK_WEAPON = CATEGORY_ENEMY;
+    public final static short MASK_COIN = 0; // coins are picked up by the overlap checks in GameLogic, not by contacts
+    public final static short MASK_SPIKE = CATEGORY_PLAYER;
+    public final static short MASK_WALL = CATEGORY_PLAYER | CATEGORY_ENEMY;
+
     // Game
     public final static int HIT_DAMAGE = 1;
     public final static int SPIKE_DAMAGE = 1;
     public final static int HIT_COOLDOWN = 500;
     public final static int HIT_WARNING_DURATION = 150;
 
+    // Sound
+    public final static int SOUND_VOICES = 4; // voices per effect, how many times an effect can overlap itself
+    public final static int SOUND_MIN_INTERVAL = 40; // milliseconds between two starts of the same effect
+    public final static String BACKGROUND_MUSIC = "/sounds/background.wav";
+    public final static int MUSIC_SAMPLE_RATE = 44100; // output rate, tracks at other rates are resampled
+    public final static int MUSIC_BUFFER_FRAMES = 4096; // frames decoded at a time, about 93 ms
+    public final static int MUSIC_CROSSFADE = 1000; // milliseconds
+
+    // Loading
+    public final static int LOADING_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() - 1); // decoding threads
+    public final static int LOADING_UPLOAD_BUDGET = 4; // milliseconds of texture uploads per loading frame
+
+    // Texture atlas - packed at build time, see src/main/atlas/game.txt
+    // Constants marked "(atlas)" are region names, not file paths
+    public final static String ATLAS = "atlas/game.atlas";
+    public final static String DEFAULT_FONT = "com/badlogic/gdx/utils/lsans-15.fnt";
+    public final static String DEFAULT_FONT_REGION = "com/badlogic/gdx/utils/lsans-15";
+
     // Files
     public final static String DUNGEON_SHEET = "dungeon_sheet.png";
     public final static String DUNGEON_SHEET_IMG = "dungeon_sheet.png";
     public final static String MAP_IMG = "maps/map2.tmx";
-    public final static String HEART_IMG = "HUD/heart16x16.png";
-    public final static String HIT_WARNING = "hitWarning.png";
+    public final static String HEART_IMG = "HUD/heart16x16"; // (atlas)
+    public final static String HIT_WARNING = "hitWarning"; // (atlas)
     public final static String GAME_OVER_IMG = "gameOver.png";
     public final static String PLAYER_SPRITE = "Main_Character";
     public final static String COIN_SPRITE = "coinSprite";
@@ -140,28 +187,31 @@ public class Constants {
 
     // Weapon Selection
     public final static String WEAPON_SELECTION = "Weapon_Selection_New.png";
-    public final static String WEAPON_BUTTON = "Weapon_Selection_Button.png";
-    public final static String BACK_TO_GAME_BUTTON = "back_to_game_button.png";
+    public final static String WEAPON_BUTTON = "Weapon_Selection_Button"; // (atlas)
+    public final static String BACK_TO_GAME_BUTTON = "Back_to_game_button"; // (atlas)
     public final static String GREEN_SWORD = "Green_sword.png";
     public final static String RED_SWORD = "Red_sword.png";
     public final static String TREE_SWORD = "Tree_sword.png";
-    public final static String TREE_SWORD_BUTTON = "Tree_Sword_Button.png";
-    public final static String METAL_SWORD_BUTTON = "Red_Sword_Button.png";
-    public final static String DIAMOND_SWORD_BUTTON = "Green_Sword_Button.png";
+    public final static String TREE_SWORD_BUTTON = "Tree_Sword_Button"; // (atlas)
+    public final static String METAL_SWORD_BUTTON = "Red_Sword_Button"; // (atlas)
+    public final static String DIAMOND_SWORD_BUTTON = "Green_Sword_Button"; // (atlas)
     
 
     // GameHelpScreen
     public final static String HELP_SCREEN_BACKGROUND = "src/main/resources/gamehelpscreen/helpbackground.png";
-    public final static String EXIT_BUTTON = "src/main/resources/gamehelpscreen/exit.png";
+    public final static String EXIT_BUTTON = "gamehelpscreen/exit"; // (atlas)
 
     // GameOverScreen
     public final static String GAME_OVER_BACKGROUND = "src/main/resources/gameoverscreen/Game_over.png";
-    public final static String YES_BUTTON = "src/main/resources/gameoverscreen/Yes_Button.png";
-    public final static String NO_BUTTON = "src/main/resources/gameoverscreen/No_Button.png";
+    public final static String YES_BUTTON = "gameoverscreen/Yes_Button"; // (atlas)
+    public final static String NO_BUTTON = "gameoverscreen/No_Button"; // (atlas)
 
     // GameTitleScreen
     public final static String MENU = "src/main/resources/gametitlescreen/new_menu.png";
-    public final static String PLAY_BUTTON = "src/main/resources/gametitlescreen/play.png";
-    public final static String QUIT_BUTTON = "src/main/resources/gametitlescreen/quit.png";
-    public final static String HELP_BUTTON = "src/main/resources/gametitlescreen/help.png";
+    public final static String PLAY_BUTTON = "gametitlescreen/play"; // (atlas)
+    public final static String QUIT_BUTTON = "gametitlescreen/quit"; // (atlas)
+    public final static String HELP_BUTTON = "gametitlescreen/help"; // (atlas)
+
+    // Images outside the atlas, decoded in the background by the loading screen
+    public final static String[] MENU_BACKGROUNDS = {MENU, HELP_SCREEN_BACKGROUND, GAME_OVER_BACKGROUND, WEAPON_SELECTION};
 }
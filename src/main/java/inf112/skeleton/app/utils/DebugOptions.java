@@ -0,0 +1,118 @@
+package inf112.skeleton.app.utils;
+
+import java.util.EnumSet;
+import java.util.Locale;
+
+/**
+ * The DebugOptions class holds which debug overlays are drawn over the game. Every overlay is off by default,
+ * so a normal frame does no debug drawing. Overlays are turned on at startup with the system property
+ * {@link #PROPERTY}, e.g. {@code -Dgame.debug=physics,grid} or {@code -Dgame.debug=all},
+ * and toggled while playing with the F1 to F5 keys.
+ */
+public class DebugOptions {
+    /** The system property listing the overlays to turn on at startup. */
+    public static final String PROPERTY = "game.debug";
+
+    /**
+     * The debug overlays.
+     */
+    public enum Overlay {
+        /** The Box2D fixtures, including the static collision chains of the map. */
+        PHYSICS,
+        /** The cells of the spatial hash grid used to find nearby enemies and coins. */
+        GRID,
+        /** The frame rate, frame time and tick time. */
+        TIMING,
+        /** The number of entities, enemies, coins and bodies. */
+        COUNTS,
+        /** Percentiles of the profiled sections, draw calls, texture binds and garbage collections, see {@link FrameProfiler}. */
+        PROFILER
+    }
+
+    private final EnumSet<Overlay> enabled = EnumSet.noneOf(Overlay.class);
+
+    /**
+     * Constructs debug options with every overlay off.
+     */
+    public DebugOptions() {
+    }
+
+    /**
+     * Constructs debug options with the overlays listed in the system property {@link #PROPERTY} turned on.
+     *
+     * @return The debug options.
+     */
+    public static DebugOptions fromSystemProperties() {
+        return parse(System.getProperty(PROPERTY));
+    }
+
+    /**
+     * Constructs debug options from a comma-separated list of overlay names, or "all" or "true" for every overlay.
+     * Unknown names are ignored.
+     *
+     * @param value The list of overlays, or null for none.
+     * @return The debug options.
+     */
+    public static DebugOptions parse(String value) {
+        DebugOptions options = new DebugOptions();
+        if (value == null) {
+            return options;
+        }
+        for (String name : value.split(",")) {
+            String overlay = name.trim().toUpperCase(Locale.ROOT);
+            if (overlay.equals("ALL") || overlay.equals("TRUE")) {
+                options.enabled.addAll(EnumSet.allOf(Overlay.class));
+            }
+            for (Overlay candidate : Overlay.values()) {
+                if (candidate.name().equals(overlay)) {
+                    options.enabled.add(candidate);
+                }
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Checks if an overlay is drawn.
+     *
+     * @param overlay The overlay to check.
+     * @return True if the overlay is on, otherwise false.
+     */
+    public boolean isEnabled(Overlay overlay) {
+        return enabled.contains(overlay);
+    }
+
+    /**
+     * Turns an overlay on or off.
+     *
+     * @param overlay The overlay.
+     * @param on      True to draw the overlay, false to hide it.
+     */
+    public void setEnabled(Overlay overlay, boolean on) {
+        if (on) {
+            enabled.add(overlay);
+        } else {
+            enabled.remove(overlay);
+        }
+    }
+
+    /**
+     * Turns an overlay on if it is off, and off if it is on.
+     *
+     * @param overlay The overlay to toggle.
+     * @return True if the overlay is now on, otherwise false.
+     */
+    public boolean toggle(Overlay overlay) {
+        setEnabled(overlay, !isEnabled(overlay));
+        return isEnabled(overlay);
+    }
+
+    /**
+     * Checks if any overlay is drawn.
+     *
+     * @return True if at least one overlay is on, otherwise false.
+     */
+    public boolean isAnyEnabled() {
+        return !enabled.isEmpty();
+    }
+}
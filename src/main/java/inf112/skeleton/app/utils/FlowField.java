@@ -0,0 +1,361 @@
+package inf112.skeleton.app.utils;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A flow field over a navigation grid, pointing every cell towards a target along the shortest path
+ * around blocked cells. All enemies chasing the same target share one field, so steering an enemy is
+ * a lookup instead of a path search.
+ *
+ * The distances are found with a breadth-first search from the target's cell, and are only searched
+ * again when the target moves to another cell, see {@link #update(float, float)}.
+ *
+ * Walls that cross cells block those cells. Walls that lie on the border between two cells, as collision lines
+ * drawn along tile borders do, instead block the edge between the cells, which are both left open.
+ */
+public class FlowField {
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final float DIAGONAL = (float) Math.sqrt(0.5);
+    // The part of a cell's side a wall must be inside the cell to block it, or off a border to not lie on it
+    private static final float BORDER_MARGIN = 0.001f;
+    // Neighbour offsets, the first four are the sides and the last four the corners
+    private static final int[] NEIGHBOUR_COL = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] NEIGHBOUR_ROW = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    private final int cols;
+    private final int rows;
+    private final float cellSize;
+    private final boolean[] blocked;
+    // Walls on the border to the next cell to the right and above
+    private final boolean[] wallEast;
+    private final boolean[] wallNorth;
+    private final int[] distance;
+    private final float[] directionX;
+    private final float[] directionY;
+    private final int[] queue;
+    private int targetCell = -1;
+
+    /**
+     * Constructs a flow field where no cells are blocked and there is no target yet.
+     *
+     * @param cols     The number of columns.
+     * @param rows     The number of rows.
+     * @param cellSize The side of a cell.
+     */
+    public FlowField(int cols, int rows, float cellSize) {
+        if (cols <= 0 || rows <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("Grid size must be positive");
+        }
+        this.cols = cols;
+        this.rows = rows;
+        this.cellSize = cellSize;
+        int cells = cols * rows;
+        this.blocked = new boolean[cells];
+        this.wallEast = new boolean[cells];
+        this.wallNorth = new boolean[cells];
+        this.distance = new int[cells];
+        this.directionX = new float[cells];
+        this.directionY = new float[cells];
+        this.queue = new int[cells];
+    }
+
+    /**
+     * Blocks every cell crossed by a line of segments, such as a wall from the collision layer.
+     * A segment along the border between cells blocks the edge between them instead, and a segment
+     * that only touches the border or corner of a cell does not block it.
+     *
+     * @param vertices The x, y pairs of the line's vertices.
+     * @param closed   True if the last vertex is joined to the first, as in a polygon.
+     */
+    public void blockPolyline(float[] vertices, boolean closed) {
+        Vector2 start = new Vector2();
+        Vector2 end = new Vector2();
+        float margin = cellSize * BORDER_MARGIN;
+        Rectangle cell = new Rectangle(0, 0, cellSize - 2 * margin, cellSize - 2 * margin);
+        int segments = closed ? vertices.length / 2 : vertices.length / 2 - 1;
+        for (int i = 0; i < segments; i++) {
+            start.set(vertices[i * 2], vertices[i * 2 + 1]);
+            int next = (i + 1) % (vertices.length / 2);
+            end.set(vertices[next * 2], vertices[next * 2 + 1]);
+            if (blockBorder(start, end, margin)) {
+                continue;
+            }
+            int minCol = column(Math.min(start.x, end.x));
+            int maxCol = column(Math.max(start.x, end.x));
+            int minRow = row(Math.min(start.y, end.y));
+            int maxRow = row(Math.max(start.y, end.y));
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    cell.setPosition(col * cellSize + margin, row * cellSize + margin);
+                    if (Intersector.intersectSegmentRectangle(start, end, cell)) {
+                        blocked[row * cols + col] = true;
+                    }
+                }
+            }
+        }
+        targetCell = -1;
+    }
+
+    /**
+     * Blocks the edges along a segment if it lies on a vertical or horizontal border between cells.
+     *
+     * @return True if the segment lies on a border, otherwise false.
+     */
+    private boolean blockBorder(Vector2 start, Vector2 end, float margin) {
+        if (Math.abs(start.x - end.x) <= margin && isOnGridLine(start.x, margin)) {
+            // The border between column line - 1 and column line
+            int line = Math.round(start.x / cellSize);
+            if (line > 0 && line < cols) {
+                for (int row = row(Math.min(start.y, end.y) + margin); row <= row(Math.max(start.y, end.y) - margin); row++) {
+                    wallEast[row * cols + line - 1] = true;
+                }
+            }
+            return true;
+        }
+        if (Math.abs(start.y - end.y) <= margin && isOnGridLine(start.y, margin)) {
+            int line = Math.round(start.y / cellSize);
+            if (line > 0 && line < rows) {
+                for (int col = column(Math.min(start.x, end.x) + margin); col <= column(Math.max(start.x, end.x) - margin); col++) {
+                    wallNorth[(line - 1) * cols + col] = true;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isOnGridLine(float coordinate, float margin) {
+        return Math.abs(coordinate - Math.round(coordinate / cellSize) * cellSize) <= margin;
+    }
+
+    /**
+     * Blocks every cell touched by a polygon, such as an out-of-bounds area.
+     *
+     * @param vertices The x, y pairs of the polygon's vertices.
+     */
+    public void blockPolygon(float[] vertices) {
+        blockPolyline(vertices, true);
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < vertices.length; i += 2) {
+            minX = Math.min(minX, vertices[i]);
+            maxX = Math.max(maxX, vertices[i]);
+            minY = Math.min(minY, vertices[i + 1]);
+            maxY = Math.max(maxY, vertices[i + 1]);
+        }
+        for (int row = row(minY); row <= row(maxY); row++) {
+            for (int col = column(minX); col <= column(maxX); col++) {
+                if (SpawnRaster.isPointInPolygon(vertices, (col + 0.5f) * cellSize, (row + 0.5f) * cellSize)) {
+                    blocked[row * cols + col] = true;
+                }
+            }
+        }
+        targetCell = -1;
+    }
+
+    /**
+     * Points the field towards a new target. The distances are only searched again
+     * if the target is in another cell than last time.
+     *
+     * @param targetX The x-coordinate of the target.
+     * @param targetY The y-coordinate of the target.
+     * @return True if the field was computed again, otherwise false.
+     */
+    public boolean update(float targetX, float targetY) {
+        int cell = row(targetY) * cols + column(targetX);
+        if (cell == targetCell) {
+            return false;
+        }
+        targetCell = cell;
+        computeDistances();
+        computeDirections();
+        return true;
+    }
+
+    private void computeDistances() {
+        Arrays.fill(distance, UNREACHABLE);
+        int head = 0;
+        int tail = 0;
+        distance[targetCell] = 0;
+        queue[tail++] = targetCell;
+        while (head < tail) {
+            int cell = queue[head++];
+            int col = cell % cols;
+            int row = cell / cols;
+            for (int i = 0; i < 4; i++) {
+                int neighbour = neighbour(col, row, i);
+                if (neighbour >= 0 && !blocked[neighbour] && distance[neighbour] == UNREACHABLE && canStep(col, row, i)) {
+                    distance[neighbour] = distance[cell] + 1;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+    }
+
+    /**
+     * Points every cell at its neighbour closest to the target, without stepping over a wall on a border.
+     * Corners are only used when both cells beside them are open and no border wall meets the corner,
+     * so enemies do not cut through the corners of walls.
+     * Blocked cells point out of the wall, towards their closest open neighbour.
+     */
+    private void computeDirections() {
+        for (int cell = 0; cell < distance.length; cell++) {
+            int col = cell % cols;
+            int row = cell / cols;
+            int best = blocked[cell] ? UNREACHABLE : distance[cell];
+            int bestDirection = -1;
+            for (int i = 0; i < NEIGHBOUR_COL.length && cell != targetCell; i++) {
+                int neighbour = neighbour(col, row, i);
+                if (neighbour < 0 || distance[neighbour] >= best) {
+                    continue;
+                }
+                if (i < 4 && !canStep(col, row, i)) {
+                    continue;
+                }
+                if (i >= 4 && !blocked[cell] && (isBlocked(col + NEIGHBOUR_COL[i], row) || isBlocked(col, row + NEIGHBOUR_ROW[i])
+                        || !canStepDiagonally(col, row, NEIGHBOUR_COL[i], NEIGHBOUR_ROW[i]))) {
+                    continue;
+                }
+                best = distance[neighbour];
+                bestDirection = i;
+            }
+            if (bestDirection < 0) {
+                directionX[cell] = 0;
+                directionY[cell] = 0;
+            } else {
+                float scale = bestDirection >= 4 ? DIAGONAL : 1;
+                directionX[cell] = NEIGHBOUR_COL[bestDirection] * scale;
+                directionY[cell] = NEIGHBOUR_ROW[bestDirection] * scale;
+            }
+        }
+    }
+
+    /**
+     * Checks if there is no wall on the border crossed by a step to a side neighbour.
+     *
+     * @param i The neighbour, one of the first four offsets.
+     */
+    private boolean canStep(int col, int row, int i) {
+        int cell = row * cols + col;
+        switch (i) {
+            case 0:
+                return col + 1 < cols && !wallEast[cell];
+            case 1:
+                return col > 0 && !wallEast[cell - 1];
+            case 2:
+                return row + 1 < rows && !wallNorth[cell];
+            default:
+                return row > 0 && !wallNorth[cell - cols];
+        }
+    }
+
+    /**
+     * Checks if none of the four borders meeting at the corner crossed by a diagonal step has a wall.
+     */
+    private boolean canStepDiagonally(int col, int row, int dc, int dr) {
+        int sideCol = dc > 0 ? 0 : 1;
+        int sideRow = dr > 0 ? 2 : 3;
+        return canStep(col, row, sideCol) && canStep(col, row, sideRow)
+                && canStep(col + dc, row, sideRow) && canStep(col, row + dr, sideCol);
+    }
+
+    private int neighbour(int col, int row, int i) {
+        int c = col + NEIGHBOUR_COL[i];
+        int r = row + NEIGHBOUR_ROW[i];
+        if (c < 0 || c >= cols || r < 0 || r >= rows) {
+            return -1;
+        }
+        return r * cols + c;
+    }
+
+    /**
+     * Gets the direction to move in from a position to get closer to the target.
+     *
+     * @param x   The x-coordinate of the position.
+     * @param y   The y-coordinate of the position.
+     * @param out The vector to store the unit direction in.
+     * @return True if there is a direction, false if the position is in the target's cell,
+     *         cannot reach the target, or there is no target yet. The out vector is not changed then.
+     */
+    public boolean getDirection(float x, float y, Vector2 out) {
+        if (targetCell < 0) {
+            return false;
+        }
+        int cell = row(y) * cols + column(x);
+        if (directionX[cell] == 0 && directionY[cell] == 0) {
+            return false;
+        }
+        out.set(directionX[cell], directionY[cell]);
+        return true;
+    }
+
+    /**
+     * Gets the cell a position lies in, clamped to the grid.
+     * Together with {@link #getDirectionX(int)} and {@link #getDirectionY(int)} this reads the field
+     * without changing anything, so several threads may read it at once between updates.
+     *
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @return The index (row * cols + col) of the cell.
+     */
+    public int getCell(float x, float y) {
+        return row(y) * cols + column(x);
+    }
+
+    /**
+     * Gets the x-component of a cell's unit direction.
+     *
+     * @param cell The index of the cell, see {@link #getCell(float, float)}.
+     * @return The x-component, or 0 if the cell has no direction or there is no target yet.
+     */
+    public float getDirectionX(int cell) {
+        return targetCell < 0 ? 0 : directionX[cell];
+    }
+
+    /**
+     * Gets the y-component of a cell's unit direction.
+     *
+     * @param cell The index of the cell, see {@link #getCell(float, float)}.
+     * @return The y-component, or 0 if the cell has no direction or there is no target yet.
+     */
+    public float getDirectionY(int cell) {
+        return targetCell < 0 ? 0 : directionY[cell];
+    }
+
+    /**
+     * Gets the number of steps between a cell and the target's cell.
+     *
+     * @param col The column of the cell.
+     * @param row The row of the cell.
+     * @return The number of steps, or -1 if the cell cannot reach the target.
+     */
+    public int getDistance(int col, int row) {
+        int steps = distance[row * cols + col];
+        return steps == UNREACHABLE ? -1 : steps;
+    }
+
+    /**
+     * Checks if a cell is blocked. Cells outside the grid count as blocked.
+     *
+     * @param col The column of the cell.
+     * @param row The row of the cell.
+     * @return True if the cell is blocked, otherwise false.
+     */
+    public boolean isBlocked(int col, int row) {
+        if (col < 0 || col >= cols || row < 0 || row >= rows) {
+            return true;
+        }
+        return blocked[row * cols + col];
+    }
+
+    private int column(float x) {
+        return Math.min(cols - 1, Math.max(0, (int) Math.floor(x / cellSize)));
+    }
+
+    private int row(float y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / cellSize)));
+    }
+}
@@ -0,0 +1,200 @@
+package inf112.skeleton.app.utils;
+
+import static inf112.skeleton.app.utils.Constants.PROFILER_SAMPLES;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * The FrameProfiler class measures how long the sections of a tick and a frame take, with {@link System#nanoTime()}.
+ * Each section keeps its latest samples in a ring buffer, from which rolling percentiles are computed.
+ *
+ * Timing a section costs two calls to nanoTime while the profiler is enabled, and nothing else while it is disabled.
+ * Each section must only be recorded by one thread. Reading the percentiles from another thread is allowed,
+ * but may include a sample that is being written.
+ */
+public class FrameProfiler {
+
+    /**
+     * The profiled sections of a tick and a frame.
+     */
+    public enum Section {
+        /** A whole tick of the game logic. */
+        TICK("tick"),
+        /** Stepping the physics world. */
+        WORLD_STEP("world.step"),
+        /** Updating the flow field and the enemy AI. */
+        ENEMY_AI("enemy AI"),
+        /** Checking the player against enemies, spikes and coins. */
+        COLLISIONS("collisions"),
+        /** Removing dead enemies. */
+        CLEANUP("cleanup"),
+        /** A whole frame on the render thread. */
+        FRAME("frame"),
+        /** Drawing the map. */
+        MAP_RENDER("map render"),
+        /** Drawing the entities, HUD and UI with the sprite batch. */
+        SPRITE_BATCH("sprite batch");
+
+        private final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Gets the name of the section shown in the profiler overlay.
+         *
+         * @return The label.
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final long[][] samples;
+    private final int[] counts = new int[Section.values().length];
+    private final long[] sorted;
+    private volatile boolean enabled;
+
+    /**
+     * Constructs a disabled profiler keeping {@link Constants#PROFILER_SAMPLES} samples per section.
+     */
+    public FrameProfiler() {
+        this(PROFILER_SAMPLES);
+    }
+
+    /**
+     * Constructs a disabled profiler.
+     *
+     * @param size The number of samples kept per section.
+     */
+    public FrameProfiler(int size) {
+        samples = new long[Section.values().length][size];
+        sorted = new long[size];
+    }
+
+    /**
+     * Checks if the profiler records samples.
+     *
+     * @return True if the profiler is enabled, otherwise false.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns recording on or off. Turning it on clears the old samples.
+     *
+     * @param enabled True to record samples, false to ignore them.
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            clear();
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts timing a section.
+     *
+     * @return The start time to pass to {@link #stop}, or 0 if the profiler is disabled.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Stops timing a section and records how long it took.
+     *
+     * @param section The section that was timed.
+     * @param start   The time returned by {@link #start}. Nothing is recorded if it is 0.
+     */
+    public void stop(Section section, long start) {
+        if (start != 0) {
+            record(section, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records a sample, replacing the oldest one if the buffer of the section is full.
+     *
+     * @param section The section.
+     * @param nanos   How long the section took in nanoseconds.
+     */
+    public void record(Section section, long nanos) {
+        int index = section.ordinal();
+        long[] buffer = samples[index];
+        buffer[counts[index] % buffer.length] = nanos;
+        counts[index]++;
+    }
+
+    /**
+     * Gets the number of samples kept for a section.
+     *
+     * @param section The section.
+     * @return The number of samples, at most the size of the buffer.
+     */
+    public int getSampleCount(Section section) {
+        return Math.min(counts[section.ordinal()], samples[section.ordinal()].length);
+    }
+
+    /**
+     * Computes the 50th, 95th and 99th percentiles of the kept samples of a section, by nearest rank.
+     *
+     * @param section The section.
+     * @param out     An array of at least 3 values, to store the percentiles in nanoseconds in. All 0 if there are no samples.
+     * @return The out array.
+     */
+    public long[] getPercentiles(Section section, long[] out) {
+        int count = getSampleCount(section);
+        if (count == 0) {
+            Arrays.fill(out, 0, 3, 0);
+            return out;
+        }
+        System.arraycopy(samples[section.ordinal()], 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        out[0] = sorted[rank(0.50, count)];
+        out[1] = sorted[rank(0.95, count)];
+        out[2] = sorted[rank(0.99, count)];
+        return out;
+    }
+
+    private static int rank(double percentile, int count) {
+        return Math.max(0, (int) Math.ceil(percentile * count) - 1);
+    }
+
+    /**
+     * Removes every sample.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    /**
+     * Gets the total number of garbage collections since the JVM started, over all collectors.
+     *
+     * @return The number of collections.
+     */
+    public static long getGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Gets the total time spent collecting garbage since the JVM started, over all collectors.
+     *
+     * @return The collection time in milliseconds.
+     */
+    public static long getGcTimeMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+}
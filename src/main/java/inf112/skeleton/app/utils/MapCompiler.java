@@ -0,0 +1,215 @@
+package inf112.skeleton.app.utils;
+
+import static inf112.skeleton.app.utils.Constants.*;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Polyline;
+import com.badlogic.gdx.utils.XmlReader;
+
+/**
+ * Build-time tool that compiles Tiled maps (.tmx) into the binary format of {@link CompiledMap}.
+ * The tiles and objects end up exactly where {@link com.badlogic.gdx.maps.tiled.TmxMapLoader} puts them,
+ * and the spawn raster is built from the "out-of-bounds-layer" like the game logic does.
+ *
+ * Only the features the game uses are supported: orthogonal maps with CSV tile layers, single-image tile sets,
+ * and polygon and polyline objects. A map using anything else is skipped, and is then loaded from its .tmx file.
+ *
+ * Run from Maven during the process-classes phase, see pom.xml.
+ */
+public class MapCompiler {
+    private static final String MAP_EXTENSION = ".tmx";
+    private static final long FLIPPED_HORIZONTALLY = 0x80000000L;
+    private static final long FLIPPED_VERTICALLY = 0x40000000L;
+    private static final long FLIPPED_DIAGONALLY = 0x20000000L;
+    private static final long GID_MASK = 0x0FFFFFFFL;
+
+    /**
+     * Compiles every map in a folder, writing each next to its .tmx file.
+     *
+     * @param args the folder holding the maps.
+     * @throws IOException if a map cannot be read or its compiled file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: MapCompiler <mapsDir>");
+        }
+        File[] maps = new File(args[0]).listFiles((dir, name) -> name.endsWith(MAP_EXTENSION));
+        if (maps == null) {
+            throw new IOException("Not a folder: " + args[0]);
+        }
+        for (File map : maps) {
+            String name = map.getName().substring(0, map.getName().length() - MAP_EXTENSION.length());
+            File output = new File(map.getParentFile(), name + CompiledMap.EXTENSION);
+            CompiledMap compiled;
+            try {
+                compiled = compile(map);
+            } catch (UnsupportedOperationException e) {
+                Files.deleteIfExists(output.toPath());
+                System.out.println("Skipped " + map.getName() + ": " + e.getMessage());
+                continue;
+            }
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(output))) {
+                compiled.write(out);
+            }
+            System.out.println("Compiled " + map.getName() + " into " + output.getName() + " (" + output.length() + " bytes)");
+        }
+    }
+
+    /**
+     * Compiles a Tiled map.
+     *
+     * @param file The .tmx file.
+     * @return The compiled map.
+     * @throws IOException                   if the map or one of its tile sets cannot be read.
+     * @throws UnsupportedOperationException if the map uses a feature the compiled format does not support.
+     */
+    public static CompiledMap compile(File file) throws IOException {
+        XmlReader.Element root = parse(file);
+        if (!"orthogonal".equals(root.getAttribute("orientation", null)) || root.getIntAttribute("infinite", 0) != 0) {
+            throw new UnsupportedOperationException("only finite orthogonal maps are supported");
+        }
+        int width = root.getIntAttribute("width");
+        int height = root.getIntAttribute("height");
+        int tileWidth = root.getIntAttribute("tilewidth");
+        int tileHeight = root.getIntAttribute("tileheight");
+        float heightInPixels = height * tileHeight;
+
+        List<CompiledMap.Tileset> tilesets = new ArrayList<>();
+        List<CompiledMap.Layer> layers = new ArrayList<>();
+        List<float[]> outOfBounds = new ArrayList<>();
+        File mapDir = file.getAbsoluteFile().getParentFile();
+        for (int i = 0; i < root.getChildCount(); i++) {
+            XmlReader.Element element = root.getChild(i);
+            switch (element.getName()) {
+                case "tileset" -> tilesets.add(readTileset(element, mapDir));
+                case "layer" -> layers.add(readTileLayer(element, width, height));
+                case "objectgroup" -> {
+                    CompiledMap.ObjectLayer layer = readObjectLayer(element, heightInPixels);
+                    if ("out-of-bounds-layer".equals(layer.getName())) {
+                        for (int j = 0; j < layer.getShapeCount(); j++) {
+                            if (layer.isPolygon(j)) {
+                                outOfBounds.add(layer.getVertices(j));
+                            }
+                        }
+                    }
+                    layers.add(layer);
+                }
+                case "properties", "editorsettings" -> { }
+                default -> throw new UnsupportedOperationException("unsupported element <" + element.getName() + ">");
+            }
+        }
+
+        SpawnRaster spawnRaster = SpawnRaster.build(outOfBounds.toArray(new float[0][]), WINDOW_WIDTH, WINDOW_HEIGHT, SPAWN_CELL_SIZE);
+        return new CompiledMap(width, height, tileWidth, tileHeight, tilesets, layers, spawnRaster);
+    }
+
+    private static XmlReader.Element parse(File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            return new XmlReader().parse(in);
+        }
+    }
+
+    private static CompiledMap.Tileset readTileset(XmlReader.Element element, File mapDir) throws IOException {
+        int firstGid = element.getIntAttribute("firstgid");
+        XmlReader.Element tileset = element;
+        File tilesetDir = mapDir;
+        String source = element.getAttribute("source", null);
+        if (source != null) {
+            File tilesetFile = new File(mapDir, source);
+            tileset = parse(tilesetFile);
+            tilesetDir = tilesetFile.getParentFile();
+        }
+        if (tileset.getChildByName("tile") != null || tileset.getChildByName("tileoffset") != null
+                || tileset.getChildByName("properties") != null) {
+            throw new UnsupportedOperationException("tile set " + tileset.getAttribute("name", "") + " has tile properties, animations or offsets");
+        }
+        XmlReader.Element image = tileset.getChildByName("image");
+        if (image == null) {
+            throw new UnsupportedOperationException("tile set " + tileset.getAttribute("name", "") + " has no single image");
+        }
+        String imagePath = mapDir.toPath().normalize().relativize(new File(tilesetDir, image.getAttribute("source")).toPath().normalize())
+                .toString().replace(File.separatorChar, '/');
+        return new CompiledMap.Tileset(tileset.getAttribute("name", ""), firstGid, imagePath,
+                image.getIntAttribute("width"), image.getIntAttribute("height"),
+                tileset.getIntAttribute("tilewidth"), tileset.getIntAttribute("tileheight"),
+                tileset.getIntAttribute("spacing", 0), tileset.getIntAttribute("margin", 0));
+    }
+
+    private static CompiledMap.TileLayer readTileLayer(XmlReader.Element element, int width, int height) {
+        XmlReader.Element data = element.getChildByName("data");
+        if (data == null || !"csv".equals(data.getAttribute("encoding", null)) || data.getAttribute("compression", null) != null) {
+            throw new UnsupportedOperationException("layer " + element.getAttribute("name", "") + " is not CSV encoded");
+        }
+        String[] values = data.getText().split(",");
+        if (values.length != width * height) {
+            throw new UnsupportedOperationException("layer " + element.getAttribute("name", "") + " does not cover the map");
+        }
+        short[] tiles = new short[values.length];
+        for (int i = 0; i < values.length; i++) {
+            long value = Long.parseLong(values[i].trim());
+            int gid = (int) (value & GID_MASK);
+            if (gid > CompiledMap.GID_MASK) {
+                throw new UnsupportedOperationException("tile id " + gid + " does not fit in " + CompiledMap.GID_BITS + " bits");
+            }
+            tiles[i] = CompiledMap.packTile(gid, (value & FLIPPED_HORIZONTALLY) != 0,
+                    (value & FLIPPED_VERTICALLY) != 0, (value & FLIPPED_DIAGONALLY) != 0);
+        }
+        return new CompiledMap.TileLayer(element.getAttribute("name", ""), element.getIntAttribute("visible", 1) == 1,
+                element.getFloatAttribute("opacity", 1f), element.getFloatAttribute("offsetx", 0f),
+                element.getFloatAttribute("offsety", 0f), tiles);
+    }
+
+    /**
+     * Reads the polygons and polylines of an object layer, transformed to world coordinates
+     * the same way {@link com.badlogic.gdx.maps.tiled.TmxMapLoader} does: y is flipped and the object position is added.
+     */
+    private static CompiledMap.ObjectLayer readObjectLayer(XmlReader.Element element, float heightInPixels) {
+        CompiledMap.ObjectLayer layer = new CompiledMap.ObjectLayer(element.getAttribute("name", ""),
+                element.getIntAttribute("visible", 1) == 1, element.getFloatAttribute("opacity", 1f));
+        for (XmlReader.Element object : element.getChildrenByName("object")) {
+            XmlReader.Element polygon = object.getChildByName("polygon");
+            XmlReader.Element polyline = object.getChildByName("polyline");
+            if (polygon == null && polyline == null) {
+                throw new UnsupportedOperationException("object " + object.getAttribute("id", "") + " is not a polygon or polyline");
+            }
+            if (object.getFloatAttribute("rotation", 0f) != 0f) {
+                throw new UnsupportedOperationException("object " + object.getAttribute("id", "") + " is rotated");
+            }
+            float x = object.getFloatAttribute("x", 0f);
+            float y = heightInPixels - object.getFloatAttribute("y", 0f);
+            float[] vertices = readPoints(polygon != null ? polygon : polyline);
+            if (polygon != null) {
+                Polygon shape = new Polygon(vertices);
+                shape.setPosition(x, y);
+                layer.addShape(shape.getTransformedVertices().clone(), true);
+            } else {
+                Polyline shape = new Polyline(vertices);
+                shape.setPosition(x, y);
+                layer.addShape(shape.getTransformedVertices().clone(), false);
+            }
+        }
+        return layer;
+    }
+
+    private static float[] readPoints(XmlReader.Element element) {
+        String[] points = element.getAttribute("points").split(" ");
+        float[] vertices = new float[points.length * 2];
+        for (int i = 0; i < points.length; i++) {
+            String[] point = points[i].split(",");
+            vertices[i * 2] = Float.parseFloat(point[0]);
+            vertices[i * 2 + 1] = -Float.parseFloat(point[1]);
+        }
+        return vertices;
+    }
+}
@@ -0,0 +1,153 @@
+package inf112.skeleton.app.utils;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * A uniform grid that sorts items into cells by position, so that the items near a point
+ * can be found without checking every item.
+ * Items are moved between cells only when they cross a cell border, see {@link #update}.
+ * Positions outside the grid are clamped to the border cells, so every item is always found.
+ *
+ * @param <T> The type of the items in the grid.
+ */
+public class SpatialHashGrid<T> {
+    private final int cols;
+    private final int rows;
+    private final float cellWidth;
+    private final float cellHeight;
+    private final Array<T>[] cells;
+    private final ObjectIntMap<T> cellOf = new ObjectIntMap<>();
+
+    /**
+     * Constructs an empty grid.
+     *
+     * @param cols       The number of columns.
+     * @param rows       The number of rows.
+     * @param cellWidth  The width of a cell.
+     * @param cellHeight The height of a cell.
+     */
+    @SuppressWarnings("unchecked")
+    public SpatialHashGrid(int cols, int rows, float cellWidth, float cellHeight) {
+        if (cols <= 0 || rows <= 0 || cellWidth <= 0 || cellHeight <= 0) {
+            throw new IllegalArgumentException("Grid size must be positive");
+        }
+        this.cols = cols;
+        this.rows = rows;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.cells = new Array[cols * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Array<>(false, 4);
+        }
+    }
+
+    /**
+     * Adds an item at the given position. Adding an item that is already in the grid moves it.
+     *
+     * @param item The item to add.
+     * @param x    The x-coordinate of the item.
+     * @param y    The y-coordinate of the item.
+     */
+    public void insert(T item, float x, float y) {
+        if (cellOf.containsKey(item)) {
+            update(item, x, y);
+            return;
+        }
+        int cell = cellIndex(x, y);
+        cells[cell].add(item);
+        cellOf.put(item, cell);
+    }
+
+    /**
+     * Moves an item to the cell of its new position. Does nothing if the item stays in the same cell,
+     * or if it is not in the grid.
+     *
+     * @param item The item that moved.
+     * @param x    The new x-coordinate of the item.
+     * @param y    The new y-coordinate of the item.
+     */
+    public void update(T item, float x, float y) {
+        int oldCell = cellOf.get(item, -1);
+        if (oldCell < 0) {
+            return;
+        }
+        int newCell = cellIndex(x, y);
+        if (newCell != oldCell) {
+            cells[oldCell].removeValue(item, true);
+            cells[newCell].add(item);
+            cellOf.put(item, newCell);
+        }
+    }
+
+    /**
+     * Removes an item from the grid.
+     *
+     * @param item The item to remove.
+     * @return True if the item was in the grid, otherwise false.
+     */
+    public boolean remove(T item) {
+        int cell = cellOf.remove(item, -1);
+        if (cell < 0) {
+            return false;
+        }
+        cells[cell].removeValue(item, true);
+        return true;
+    }
+
+    /**
+     * Finds the items in every cell touched by the square around a point.
+     * The result may contain items a little further away than the radius, so callers
+     * still need to do their own exact check.
+     *
+     * @param x      The x-coordinate of the point.
+     * @param y      The y-coordinate of the point.
+     * @param radius Half the side of the square to search.
+     * @param result The array to fill. It is cleared first, so it can be reused between calls.
+     * @return The result array.
+     */
+    public Array<T> query(float x, float y, float radius, Array<T> result) {
+        result.clear();
+        int minCol = column(x - radius);
+        int maxCol = column(x + radius);
+        int minRow = row(y - radius);
+        int maxRow = row(y + radius);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                result.addAll(cells[row * cols + col]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes every item from the grid.
+     */
+    public void clear() {
+        for (Array<T> cell : cells) {
+            cell.clear();
+        }
+        cellOf.clear();
+    }
+
+    /**
+     * Gets the number of items in the grid.
+     *
+     * @return The number of items.
+     */
+    public int size() {
+        return cellOf.size;
+    }
+
+    private int cellIndex(float x, float y) {
+        return row(y) * cols + column(x);
+    }
+
+    private int column(float x) {
+        return Math.min(cols - 1, Math.max(0, (int) Math.floor(x / cellWidth)));
+    }
+
+    private int row(float y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / cellHeight)));
+    }
+}
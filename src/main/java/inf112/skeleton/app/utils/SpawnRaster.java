@@ -0,0 +1,225 @@
+package inf112.skeleton.app.utils;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * A grid of the cells where entities may spawn, computed once from the map's out-of-bounds polygons.
+ * Picking a spawn position is then a random legal cell plus a random offset inside it,
+ * with no polygon tests.
+ */
+public class SpawnRaster {
+    // Points tested per cell side when rasterizing, so 4x4 points per cell
+    private static final int SAMPLES_PER_SIDE = 4;
+
+    private final int cols;
+    private final int rows;
+    private final float cellWidth;
+    private final float cellHeight;
+    private final int[] legalCells;
+
+    /**
+     * Constructs a raster from a list of legal cells.
+     *
+     * @param cols       The number of columns.
+     * @param rows       The number of rows.
+     * @param cellWidth  The width of a cell.
+     * @param cellHeight The height of a cell.
+     * @param legalCells The indices (row * cols + col) of the cells where entities may spawn, in increasing order.
+     */
+    public SpawnRaster(int cols, int rows, float cellWidth, float cellHeight, int[] legalCells) {
+        this.cols = cols;
+        this.rows = rows;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.legalCells = legalCells;
+    }
+
+    /**
+     * Rasterizes the area from (0, 0) to (width, height) against a set of out-of-bounds polygons.
+     * A cell is legal when none of its sample points is inside a polygon and no polygon corner lies in it,
+     * so every point of a legal cell is a legal spawn position, except next to polygon edges thinner than a sample step.
+     *
+     * @param polygons The out-of-bounds polygons, as transformed x, y vertex pairs.
+     * @param width    The width of the area.
+     * @param height   The height of the area.
+     * @param cellSize The side of a cell.
+     * @return The spawn raster.
+     */
+    public static SpawnRaster build(float[][] polygons, float width, float height, float cellSize) {
+        int cols = Math.max(1, (int) Math.ceil(width / cellSize));
+        int rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        IntArray legal = new IntArray();
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (isCellLegal(polygons, col * cellSize, row * cellSize, cellSize)) {
+                    legal.add(row * cols + col);
+                }
+            }
+        }
+        return new SpawnRaster(cols, rows, cellSize, cellSize, legal.toArray());
+    }
+
+    private static boolean isCellLegal(float[][] polygons, float left, float bottom, float size) {
+        float step = size / SAMPLES_PER_SIDE;
+        for (float[] polygon : polygons) {
+            if (!overlapsBounds(polygon, left, bottom, size)) {
+                continue;
+            }
+            for (int i = 0; i < polygon.length; i += 2) {
+                if (polygon[i] >= left && polygon[i] <= left + size
+                        && polygon[i + 1] >= bottom && polygon[i + 1] <= bottom + size) {
+                    return false;
+                }
+            }
+            for (int sy = 0; sy <= SAMPLES_PER_SIDE; sy++) {
+                for (int sx = 0; sx <= SAMPLES_PER_SIDE; sx++) {
+                    if (isPointInPolygon(polygon, left + sx * step, bottom + sy * step)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean overlapsBounds(float[] polygon, float left, float bottom, float size) {
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < polygon.length; i += 2) {
+            minX = Math.min(minX, polygon[i]);
+            maxX = Math.max(maxX, polygon[i]);
+            minY = Math.min(minY, polygon[i + 1]);
+            maxY = Math.max(maxY, polygon[i + 1]);
+        }
+        return maxX >= left && minX <= left + size && maxY >= bottom && minY <= bottom + size;
+    }
+
+    /**
+     * Determines if a point is inside a polygon, by counting how many of the polygon's edges
+     * a horizontal ray from the point crosses.
+     *
+     * @param polygonVertices The x, y pairs of the polygon's vertices.
+     * @param x               The x-coordinate of the point.
+     * @param y               The y-coordinate of the point.
+     * @return True if the point is inside the polygon, otherwise false.
+     */
+    public static boolean isPointInPolygon(float[] polygonVertices, float x, float y) {
+        int intersects = 0;
+        for (int i = 0; i < polygonVertices.length; i += 2) {
+            float x1 = polygonVertices[i];
+            float y1 = polygonVertices[i + 1];
+            float x2 = polygonVertices[(i + 2) % polygonVertices.length];
+            float y2 = polygonVertices[(i + 3) % polygonVertices.length];
+
+            if (((y1 <= y && y < y2) || (y2 <= y && y < y1)) &&
+                    (x < (x2 - x1) * (y - y1) / (y2 - y1) + x1)) {
+                intersects++;
+            }
+        }
+        return (intersects & 1) == 1;
+    }
+
+    /**
+     * Picks a random position in a random legal cell.
+     *
+     * @param out The vector to store the position in.
+     * @return The out vector.
+     * @throws IllegalStateException if there are no legal cells.
+     */
+    public Vector2 randomPosition(Vector2 out) {
+        if (legalCells.length == 0) {
+            throw new IllegalStateException("No legal spawn cells");
+        }
+        int cell = legalCells[MathUtils.random(legalCells.length - 1)];
+        int col = cell % cols;
+        int row = cell / cols;
+        return out.set((col + MathUtils.random()) * cellWidth, (row + MathUtils.random()) * cellHeight);
+    }
+
+    /**
+     * Checks if a position lies in a legal cell.
+     *
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @return True if the position is inside the raster and its cell is legal.
+     */
+    public boolean isLegal(float x, float y) {
+        int col = (int) Math.floor(x / cellWidth);
+        int row = (int) Math.floor(y / cellHeight);
+        if (col < 0 || col >= cols || row < 0 || row >= rows) {
+            return false;
+        }
+        return Arrays.binarySearch(legalCells, row * cols + col) >= 0;
+    }
+
+    /**
+     * Checks if the raster covers the given area with the given cell size, as {@link #build} would.
+     *
+     * @param width    The width of the area.
+     * @param height   The height of the area.
+     * @param cellSize The side of a cell.
+     * @return True if the raster has the same grid, otherwise false.
+     */
+    public boolean isBuiltFor(float width, float height, float cellSize) {
+        return cellWidth == cellSize && cellHeight == cellSize
+                && cols == Math.max(1, (int) Math.ceil(width / cellSize))
+                && rows == Math.max(1, (int) Math.ceil(height / cellSize));
+    }
+
+    /**
+     * Gets the number of legal cells.
+     *
+     * @return The number of legal cells.
+     */
+    public int getLegalCellCount() {
+        return legalCells.length;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return The number of columns.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the width of a cell.
+     *
+     * @return The width of a cell.
+     */
+    public float getCellWidth() {
+        return cellWidth;
+    }
+
+    /**
+     * Gets the height of a cell.
+     *
+     * @return The height of a cell.
+     */
+    public float getCellHeight() {
+        return cellHeight;
+    }
+
+    /**
+     * Gets the indices of the legal cells, in increasing order.
+     *
+     * @return The legal cells. Not a copy, so it must not be changed.
+     */
+    public int[] getLegalCells() {
+        return legalCells;
+    }
+}
@@ -0,0 +1,66 @@
+package inf112.skeleton.app.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands values from one writer thread to one reader thread without locks or copying.
+ * There are three buffers: the writer fills the back buffer, the reader reads the front buffer,
+ * and the middle one holds the latest published value. Publishing and acquiring swap a buffer with the middle one,
+ * so neither thread ever waits for the other, and the reader always gets the newest complete value.
+ *
+ * @param <T> The type of the buffers.
+ */
+public class TripleBuffer<T> {
+    // The middle index is kept in the low bits, with a flag for whether it is newer than the front buffer
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100;
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;
+    private int front = 2;
+
+    /**
+     * Constructs a triple buffer with three buffers from a factory.
+     *
+     * @param factory Creates each of the three buffers.
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Gets the buffer to write the next value into. Only call from the writer thread.
+     *
+     * @return The back buffer.
+     */
+    @SuppressWarnings("unchecked")
+    public T getBack() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Publishes the back buffer as the latest value, and takes a new back buffer.
+     * Only call from the writer thread.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Gets the latest published value. Only call from the reader thread.
+     * The value stays the same until the next call, even if the writer publishes in the meantime.
+     *
+     * @return The front buffer, holding the latest value published before this call.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) buffers[front];
+    }
+}
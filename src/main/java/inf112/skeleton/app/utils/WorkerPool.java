@@ -0,0 +1,33 @@
+package inf112.skeleton.app.utils;
+
+import static inf112.skeleton.app.utils.Constants.LOADING_THREADS;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The WorkerPool class holds the threads that decode sounds and images in parallel while the game starts.
+ * There are {@link Constants#LOADING_THREADS} threads. They are daemons, so they never keep the game running.
+ */
+public final class WorkerPool {
+    private static final AtomicInteger COUNT = new AtomicInteger();
+    private static final ExecutorService SHARED = Executors.newFixedThreadPool(LOADING_THREADS, task -> {
+        Thread thread = new Thread(task, "worker-" + COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private WorkerPool() {
+    }
+
+    /**
+     * Gets the pool shared by every loader.
+     *
+     * @return The worker pool.
+     */
+    public static Executor shared() {
+        return SHARED;
+    }
+}
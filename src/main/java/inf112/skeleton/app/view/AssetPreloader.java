@@ -0,0 +1,214 @@
+package inf112.skeleton.app.view;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import inf112.skeleton.app.utils.WorkerPool;
+
+/**
+ * The AssetPreloader class loads textures and texture atlases while the loading screen is shown.
+ *
+ * Images are read and decoded into {@link Pixmap}s in parallel on a worker pool. Only uploading them to the GPU
+ * happens on the render thread, in {@link #update(long)}, which stops after a time budget so the loading screen
+ * keeps drawing frames. Loaded textures and atlases are handed over with {@link #takeTexture(String)} and
+ * {@link #takeAtlas(String)}; anything not taken is disposed together with the preloader.
+ */
+public class AssetPreloader implements Disposable {
+
+    /**
+     * The decoded images of a texture or an atlas, waiting to be uploaded.
+     */
+    private static class Decoded {
+        final String path;
+        final Pixmap[] pixmaps;
+        final TextureAtlasData atlas;
+        final RuntimeException error;
+
+        Decoded(String path, Pixmap[] pixmaps, TextureAtlasData atlas, RuntimeException error) {
+            this.path = path;
+            this.pixmaps = pixmaps;
+            this.atlas = atlas;
+            this.error = error;
+        }
+    }
+
+    private final Executor workers;
+    private final ConcurrentLinkedQueue<Decoded> decoded = new ConcurrentLinkedQueue<>();
+    private final Map<String, Texture> textures = new HashMap<>();
+    private final Map<String, TextureAtlas> atlases = new HashMap<>();
+    private int queued;
+    private int uploaded;
+
+    /**
+     * Constructs a preloader decoding on the shared {@link WorkerPool}.
+     */
+    public AssetPreloader() {
+        this(WorkerPool.shared());
+    }
+
+    /**
+     * Constructs a preloader decoding on the given workers.
+     *
+     * @param workers Runs the decoding tasks.
+     */
+    public AssetPreloader(Executor workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Queues a texture to be decoded in the background.
+     *
+     * @param path The internal path of the image.
+     */
+    public void loadTexture(String path) {
+        queued++;
+        workers.execute(() -> {
+            try {
+                decoded.add(new Decoded(path, new Pixmap[] {new Pixmap(Gdx.files.internal(path))}, null, null));
+            } catch (RuntimeException e) {
+                decoded.add(new Decoded(path, null, null, e));
+            }
+        });
+    }
+
+    /**
+     * Queues a texture atlas to be parsed, and its page images decoded, in the background.
+     *
+     * @param path The internal path of the .atlas file.
+     */
+    public void loadAtlas(String path) {
+        queued++;
+        workers.execute(() -> {
+            Pixmap[] pages = null;
+            try {
+                FileHandle file = Gdx.files.internal(path);
+                TextureAtlasData data = new TextureAtlasData(file, file.parent(), false);
+                pages = new Pixmap[data.getPages().size];
+                for (int i = 0; i < pages.length; i++) {
+                    pages[i] = new Pixmap(data.getPages().get(i).textureFile);
+                }
+                decoded.add(new Decoded(path, pages, data, null));
+            } catch (RuntimeException e) {
+                disposeAll(pages);
+                decoded.add(new Decoded(path, null, null, e));
+            }
+        });
+    }
+
+    /**
+     * Uploads decoded images to the GPU until the queue is empty or the time budget is spent.
+     * At least one image is uploaded per call if one is ready. Must be called on the render thread.
+     *
+     * @param budgetMillis How long to spend uploading, in milliseconds.
+     * @return True if every queued texture and atlas is loaded, otherwise false.
+     * @throws GdxRuntimeException If an image or atlas could not be read.
+     */
+    public boolean update(long budgetMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        Decoded next;
+        while ((next = decoded.poll()) != null) {
+            uploaded++;
+            if (next.error != null) {
+                throw new GdxRuntimeException("Couldn't load " + next.path, next.error);
+            }
+            upload(next);
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        return isDone();
+    }
+
+    private void upload(Decoded next) {
+        if (next.atlas == null) {
+            textures.put(next.path, new Texture(next.pixmaps[0]));
+        } else {
+            for (int i = 0; i < next.pixmaps.length; i++) {
+                TextureAtlasData.Page page = next.atlas.getPages().get(i);
+                page.texture = new Texture(next.pixmaps[i], page.format, page.useMipMaps);
+            }
+            atlases.put(next.path, new TextureAtlas(next.atlas));
+        }
+        disposeAll(next.pixmaps);
+    }
+
+    private static void disposeAll(Pixmap[] pixmaps) {
+        if (pixmaps == null) {
+            return;
+        }
+        for (Pixmap pixmap : pixmaps) {
+            if (pixmap != null) {
+                pixmap.dispose();
+            }
+        }
+    }
+
+    /**
+     * Checks if every queued texture and atlas is loaded.
+     *
+     * @return True if nothing is left to decode or upload, otherwise false.
+     */
+    public boolean isDone() {
+        return uploaded == queued;
+    }
+
+    /**
+     * Gets how much of the queued textures and atlases are loaded.
+     *
+     * @return The progress, from 0 to 1.
+     */
+    public float getProgress() {
+        return queued == 0 ? 1 : (float) uploaded / queued;
+    }
+
+    /**
+     * Hands over a loaded texture. The caller becomes responsible for disposing it.
+     *
+     * @param path The internal path the texture was queued with.
+     * @return The texture, or null if it is not loaded or was already taken.
+     */
+    public Texture takeTexture(String path) {
+        return textures.remove(path);
+    }
+
+    /**
+     * Hands over a loaded texture atlas. The caller becomes responsible for disposing it.
+     *
+     * @param path The internal path the atlas was queued with.
+     * @return The atlas, or null if it is not loaded or was already taken.
+     */
+    public TextureAtlas takeAtlas(String path) {
+        return atlases.remove(path);
+    }
+
+    /**
+     * Disposes the textures and atlases that were not taken, and the images still waiting to be uploaded.
+     */
+    @Override
+    public void dispose() {
+        for (Texture texture : textures.values()) {
+            texture.dispose();
+        }
+        for (TextureAtlas atlas : atlases.values()) {
+            atlas.dispose();
+        }
+        textures.clear();
+        atlases.clear();
+        Decoded next;
+        while ((next = decoded.poll()) != null) {
+            disposeAll(next.pixmaps);
+        }
+    }
+}
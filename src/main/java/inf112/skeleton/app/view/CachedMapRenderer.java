@@ -0,0 +1,265 @@
+package inf112.skeleton.app.view;
+
+import static inf112.skeleton.app.utils.Constants.*;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Renders a Tiled map whose tile layers never change, by building the geometry of the tiles once.
+ * The map is split into chunks of {@link inf112.skeleton.app.utils.Constants#MAP_CHUNK_TILES} tiles squared,
+ * each baked into a {@link SpriteCache} when the renderer is created. Every frame only the chunks the camera sees are drawn,
+ * each with a single draw call per layer, so the cost does not grow with the size of the map.
+ *
+ * Layers that cannot be cached, such as image layers or tile layers with animated tiles,
+ * are still drawn every frame by an {@link OrthogonalTiledMapRenderer}. The layers are drawn in the order of the map,
+ * in passes of neighbouring layers that are either all cached or all drawn by the fallback renderer.
+ */
+public class CachedMapRenderer implements Disposable {
+    // The largest number of sprites a SpriteCache can index with 16-bit indices
+    private static final int MAX_INDEXED_SPRITES = 8191;
+
+    private final SpriteCache cache;
+    private final OrthogonalTiledMapRenderer fallback;
+    // The layer indices of each pass, in the order of the map
+    private final int[][] passes;
+    private final boolean[] passCached;
+    private final float chunkWidth;
+    private final float chunkHeight;
+    private final int chunkCols;
+    private final int chunkRows;
+    // The cache ids by [layer index][chunk row * chunkCols + chunk col], -1 for an empty chunk, null for an uncached layer
+    private final int[][] chunkCaches;
+
+    /**
+     * Bakes the static tile layers of a map into chunks.
+     *
+     * @param map The map to render.
+     */
+    public CachedMapRenderer(TiledMap map) {
+        this(map, null);
+    }
+
+    /**
+     * Bakes the static tile layers of a map into chunks of a given sprite cache.
+     *
+     * @param map   The map to render.
+     * @param cache The sprite cache to bake into, or null to make one large enough for the map.
+     */
+    CachedMapRenderer(TiledMap map, SpriteCache cache) {
+        MapLayers layers = map.getLayers();
+        passes = splitIntoPasses(layers);
+        passCached = new boolean[passes.length];
+        IntArray cached = new IntArray();
+        boolean anyUncached = false;
+        int tileWidth = 0;
+        int tileHeight = 0;
+        int width = 0;
+        int height = 0;
+        int cellCount = 0;
+        for (int p = 0; p < passes.length; p++) {
+            passCached[p] = isCacheable(layers.get(passes[p][0]));
+            anyUncached |= !passCached[p];
+            if (!passCached[p]) {
+                continue;
+            }
+            for (int i : passes[p]) {
+                TiledMapTileLayer tileLayer = (TiledMapTileLayer) layers.get(i);
+                cached.add(i);
+                tileWidth = Math.max(tileWidth, tileLayer.getTileWidth());
+                tileHeight = Math.max(tileHeight, tileLayer.getTileHeight());
+                width = Math.max(width, tileLayer.getWidth());
+                height = Math.max(height, tileLayer.getHeight());
+                cellCount += tileLayer.getWidth() * tileLayer.getHeight();
+            }
+        }
+
+        chunkWidth = Math.max(1, tileWidth) * MAP_CHUNK_TILES;
+        chunkHeight = Math.max(1, tileHeight) * MAP_CHUNK_TILES;
+        chunkCols = Math.max(1, (width + MAP_CHUNK_TILES - 1) / MAP_CHUNK_TILES);
+        chunkRows = Math.max(1, (height + MAP_CHUNK_TILES - 1) / MAP_CHUNK_TILES);
+        chunkCaches = new int[layers.getCount()][];
+        fallback = anyUncached ? new OrthogonalTiledMapRenderer(map) : null;
+
+        int size = Math.max(1, cellCount);
+        this.cache = cache != null ? cache : new SpriteCache(size, size <= MAX_INDEXED_SPRITES);
+        Sprite sprite = new Sprite();
+        for (int i = 0; i < cached.size; i++) {
+            chunkCaches[cached.get(i)] = bakeLayer((TiledMapTileLayer) layers.get(cached.get(i)), sprite);
+        }
+    }
+
+    /**
+     * Splits the visible layers of a map into passes of neighbouring layers that are either all cacheable or all not,
+     * keeping the order of the map.
+     *
+     * @param layers The layers of the map.
+     * @return The layer indices of each pass.
+     */
+    static int[][] splitIntoPasses(MapLayers layers) {
+        Array<int[]> passes = new Array<>(int[].class);
+        IntArray pass = new IntArray();
+        boolean passCacheable = false;
+        for (int i = 0; i < layers.getCount(); i++) {
+            MapLayer layer = layers.get(i);
+            if (!layer.isVisible()) {
+                continue;
+            }
+            boolean cacheable = isCacheable(layer);
+            if (pass.size > 0 && cacheable != passCacheable) {
+                passes.add(pass.toArray());
+                pass.clear();
+            }
+            passCacheable = cacheable;
+            pass.add(i);
+        }
+        if (pass.size > 0) {
+            passes.add(pass.toArray());
+        }
+        return passes.toArray();
+    }
+
+    /**
+     * Checks if a layer can be baked: a tile layer with no animated tiles.
+     *
+     * @param layer The layer to check.
+     * @return True if the layer's tiles never change, otherwise false.
+     */
+    static boolean isCacheable(MapLayer layer) {
+        if (!(layer instanceof TiledMapTileLayer)) {
+            return false;
+        }
+        TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+        for (int y = 0; y < tileLayer.getHeight(); y++) {
+            for (int x = 0; x < tileLayer.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = tileLayer.getCell(x, y);
+                if (cell != null && cell.getTile() instanceof AnimatedTiledMapTile) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private int[] bakeLayer(TiledMapTileLayer layer, Sprite sprite) {
+        int[] ids = new int[chunkCols * chunkRows];
+        float tileWidth = layer.getTileWidth();
+        float tileHeight = layer.getTileHeight();
+        float offsetX = layer.getRenderOffsetX();
+        float offsetY = -layer.getRenderOffsetY();
+        for (int chunkRow = 0; chunkRow < chunkRows; chunkRow++) {
+            for (int chunkCol = 0; chunkCol < chunkCols; chunkCol++) {
+                cache.beginCache();
+                int tiles = 0;
+                int startX = chunkCol * MAP_CHUNK_TILES;
+                int startY = chunkRow * MAP_CHUNK_TILES;
+                int endX = Math.min(layer.getWidth(), startX + MAP_CHUNK_TILES);
+                int endY = Math.min(layer.getHeight(), startY + MAP_CHUNK_TILES);
+                for (int y = startY; y < endY; y++) {
+                    for (int x = startX; x < endX; x++) {
+                        TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                        if (cell == null || cell.getTile() == null) {
+                            continue;
+                        }
+                        TiledMapTile tile = cell.getTile();
+                        sprite.setRegion(tile.getTextureRegion());
+                        sprite.setSize(tile.getTextureRegion().getRegionWidth(), tile.getTextureRegion().getRegionHeight());
+                        sprite.setOrigin(tileWidth / 2, tileHeight / 2);
+                        sprite.setFlip(cell.getFlipHorizontally(), cell.getFlipVertically());
+                        sprite.setRotation(cell.getRotation() * 90);
+                        sprite.setPosition(x * tileWidth + tile.getOffsetX() + offsetX, y * tileHeight + tile.getOffsetY() + offsetY);
+                        sprite.setAlpha(layer.getOpacity());
+                        cache.add(sprite);
+                        tiles++;
+                    }
+                }
+                int id = cache.endCache();
+                ids[chunkRow * chunkCols + chunkCol] = tiles > 0 ? id : -1;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Gets the chunk a coordinate lies in, clamped to the map.
+     *
+     * @param coordinate The x- or y-coordinate.
+     * @param chunkSize  The width or height of a chunk.
+     * @param chunks     The number of chunks along the axis.
+     * @return The column or row of the chunk.
+     */
+    static int chunkAt(float coordinate, float chunkSize, int chunks) {
+        return Math.max(0, Math.min(chunks - 1, (int) Math.floor(coordinate / chunkSize)));
+    }
+
+    /**
+     * Draws the layers in the order of the map: the chunks the camera sees of cached layers,
+     * and the other layers with the fallback renderer.
+     * A sprite cache does not turn on blending like a sprite batch does, so it is turned on around the cached passes,
+     * for the transparent pixels of tiles and the opacity of layers, and turned off again if it was off before.
+     *
+     * @param cam The camera viewing the map.
+     */
+    public void render(OrthographicCamera cam) {
+        float halfWidth = cam.viewportWidth * cam.zoom / 2;
+        float halfHeight = cam.viewportHeight * cam.zoom / 2;
+        int firstCol = chunkAt(cam.position.x - halfWidth, chunkWidth, chunkCols);
+        int lastCol = chunkAt(cam.position.x + halfWidth, chunkWidth, chunkCols);
+        int firstRow = chunkAt(cam.position.y - halfHeight, chunkHeight, chunkRows);
+        int lastRow = chunkAt(cam.position.y + halfHeight, chunkHeight, chunkRows);
+
+        cache.setProjectionMatrix(cam.combined);
+        if (fallback != null) {
+            fallback.setView(cam);
+        }
+        boolean wasBlending = Gdx.gl.glIsEnabled(GL20.GL_BLEND);
+        for (int p = 0; p < passes.length; p++) {
+            if (!passCached[p]) {
+                fallback.render(passes[p]);
+                continue;
+            }
+            // The fallback renderer's sprite batch turns blending off when it ends
+            Gdx.gl.glEnable(GL20.GL_BLEND);
+            Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            cache.begin();
+            for (int i : passes[p]) {
+                int[] layer = chunkCaches[i];
+                for (int row = firstRow; row <= lastRow; row++) {
+                    for (int col = firstCol; col <= lastCol; col++) {
+                        int id = layer[row * chunkCols + col];
+                        if (id >= 0) {
+                            cache.draw(id);
+                        }
+                    }
+                }
+            }
+            cache.end();
+        }
+        if (wasBlending) {
+            Gdx.gl.glEnable(GL20.GL_BLEND);
+        } else {
+            Gdx.gl.glDisable(GL20.GL_BLEND);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+        if (fallback != null) {
+            fallback.dispose();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package inf112.skeleton.app.view;
+
+import java.io.IOException;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.PolylineMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Polyline;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import inf112.skeleton.app.utils.CompiledMap;
+
+/**
+ * Loads a map compiled by {@link inf112.skeleton.app.utils.MapCompiler} into a {@link TiledMap}
+ * laid out like one loaded by {@link com.badlogic.gdx.maps.tiled.TmxMapLoader}.
+ * The file is memory-mapped when possible, and the tile set images are loaded as dependencies through the asset manager.
+ * The precomputed spawn raster is stored in the map property {@link CompiledMap#SPAWN_RASTER_PROPERTY}.
+ */
+public class CompiledMapLoader extends AsynchronousAssetLoader<TiledMap, CompiledMapLoader.Parameters> {
+
+    /**
+     * Parameters for loading a compiled map. The tile set textures are filtered like {@link com.badlogic.gdx.maps.tiled.TmxMapLoader} does by default.
+     */
+    public static class Parameters extends AssetLoaderParameters<TiledMap> {
+        public Texture.TextureFilter textureMinFilter = Texture.TextureFilter.Nearest;
+        public Texture.TextureFilter textureMagFilter = Texture.TextureFilter.Nearest;
+    }
+
+    private CompiledMap compiled;
+    private TiledMap map;
+
+    /**
+     * Constructs a loader resolving files with the given resolver.
+     *
+     * @param resolver The file handle resolver.
+     */
+    public CompiledMapLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+        try {
+            compiled = CompiledMap.load(file);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read compiled map: " + fileName, e);
+        }
+        TextureLoader.TextureParameter textureParameter = new TextureLoader.TextureParameter();
+        if (parameter != null) {
+            textureParameter.minFilter = parameter.textureMinFilter;
+            textureParameter.magFilter = parameter.textureMagFilter;
+        } else {
+            textureParameter.minFilter = Texture.TextureFilter.Nearest;
+            textureParameter.magFilter = Texture.TextureFilter.Nearest;
+        }
+        Array<AssetDescriptor> dependencies = new Array<>();
+        for (CompiledMap.Tileset tileset : compiled.getTilesets()) {
+            dependencies.add(new AssetDescriptor<>(imageFile(file, tileset), Texture.class, textureParameter));
+        }
+        return dependencies;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        map = new TiledMap();
+        MapProperties properties = map.getProperties();
+        properties.put("orientation", "orthogonal");
+        properties.put("width", compiled.getWidth());
+        properties.put("height", compiled.getHeight());
+        properties.put("tilewidth", compiled.getTileWidth());
+        properties.put("tileheight", compiled.getTileHeight());
+        properties.put(CompiledMap.SPAWN_RASTER_PROPERTY, compiled.getSpawnRaster());
+
+        for (CompiledMap.Tileset tileset : compiled.getTilesets()) {
+            Texture texture = manager.get(imageFile(file, tileset).path().replace('\\', '/'), Texture.class);
+            map.getTileSets().addTileSet(createTileset(tileset, texture));
+        }
+        for (CompiledMap.Layer layer : compiled.getLayers()) {
+            if (layer instanceof CompiledMap.TileLayer) {
+                map.getLayers().add(createTileLayer((CompiledMap.TileLayer) layer));
+            } else {
+                map.getLayers().add(createObjectLayer((CompiledMap.ObjectLayer) layer));
+            }
+        }
+    }
+
+    @Override
+    public TiledMap loadSync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        TiledMap loaded = map;
+        map = null;
+        compiled = null;
+        return loaded;
+    }
+
+    private static FileHandle imageFile(FileHandle mapFile, CompiledMap.Tileset tileset) {
+        FileHandle image = mapFile.parent();
+        for (String part : tileset.getImage().split("/")) {
+            image = "..".equals(part) ? image.parent() : image.child(part);
+        }
+        return image;
+    }
+
+    /**
+     * Cuts the tiles from the image the same way {@link com.badlogic.gdx.maps.tiled.TmxMapLoader} does,
+     * row by row from the top left, skipping the margin and spacing.
+     */
+    private static TiledMapTileSet createTileset(CompiledMap.Tileset tileset, Texture texture) {
+        TiledMapTileSet tileSet = new TiledMapTileSet();
+        tileSet.setName(tileset.getName());
+        MapProperties properties = tileSet.getProperties();
+        properties.put("firstgid", tileset.getFirstGid());
+        properties.put("imagesource", tileset.getImage());
+        properties.put("imagewidth", tileset.getImageWidth());
+        properties.put("imageheight", tileset.getImageHeight());
+        properties.put("tilewidth", tileset.getTileWidth());
+        properties.put("tileheight", tileset.getTileHeight());
+        properties.put("margin", tileset.getMargin());
+        properties.put("spacing", tileset.getSpacing());
+
+        int stopWidth = texture.getWidth() - tileset.getTileWidth();
+        int stopHeight = texture.getHeight() - tileset.getTileHeight();
+        int id = tileset.getFirstGid();
+        for (int y = tileset.getMargin(); y <= stopHeight; y += tileset.getTileHeight() + tileset.getSpacing()) {
+            for (int x = tileset.getMargin(); x <= stopWidth; x += tileset.getTileWidth() + tileset.getSpacing()) {
+                TiledMapTile tile = new StaticTiledMapTile(new TextureRegion(texture, x, y, tileset.getTileWidth(), tileset.getTileHeight()));
+                tile.setId(id);
+                tileSet.putTile(id++, tile);
+            }
+        }
+        return tileSet;
+    }
+
+    private TiledMapTileLayer createTileLayer(CompiledMap.TileLayer source) {
+        int width = compiled.getWidth();
+        int height = compiled.getHeight();
+        TiledMapTileLayer layer = new TiledMapTileLayer(width, height, compiled.getTileWidth(), compiled.getTileHeight());
+        setLayerInfo(layer, source);
+        layer.setOffsetX(source.getOffsetX());
+        layer.setOffsetY(source.getOffsetY());
+        short[] tiles = source.getTiles();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int packed = tiles[y * width + x] & 0xFFFF;
+                TiledMapTile tile = map.getTileSets().getTile(packed & CompiledMap.GID_MASK);
+                if (tile != null) {
+                    TiledMapTileLayer.Cell cell = createCell((packed & CompiledMap.FLIP_HORIZONTALLY) != 0,
+                            (packed & CompiledMap.FLIP_VERTICALLY) != 0, (packed & CompiledMap.FLIP_DIAGONALLY) != 0);
+                    cell.setTile(tile);
+                    // Tiled counts rows from the top, libGDX from the bottom
+                    layer.setCell(x, height - 1 - y, cell);
+                }
+            }
+        }
+        return layer;
+    }
+
+    /**
+     * Creates a cell with the flips of a Tiled tile, turning a diagonal flip into a rotation as {@link com.badlogic.gdx.maps.tiled.TmxMapLoader} does.
+     */
+    private static TiledMapTileLayer.Cell createCell(boolean flipHorizontally, boolean flipVertically, boolean flipDiagonally) {
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        if (flipDiagonally) {
+            if (flipHorizontally && flipVertically) {
+                cell.setFlipHorizontally(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipHorizontally) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipVertically) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_90);
+            } else {
+                cell.setFlipVertically(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            }
+        } else {
+            cell.setFlipHorizontally(flipHorizontally);
+            cell.setFlipVertically(flipVertically);
+        }
+        return cell;
+    }
+
+    private static MapLayer createObjectLayer(CompiledMap.ObjectLayer source) {
+        MapLayer layer = new MapLayer();
+        setLayerInfo(layer, source);
+        for (int i = 0; i < source.getShapeCount(); i++) {
+            // The vertices are already in world coordinates, so the shapes stay at the origin
+            if (source.isPolygon(i)) {
+                layer.getObjects().add(new PolygonMapObject(new Polygon(source.getVertices(i))));
+            } else {
+                layer.getObjects().add(new PolylineMapObject(new Polyline(source.getVertices(i))));
+            }
+        }
+        return layer;
+    }
+
+    private static void setLayerInfo(MapLayer layer, CompiledMap.Layer source) {
+        layer.setName(source.getName());
+        layer.setVisible(source.isVisible());
+        layer.setOpacity(source.getOpacity());
+    }
+}
@@ -1,25 +1,27 @@
 package inf112.skeleton.app.view;
 
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.math.Vector2;
 import inf112.skeleton.app.controller.myInput.MyInputAdapter;
 import inf112.skeleton.app.model.GameLogic;
-import inf112.skeleton.app.model.entities.Entity;
+import inf112.skeleton.app.model.RenderSnapshot;
+import inf112.skeleton.app.model.SimulationThread;
+import inf112.skeleton.app.utils.DebugOptions;
+import inf112.skeleton.app.utils.DebugOptions.Overlay;
+import inf112.skeleton.app.utils.FrameProfiler;
+import inf112.skeleton.app.utils.FrameProfiler.Section;
 import inf112.skeleton.app.view.HUD.HUD;
+import inf112.skeleton.app.view.ScreenManager.ScreenType;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
-import java.util.ArrayList;
 
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.InputMultiplexer;
@@ -28,6 +30,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.Button;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.utils.Scaling;
+import com.badlogic.gdx.utils.viewport.ScalingViewport;
 
 import static inf112.skeleton.app.utils.Constants.*;
 import static inf112.skeleton.app.model.GameState.*;
@@ -36,22 +40,35 @@ import static inf112.skeleton.app.model.GameState.*;
  * The GameActiveScreen class is responsible for rendering the game.
  * Extends {@link ScreenAdapter}.
  * This class manages the rendering of entities, HUD, and game UI elements.
+ * Entities and the HUD are drawn from a {@link RenderSnapshot}, captured after updating the game logic,
+ * or taken from the {@link SimulationThread} when the game logic runs on its own thread.
+ *
+ * The screen is kept by the {@link ScreenManager} for the whole game. Its renderers and UI are created the first time it is shown,
+ * and showing it again only restores its input processors.
+ * Debug overlays are only drawn when turned on, see {@link DebugOptions}.
  */
 public class GameActiveScreen extends ScreenAdapter {
     private SpriteBatch batch;
     private OrthographicCamera cam;
     private GameLogic gameLogic;
-    private ArrayList<TextureRegion> entitySprites = new ArrayList<>();
+    private TextureCache textureCache;
     private Box2DDebugRenderer debugRenderer;
-    private Texture spriteSheet;
     private BitmapFont font;
     private TiledMap map;
-    private OrthogonalTiledMapRenderer tmr;
+    private CachedMapRenderer mapRenderer;
     private HUD hud;
     private MyInputAdapter inputAdapter;
     private GameRenderer game;
     private Stage stage;
     private Button weaponSelectionButton;
+    private InputMultiplexer multiplexer;
+    private final RenderSnapshot snapshot = new RenderSnapshot();
+    private final StringBuilder debugText = new StringBuilder();
+    private final long[] percentiles = new long[3];
+    private GLProfiler glProfiler;
+    private int drawCalls;
+    private int textureBindings;
+    private int spriteRenderCalls;
 
     /**
      * Constructs a GameActiveScreen.
@@ -66,6 +83,7 @@ public class GameActiveScreen extends ScreenAdapter {
         this.batch = batch;
         this.cam = cam;
         this.game = game;
+        this.textureCache = new TextureCache(game.getAtlas());
     }
     
     /**
@@ -88,29 +106,37 @@ public class GameActiveScreen extends ScreenAdapter {
 
     @Override
     public void show() {
-        debugRenderer = new Box2DDebugRenderer();
-        batch = new SpriteBatch();
-        spriteSheet = getSpriteSheet(DUNGEON_SHEET);
+        if (multiplexer == null) {
+            create();
+        }
+        Gdx.input.setInputProcessor(multiplexer); // Need this for processing both hearts and button
+
+        if (game.getSimulation() != null) {
+            game.getSimulation().resume();
+        }
+    }
+
+    /**
+     * Creates the renderers and UI of the screen. The sprite batch and font are shared with the other screens.
+     */
+    private void create() {
+        batch = game.getBatch();
 
         cam = new OrthographicCamera();
         cam.setToOrtho(false, WINDOW_WIDTH, WINDOW_HEIGHT);
 
-        font = new BitmapFont();
+        font = game.getFont();
 
-        map = new TmxMapLoader().load(MAP_IMG);
-        tmr = new OrthogonalTiledMapRenderer(map);
+        map = game.getMap();
+        mapRenderer = new CachedMapRenderer(map);
 
-        Texture heartTexture = new Texture(HEART_IMG);
-        hud = new HUD(heartTexture, gameLogic.getPlayer().getHealth(), 0, 0);
+        hud = new HUD(textureCache.getRegion(HEART_IMG), gameLogic.getPlayer().getHealth(), 0, 0);
 
-        inputAdapter = new MyInputAdapter(gameLogic.getPlayer(), gameLogic);
-        Gdx.input.setInputProcessor(inputAdapter);
+        inputAdapter = new MyInputAdapter(gameLogic.getPlayer(), gameLogic, game.getDebugOptions());
 
-        stage = new Stage();
-        Gdx.input.setInputProcessor(stage); 
+        stage = new Stage(new ScalingViewport(Scaling.stretch, Gdx.graphics.getWidth(), Gdx.graphics.getHeight()), batch);
 
-        Texture buttonTexture = new Texture(WEAPON_BUTTON);
-        Drawable buttonDrawable = new TextureRegionDrawable(new TextureRegion(buttonTexture));
+        Drawable buttonDrawable = new TextureRegionDrawable(textureCache.getRegion(WEAPON_BUTTON));
         Button.ButtonStyle buttonStyle = new Button.ButtonStyle();
         buttonStyle.up = buttonDrawable; // Set the button image
 
@@ -120,58 +146,186 @@ public class GameActiveScreen extends ScreenAdapter {
         stage.addActor(weaponSelectionButton); 
 
         // Setup Input Multiplexer
-        InputMultiplexer multiplexer = new InputMultiplexer();
+        multiplexer = new InputMultiplexer();
         multiplexer.addProcessor(stage); 
         multiplexer.addProcessor(inputAdapter); 
-        Gdx.input.setInputProcessor(multiplexer); // Need this for processing both hearts and button
 
         // Adding the listener to the button
         weaponSelectionButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new WeaponSelection(game, gameLogic));
+                game.getScreens().show(ScreenType.WEAPON_SELECTION);
             }
         });
     }
 
+    /**
+     * Pauses the simulation thread, if there is one, so other screens can change the game logic.
+     */
+    @Override
+    public void hide() {
+        if (game.getSimulation() != null) {
+            game.getSimulation().pause();
+        }
+        if (stage != null) {
+            stage.cancelTouchFocus();
+        }
+        // The other screens are not profiled
+        updateProfilers(false, gameLogic.getProfiler());
+    }
+
     @Override
     public void render(float delta) {
         if (gameLogic.getGameState() == GAME_OVER) {
             initiateGameOver();
         }
 
+        DebugOptions debug = game.getDebugOptions();
+        FrameProfiler profiler = gameLogic.getProfiler();
+        updateProfilers(debug.isEnabled(Overlay.PROFILER), profiler);
+        long frameStart = profiler.start();
+
         clearScreen();
-        updateCamera();
-        gameLogic.update();
+        SimulationThread simulation = game.getSimulation();
+        RenderSnapshot snapshot;
+        float alpha;
+        if (simulation == null) {
+            gameLogic.update(delta);
+            this.snapshot.capture(gameLogic, 0);
+            snapshot = this.snapshot;
+            alpha = gameLogic.getAlpha();
+        } else {
+            snapshot = simulation.getSnapshot();
+            alpha = simulation.getAlpha(snapshot);
+        }
+        updateCamera(snapshot, alpha);
 
         // Map
-        tmr.setView(cam);
-        tmr.render();
+        long section = profiler.start();
+        mapRenderer.render(cam);
+        profiler.stop(Section.MAP_RENDER, section);
 
-        // Draws hitboxes
-        debugRenderer.render(gameLogic.world, cam.combined);
+        drawDebugGeometry(debug, simulation == null);
         
         stage.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
         stage.draw();
         
         // Rendering   
+        section = profiler.start();
         batch.begin();
+        batch.setColor(1, 1, 1, 1);
         batch.setProjectionMatrix(cam.combined);
-        drawEntities();
-        drawHUD();
-        drawGameUI();
+        drawEntities(snapshot, alpha);
+        drawHUD(snapshot);
+        drawGameUI(snapshot);
+        if (debug.isAnyEnabled()) {
+            drawDebugText(debug, snapshot, profiler);
+        }
         batch.end();
+        profiler.stop(Section.SPRITE_BATCH, section);
+        spriteRenderCalls = batch.renderCalls;
+        profiler.stop(Section.FRAME, frameStart);
+    }
+
+    /**
+     * Turns the profiler and the GL call counter on or off with the profiler overlay,
+     * and keeps the GL counts of the last frame.
+     */
+    private void updateProfilers(boolean on, FrameProfiler profiler) {
+        profiler.setEnabled(on);
+        if (on) {
+            if (glProfiler == null) {
+                glProfiler = new GLProfiler(Gdx.graphics);
+            }
+            if (!glProfiler.isEnabled()) {
+                glProfiler.enable();
+            }
+            drawCalls = glProfiler.getDrawCalls();
+            textureBindings = glProfiler.getTextureBindings();
+            glProfiler.reset();
+        } else if (glProfiler != null && glProfiler.isEnabled()) {
+            glProfiler.disable();
+        }
     }
 
+    /**
+     * Disposes the renderers and UI of the screen. The sprite batch and font are shared and disposed by the game renderer.
+     */
     @Override
     public void dispose() {
-        batch.dispose();
-        for (TextureRegion textureRegion : entitySprites) {
-            textureRegion.getTexture().dispose();
+        textureCache.dispose();
+        if (debugRenderer != null) {
+            debugRenderer.dispose();
+        }
+        if (multiplexer != null) {
+            mapRenderer.dispose();
+            stage.dispose();
+        }
+    }
+
+    /**
+     * Draws the hitboxes and the spatial grid, if their overlays are on.
+     * Hitboxes are only drawn when the world is not being stepped on another thread.
+     */
+    private void drawDebugGeometry(DebugOptions debug, boolean worldOnRenderThread) {
+        if (debug.isEnabled(Overlay.PHYSICS) && worldOnRenderThread) {
+            if (debugRenderer == null) {
+                debugRenderer = new Box2DDebugRenderer();
+            }
+            debugRenderer.render(gameLogic.world, cam.combined);
+        }
+        if (debug.isEnabled(Overlay.GRID)) {
+            ShapeRenderer shapes = game.getShapeRenderer();
+            shapes.setProjectionMatrix(cam.combined);
+            shapes.begin(ShapeRenderer.ShapeType.Line);
+            shapes.setColor(0, 1, 1, 0.5f);
+            for (int col = 0; col <= NUM_COLS; col++) {
+                shapes.line(col * CELL_WIDTH, 0, col * CELL_WIDTH, NUM_ROWS * CELL_HEIGHT);
+            }
+            for (int row = 0; row <= NUM_ROWS; row++) {
+                shapes.line(0, row * CELL_HEIGHT, NUM_COLS * CELL_WIDTH, row * CELL_HEIGHT);
+            }
+            shapes.end();
+        }
+    }
+
+    /**
+     * Draws the timing and count overlays in the top left corner of the view, if they are on.
+     */
+    private void drawDebugText(DebugOptions debug, RenderSnapshot snapshot, FrameProfiler profiler) {
+        debugText.setLength(0);
+        if (debug.isEnabled(Overlay.TIMING)) {
+            debugText.append("FPS: ").append(Gdx.graphics.getFramesPerSecond())
+                    .append("  frame: ").append(Math.round(Gdx.graphics.getDeltaTime() * 10000) / 10f).append(" ms")
+                    .append("  tick: ").append(toMillis(snapshot.getTickNanos())).append(" ms\n");
+        }
+        if (debug.isEnabled(Overlay.PROFILER)) {
+            debugText.append("ms            p50     p95     p99\n");
+            for (Section section : Section.values()) {
+                profiler.getPercentiles(section, percentiles);
+                debugText.append(section.getLabel()).append(":  ").append(toMillis(percentiles[0]))
+                        .append("  ").append(toMillis(percentiles[1]))
+                        .append("  ").append(toMillis(percentiles[2])).append('\n');
+            }
+            debugText.append("render calls: ").append(spriteRenderCalls)
+                    .append("  draw calls: ").append(drawCalls)
+                    .append("  texture binds: ").append(textureBindings).append('\n')
+                    .append("GC: ").append(FrameProfiler.getGcCount()).append(" collections, ")
+                    .append(FrameProfiler.getGcTimeMillis()).append(" ms\n");
+        }
+        if (debug.isEnabled(Overlay.COUNTS)) {
+            debugText.append("Entities: ").append(snapshot.getCount())
+                    .append("  enemies: ").append(snapshot.getEnemyCount())
+                    .append("  coins: ").append(snapshot.getCoinCount())
+                    .append("  bodies: ").append(snapshot.getBodyCount());
         }
-        font.dispose();
-        map.dispose();
-        tmr.dispose();
+        if (debugText.length() > 0) {
+            font.draw(batch, debugText, getCameraX() - CAMERA_OFFSET_X + COIN_VALUE_PADDING, getCameraY() + CAMERA_OFFSET_Y - COIN_VALUE_PADDING);
+        }
+    }
+
+    private static float toMillis(long nanos) {
+        return Math.round(nanos / 10000.0) / 100f;
     }
 
     private void clearScreen() {
@@ -180,60 +334,49 @@ public class GameActiveScreen extends ScreenAdapter {
     }
 
     private void initiateGameOver() {
-        game.setScreen(new GameOverScreen(game, gameLogic));
+        game.getScreens().show(ScreenType.GAME_OVER);
         gameLogic.getPlayer().setHealth(PLAYER_HEALTH);
     }
 
-    private void updateCamera() {
-        cam.position.set(gameLogic.getPlayer().getX() + PLAYER_WIDTH / 2,
-            gameLogic.getPlayer().getY() + PLAYER_HEIGHT / 2, 0);
+    private void updateCamera(RenderSnapshot snapshot, float alpha) {
+        cam.position.set(snapshot.getPlayerX(alpha) + PLAYER_WIDTH / 2,
+            snapshot.getPlayerY(alpha) + PLAYER_HEIGHT / 2, 0);
         cam.update();
         cam.zoom = 0.7f;
     }
 
-    private void drawEntities() {
-        for (Entity entity : gameLogic.getActiveEntities()) {
-            if (entity.getIsDestroyed()) {
-                gameLogic.removeEntity(entity);
-            }
-            float x = entity.getX();
-            float y = entity.getY();
-            float angle = entity.getAngle();
-            float heightOffset = entity.getOffset().y;
-            Vector2 offset = entity.trigVector(heightOffset, angle);
-            Texture tex = new Texture("sprites/" + entity.getTextureId() + ".png");
-            Sprite sprite = new Sprite(tex);
-            sprite.setScale(entity.getSpriteWidth() / tex.getWidth(), entity.getSpriteHeight() / tex.getHeight());
-            sprite.setAlpha(entity.getOpacity());
-            sprite.setRotation(angle);
-            sprite.setX((x + offset.x * PPM) - sprite.getWidth() / 2);
-            sprite.setY((y + offset.y * PPM) - sprite.getHeight() / 2);
+    private void drawEntities(RenderSnapshot snapshot, float alpha) {
+        for (int i = 0; i < snapshot.getCount(); i++) {
+            float x = snapshot.getX(i, alpha);
+            float y = snapshot.getY(i, alpha);
+            Sprite sprite = textureCache.getSprite(snapshot.getTextureId(i));
+            sprite.setScale(snapshot.getSpriteWidth(i) / sprite.getWidth(), snapshot.getSpriteHeight(i) / sprite.getHeight());
+            sprite.setAlpha(snapshot.getOpacity(i));
+            sprite.setRotation(snapshot.getAngle(i));
+            sprite.setX((x + snapshot.getSpriteOffsetX(i) * PPM) - sprite.getWidth() / 2);
+            sprite.setY((y + snapshot.getSpriteOffsetY(i) * PPM) - sprite.getHeight() / 2);
             sprite.draw(batch);
         }
     }
 
-    private void drawHUD() {
-        font.draw(batch, "Coins: " + gameLogic.getCoinValue(), getCameraX() + CAMERA_OFFSET_X - COIN_VALUE_PADDING - 100, getCameraY() + CAMERA_OFFSET_Y - COIN_VALUE_PADDING);
-        hud.updateHearts(gameLogic.getPlayer().getHealth(), getCameraX(), getCameraY());
+    private void drawHUD(RenderSnapshot snapshot) {
+        font.draw(batch, "Coins: " + snapshot.getCoinValue(), getCameraX() + CAMERA_OFFSET_X - COIN_VALUE_PADDING - 100, getCameraY() + CAMERA_OFFSET_Y - COIN_VALUE_PADDING);
+        hud.updateHearts(snapshot.getPlayerHealth(), getCameraX(), getCameraY());
         hud.draw(batch);
     }
 
-    private void drawGameUI() {
-        if (gameLogic.isShowHitWarning()) {
+    private void drawGameUI(RenderSnapshot snapshot) {
+        if (snapshot.isShowHitWarning()) {
             drawHitWarning();
         }
     }
 
     private void drawHitWarning() {
         batch.setColor(1, 0, 0, 0.9f);
-        batch.draw(new Texture(HIT_WARNING), getCameraX() - CAMERA_OFFSET_X, getCameraY() - CAMERA_OFFSET_Y, CAMERA_WINDOW_WIDTH, CAMERA_WINDOW_HEIGHT);
+        batch.draw(textureCache.getRegion(HIT_WARNING), getCameraX() - CAMERA_OFFSET_X, getCameraY() - CAMERA_OFFSET_Y, CAMERA_WINDOW_WIDTH, CAMERA_WINDOW_HEIGHT);
         batch.setColor(1, 1, 1, 1);
     }
 
-    private Texture getSpriteSheet(String spriteSheet) {
-        return new Texture(Gdx.files.internal(spriteSheet));
-    }
-
     private float getCameraX() {
         return this.cam.position.x;
     }
@@ -16,6 +16,7 @@ import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import inf112.skeleton.app.model.GameLogic;
+import inf112.skeleton.app.view.ScreenManager.ScreenType;
 
 /**
  * The GameHelpScreen class is responsible for rendering the help screen.
@@ -29,7 +30,6 @@ public class GameHelpScreen extends ScreenAdapter {
     private Stage stage;
     private Viewport viewport;
     private Button backButton;
-    private Viewport viewPort;
 
     /**
      * Constructs a GameHelpScreen.
@@ -40,26 +40,23 @@ public class GameHelpScreen extends ScreenAdapter {
     public GameHelpScreen(GameRenderer game, GameLogic gameLogic) {
         this.game = game;
         this.gameLogic = gameLogic;
-        this.batch = new SpriteBatch();
+        this.batch = game.getBatch();
         this.cam = new OrthographicCamera();
         this.viewport = new ExtendViewport(800, 800, cam); 
         this.stage = new Stage(viewport, batch);
 
-        this.viewPort = new ExtendViewport(800, 800, cam);
-        this.stage = new Stage(viewPort, batch);
-
         setupUi();
     }
 
     private void setupUi() {
         // Background image
-        Texture backgroundTexture = new Texture(HELP_SCREEN_BACKGROUND);
+        Texture backgroundTexture = game.getTextureCache().getTexture(HELP_SCREEN_BACKGROUND);
         Image backgroundImage = new Image(backgroundTexture);
         backgroundImage.setFillParent(true);
         stage.addActor(backgroundImage);
 
         // Back Button
-        backButton = new Button(new TextureRegionDrawable(new Texture(EXIT_BUTTON)));
+        backButton = new Button(new TextureRegionDrawable(game.getTextureCache().getRegion(EXIT_BUTTON)));
         backButton.setPosition(700, 700);
         stage.addActor(backButton);
     }
@@ -77,19 +74,23 @@ public class GameHelpScreen extends ScreenAdapter {
         stage.act(delta);
         stage.draw();
         if (backButton.isPressed()) {
-            game.setScreen(new GameTitleScreen(game, gameLogic));
+            game.getScreens().show(ScreenType.TITLE);
         }
     }
 
     @Override
     public void hide() {
+        // Releases buttons still held down, so they are not pressed when the screen is shown again
+        stage.cancelTouchFocus();
         Gdx.input.setInputProcessor(null);
     }
 
+    /**
+     * Disposes the stage. The sprite batch is shared and disposed by the game renderer.
+     */
     @Override
     public void dispose() {
         stage.dispose();
-        batch.dispose();
     }
 }
 
@@ -21,6 +21,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Image;
 
 import inf112.skeleton.app.model.GameLogic;
 import inf112.skeleton.app.model.GameState;
+import inf112.skeleton.app.view.ScreenManager.ScreenType;
 
 /**
  * The GameOverScreen class is responsible for rendering the game over screen.
@@ -44,7 +45,7 @@ public class GameOverScreen extends ScreenAdapter {
     public GameOverScreen(GameRenderer game, GameLogic gameLogic) {
         this.game = game;
         this.gameLogic = gameLogic;
-        this.batch = new SpriteBatch();
+        this.batch = game.getBatch();
         this.cam = new OrthographicCamera();
         this.viewport = new ExtendViewport(800, 800, cam);
         this.stage = new Stage(viewport, batch);
@@ -53,24 +54,24 @@ public class GameOverScreen extends ScreenAdapter {
     }
 
     private void setupUi() {
-        Texture backgroundTexture = new Texture(GAME_OVER_BACKGROUND);
+        Texture backgroundTexture = game.getTextureCache().getTexture(GAME_OVER_BACKGROUND);
         Image backgroundImage = new Image(backgroundTexture);
         backgroundImage.setFillParent(true);
         stage.addActor(backgroundImage);
 
-        yesButton = new Button(new TextureRegionDrawable(new Texture(YES_BUTTON)));
+        yesButton = new Button(new TextureRegionDrawable(game.getTextureCache().getRegion(YES_BUTTON)));
         yesButton.setPosition(100, 10);
         yesButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 gameLogic.resetGame();
                 gameLogic.setGameState(GameState.GAME_ACTIVE);
-                game.setScreen(new GameActiveScreen(game, gameLogic, batch, cam));
+                game.getScreens().show(ScreenType.GAME_ACTIVE);
             }
         });
         stage.addActor(yesButton);
 
-        noButton = new Button(new TextureRegionDrawable(new Texture(NO_BUTTON)));
+        noButton = new Button(new TextureRegionDrawable(game.getTextureCache().getRegion(NO_BUTTON)));
         noButton.setPosition(400, 10);
         stage.addActor(noButton);
     }
@@ -90,12 +91,16 @@ public class GameOverScreen extends ScreenAdapter {
 
     @Override
     public void hide() {
+        // Releases buttons still held down, so they are not pressed when the screen is shown again
+        stage.cancelTouchFocus();
         Gdx.input.setInputProcessor(null);
     }
 
+    /**
+     * Disposes the stage. The sprite batch is shared and disposed by the game renderer.
+     */
     @Override
     public void dispose() {
         stage.dispose();
-        batch.dispose();
     }
 }
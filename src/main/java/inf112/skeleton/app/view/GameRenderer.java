@@ -3,16 +3,19 @@ package inf112.skeleton.app.view;
 import inf112.skeleton.app.controller.myInput.MyInputAdapter;
 import inf112.skeleton.app.model.GameLogic;
 import inf112.skeleton.app.model.GameState;
+import inf112.skeleton.app.model.SimulationThread;
+import inf112.skeleton.app.utils.DebugOptions;
 import inf112.skeleton.app.utils.B2DPhysics.TiledObjectUtil;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import static inf112.skeleton.app.utils.Constants.*;
 
 /**
@@ -26,16 +29,61 @@ public class GameRenderer extends Game {
     BitmapFont font;
     GameLogic gameLogic;
     private TiledMap map;
+    private MapAssets mapAssets;
     OrthographicCamera cam;
     private MyInputAdapter inputAdapter;
+    private TextureAtlas atlas;
+    private TextureCache textureCache;
+    private AssetPreloader preloader;
+    private ScreenManager screens;
+    private final SimulationThread simulation;
+    private final DebugOptions debugOptions = DebugOptions.fromSystemProperties();
 
     /**
-     * Constructs a GameRenderer with the specified game logic.
+     * Constructs a GameRenderer with the specified game logic, updated on the render thread.
      *
      * @param gameLogic The GameLogic instance to render.
      */
     public GameRenderer(GameLogic gameLogic) {
+        this(gameLogic, false);
+    }
+
+    /**
+     * Constructs a GameRenderer with the specified game logic.
+     *
+     * @param gameLogic        The GameLogic instance to render.
+     * @param simulationThread True to run the game logic on its own thread, see {@link SimulationThread}.
+     */
+    public GameRenderer(GameLogic gameLogic, boolean simulationThread) {
         this.gameLogic = gameLogic;
+        this.simulation = simulationThread ? new SimulationThread(gameLogic) : null;
+    }
+
+    /**
+     * Gets the thread running the game logic.
+     *
+     * @return The simulation thread, or null if the game logic is updated on the render thread.
+     */
+    public SimulationThread getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Gets the debug overlays drawn over the game, read from the system properties at startup.
+     *
+     * @return The debug options.
+     */
+    public DebugOptions getDebugOptions() {
+        return debugOptions;
+    }
+
+    /**
+     * Gets the shape renderer shared by the screens.
+     *
+     * @return The shape renderer.
+     */
+    public ShapeRenderer getShapeRenderer() {
+        return shapeRenderer;
     }
 
     /**
@@ -65,34 +113,140 @@ public class GameRenderer extends Game {
         return batch;
     }
 
+    /**
+     * Gets the font used for text in the game, shared by the screens.
+     *
+     * @return The font.
+     */
+    public BitmapFont getFont() {
+        return font;
+    }
+
+    /**
+     * Gets the manager holding the screens of the game.
+     *
+     * @return The screen manager.
+     */
+    public ScreenManager getScreens() {
+        return screens;
+    }
+
+    /**
+     * Gets the texture atlas holding the sprites, HUD and UI images.
+     *
+     * @return The texture atlas.
+     */
+    public TextureAtlas getAtlas() {
+        return atlas;
+    }
+
+    /**
+     * Gets the preloader decoding and uploading the textures while the loading screen is shown.
+     *
+     * @return The asset preloader.
+     */
+    public AssetPreloader getPreloader() {
+        return preloader;
+    }
+
+    /**
+     * Gets the service holding the loaded maps.
+     *
+     * @return The map assets.
+     */
+    public MapAssets getMapAssets() {
+        return mapAssets;
+    }
+
+    /**
+     * Gets the map being played, shared with the game logic.
+     * It is owned by the map assets and must not be disposed by the screens.
+     *
+     * @return The map.
+     */
+    public TiledMap getMap() {
+        return map;
+    }
+
+    /**
+     * Gets the texture cache shared by the menu screens.
+     *
+     * @return The shared texture cache.
+     */
+    public TextureCache getTextureCache() {
+        return textureCache;
+    }
+
+    /**
+     * Starts loading the atlas, the menu backgrounds and the map in the background, and shows the loading screen.
+     * The rest of the game is set up by {@link #finishLoading()} once everything is loaded.
+     */
     @Override
     public void create() {
         batch = new SpriteBatch();
         shapeRenderer = new ShapeRenderer();
-        font = new BitmapFont();
 
-        map = new TmxMapLoader().load(MAP_IMG);
+        cam = new OrthographicCamera();
+        cam.setToOrtho(false, 800, 800);
+
+        preloader = new AssetPreloader();
+        preloader.loadAtlas(ATLAS);
+        for (String background : MENU_BACKGROUNDS) {
+            preloader.loadTexture(background);
+        }
+        mapAssets = new MapAssets();
+        mapAssets.load(MAP_IMG);
+
+        screens = new ScreenManager(this, gameLogic);
+        screens.show(ScreenManager.ScreenType.LOADING);
+    }
+
+    /**
+     * Sets up the game with the loaded assets and shows the title screen. Called by the loading screen when
+     * the preloader and the map assets are done.
+     */
+    public void finishLoading() {
+        atlas = preloader.takeAtlas(ATLAS);
+        textureCache = new TextureCache(atlas);
+        for (String background : MENU_BACKGROUNDS) {
+            Texture texture = preloader.takeTexture(background);
+            if (texture != null) {
+                textureCache.addTexture(background, texture);
+            }
+        }
+        font = new BitmapFont(Gdx.files.classpath(DEFAULT_FONT), textureCache.getRegion(DEFAULT_FONT_REGION));
+
+        map = mapAssets.get(MAP_IMG);
         parseObjectLayers();
 
         gameLogic.setMap(map);
         gameLogic.setGameState(GameState.GAME_TITLE);
-        setScreen(new GameTitleScreen(this, gameLogic));
 
         // Create and set the input adapter
-        inputAdapter = new MyInputAdapter(gameLogic.getPlayer(), gameLogic);
+        inputAdapter = new MyInputAdapter(gameLogic.getPlayer(), gameLogic, debugOptions);
         Gdx.input.setInputProcessor(inputAdapter);
 
-        cam = new OrthographicCamera(); 
-        cam.setToOrtho(false, 800, 800); 
-
-        setScreen(new GameTitleScreen(this, gameLogic)); 
+        screens.show(ScreenManager.ScreenType.TITLE);
     }
 
     @Override
     public void dispose() {
+        if (simulation != null) {
+            simulation.stop();
+        }
+        // Hides the current screen before the screens and the resources they share are disposed
+        super.dispose();
+        screens.dispose();
         batch.dispose();
         shapeRenderer.dispose();
-        font.dispose();
+        preloader.dispose();
+        mapAssets.dispose();
+        // Only set up if loading finished before the game was closed
+        if (font != null) {
+            font.dispose();
+            textureCache.dispose();
+            atlas.dispose();
+        }
     }
 
     private void parseObjectLayers() {
@@ -20,6 +20,7 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import inf112.skeleton.app.model.GameLogic;
 import inf112.skeleton.app.model.GameState;
+import inf112.skeleton.app.view.ScreenManager.ScreenType;
 
 /**
  * The GameTitleScreen class is responsible for rendering the title screen.
@@ -34,7 +35,6 @@ public class GameTitleScreen extends ScreenAdapter {
     private Stage stage;
     private Viewport viewport;
     private Button playButton, quitButton, helpButton;
-    private Viewport viewPort;
 
     /**
      * Constructs a GameTitleScreen.
@@ -45,37 +45,33 @@ public class GameTitleScreen extends ScreenAdapter {
     public GameTitleScreen(GameRenderer game, GameLogic gameLogic) {
         this.game = game;
         this.gameLogic = gameLogic;
-        this.batch = new SpriteBatch();
+        this.batch = game.getBatch();
         this.cam = new OrthographicCamera();
         this.viewport = new ExtendViewport(800, 800, cam); 
         this.stage = new Stage(viewport, batch);
 
-        this.viewPort = new ExtendViewport(800, 800, cam);
-        this.stage = new Stage(viewPort, batch);
-        
-
         setupUi();
     }
 
     private void setupUi() {
         // Background image
-        Texture backgroundTexture = new Texture(MENU);
+        Texture backgroundTexture = game.getTextureCache().getTexture(MENU);
         Image backgroundImage = new Image(backgroundTexture);
         backgroundImage.setFillParent(true);
         stage.addActor(backgroundImage);
 
         // Play Button
-        playButton = new Button(new TextureRegionDrawable(new Texture(PLAY_BUTTON)));
-        playButton.setPosition(viewPort.getWorldWidth() / 4, 200);
+        playButton = new Button(new TextureRegionDrawable(game.getTextureCache().getRegion(PLAY_BUTTON)));
+        playButton.setPosition(viewport.getWorldWidth() / 4, 200);
         stage.addActor(playButton);
 
         // Quit Button
-        quitButton = new Button(new TextureRegionDrawable(new Texture(QUIT_BUTTON)));
+        quitButton = new Button(new TextureRegionDrawable(game.getTextureCache().getRegion(QUIT_BUTTON)));
         quitButton.setPosition(300, 100); // Next to the play button
         stage.addActor(quitButton);
 
         //Help Button
-        helpButton = new Button(new TextureRegionDrawable(new Texture(HELP_BUTTON)));
+        helpButton = new Button(new TextureRegionDrawable(game.getTextureCache().getRegion(HELP_BUTTON)));
         helpButton.setPosition(700, 700);
         stage.addActor(helpButton);
 
@@ -94,25 +90,29 @@ public class GameTitleScreen extends ScreenAdapter {
         stage.draw();
         if (playButton.isPressed()) {
             gameLogic.setGameState(GameState.GAME_ACTIVE);
-            game.setScreen(new GameActiveScreen(game, gameLogic, game.batch, game.cam)); 
+            game.getScreens().show(ScreenType.GAME_ACTIVE);
         }
         if (quitButton.isPressed()){
             Gdx.app.exit();
         }
         if(helpButton.isPressed()){
-            game.setScreen(new GameHelpScreen(game, gameLogic)); 
+            game.getScreens().show(ScreenType.HELP);
 
         }
     }
 
     @Override
     public void hide() {
+        // Releases buttons still held down, so they are not pressed when the screen is shown again
+        stage.cancelTouchFocus();
         Gdx.input.setInputProcessor(null);
     }
 
+    /**
+     * Disposes the stage. The sprite batch is shared and disposed by the game renderer.
+     */
     @Override
     public void dispose() {
         stage.dispose();
-        batch.dispose();
     }
 }
@@ -2,6 +2,7 @@ package inf112.skeleton.app.view.HUD;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 import static inf112.skeleton.app.utils.Constants.*;
 
@@ -14,6 +15,7 @@ import java.util.List;
 public class HUD {
     private List<Heart> hearts;
     private Texture heartTexture;
+    private TextureRegion heartRegion;
     private int maxHearts;
 
     private float screenX;
@@ -39,12 +41,35 @@ public class HUD {
         createHearts();
     }
 
+    /**
+     * Constructs a HUD with hearts drawn from a texture region, e.g. a region in the texture atlas.
+     *
+     * @param heartRegion the region representing a heart icon
+     * @param maxHearts   the maximum number of hearts to be displayed
+     * @param screenX     the screen X coordinate where the hearts should be
+     *                    displayed
+     * @param screenY     the screen Y coordinate where the hearts should be
+     *                    displayed
+     */
+    public HUD(TextureRegion heartRegion, int maxHearts, float screenX, float screenY) {
+        this.heartRegion = heartRegion;
+        this.heartTexture = heartRegion.getTexture();
+        this.maxHearts = maxHearts;
+        this.screenX = screenX;
+        this.screenY = screenY;
+        createHearts();
+    }
+
     private void createHearts() {
         hearts = new ArrayList<>();
         for (int i = 0; i < maxHearts; i++) {
             float x = screenX + i * (HEART_WIDTH + HEART_HEIGHT);
             float y = screenY;
-            hearts.add(new Heart(heartTexture, x, y, HEART_WIDTH, HEART_HEIGHT, true));
+            if (heartRegion != null) {
+                hearts.add(new Heart(heartRegion, x, y, HEART_WIDTH, HEART_HEIGHT, true));
+            } else {
+                hearts.add(new Heart(heartTexture, x, y, HEART_WIDTH, HEART_HEIGHT, true));
+            }
         }
     }
 
@@ -2,12 +2,14 @@ package inf112.skeleton.app.view.HUD;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * The Heart class represents a graphical heart icon used in the Heads-Up Display (HUD).
  */
 public class Heart {
     private Texture heartTexture;
+    private TextureRegion heartRegion;
     private float x;
     private float y;
     private float width;
@@ -33,6 +35,21 @@ public class Heart {
         this.filled = filled;
     }
 
+    /**
+     * Constructs a Heart object drawn from a texture region, e.g. a region in the texture atlas.
+     *
+     * @param region  the region representing the heart icon
+     * @param x       the x-coordinate of the heart's top-left corner
+     * @param y       the y-coordinate of the heart's top-left corner
+     * @param width   the width of the heart icon
+     * @param height  the height of the heart icon
+     * @param filled  true if the heart is filled, false otherwise
+     */
+    public Heart(TextureRegion region, float x, float y, float width, float height, boolean filled) {
+        this(region.getTexture(), x, y, width, height, filled);
+        this.heartRegion = region;
+    }
+
     /**
      * Draws the heart icon on the screen using the specified SpriteBatch.
      *
@@ -40,7 +57,11 @@ public class Heart {
      */
     public void draw(SpriteBatch batch) {
         // System.out.println("Heart: draw " + x + ", " + y);
-        batch.draw(heartTexture, x, y, width, height);
+        if (heartRegion != null) {
+            batch.draw(heartRegion, x, y, width, height);
+        } else {
+            batch.draw(heartTexture, x, y, width, height);
+        }
     }
 
     /**
@@ -0,0 +1,87 @@
+package inf112.skeleton.app.view;
+
+import static inf112.skeleton.app.utils.Constants.LOADING_UPLOAD_BUDGET;
+
+import java.lang.management.ManagementFactory;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+/**
+ * The LoadingScreen class is shown while the game starts. Every frame it uploads the decoded textures
+ * for a short time budget and continues loading the map, and draws a progress bar.
+ * When everything is loaded it lets the game renderer set up the game, which shows the title screen.
+ *
+ * The time from the start of the JVM to the first frame, and to the end of loading, is logged.
+ */
+public class LoadingScreen extends ScreenAdapter {
+    private static final float BAR_X = 100;
+    private static final float BAR_Y = 390;
+    private static final float BAR_WIDTH = 600;
+    private static final float BAR_HEIGHT = 20;
+
+    private final GameRenderer game;
+    private long firstFrameMillis = -1;
+    private long loadedMillis = -1;
+
+    /**
+     * Constructs a LoadingScreen.
+     *
+     * @param game The game renderer holding the preloader and the map assets.
+     */
+    public LoadingScreen(GameRenderer game) {
+        this.game = game;
+    }
+
+    @Override
+    public void render(float delta) {
+        if (firstFrameMillis < 0) {
+            firstFrameMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        }
+        boolean texturesDone = game.getPreloader().update(LOADING_UPLOAD_BUDGET);
+        boolean mapDone = game.getMapAssets().update(null);
+        float progress = (game.getPreloader().getProgress() + game.getMapAssets().getProgress()) / 2;
+
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        drawProgressBar(progress);
+
+        if (texturesDone && mapDone) {
+            loadedMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            Gdx.app.log("Startup", "First frame after " + firstFrameMillis + " ms, loaded after " + loadedMillis + " ms");
+            game.finishLoading();
+        }
+    }
+
+    private void drawProgressBar(float progress) {
+        ShapeRenderer shapes = game.getShapeRenderer();
+        shapes.setProjectionMatrix(game.getCamera().combined);
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(Color.DARK_GRAY);
+        shapes.rect(BAR_X, BAR_Y, BAR_WIDTH, BAR_HEIGHT);
+        shapes.setColor(Color.WHITE);
+        shapes.rect(BAR_X, BAR_Y, BAR_WIDTH * progress, BAR_HEIGHT);
+        shapes.end();
+    }
+
+    /**
+     * Gets the time from the start of the JVM to the first frame of the loading screen.
+     *
+     * @return The time in milliseconds, or -1 if no frame has been drawn yet.
+     */
+    public long getFirstFrameMillis() {
+        return firstFrameMillis;
+    }
+
+    /**
+     * Gets the time from the start of the JVM to the end of loading.
+     *
+     * @return The time in milliseconds, or -1 if loading has not finished.
+     */
+    public long getLoadedMillis() {
+        return loadedMillis;
+    }
+}
@@ -0,0 +1,141 @@
+package inf112.skeleton.app.view;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Disposable;
+
+import inf112.skeleton.app.utils.CompiledMap;
+
+/**
+ * The MapAssets class loads and parses each Tiled map once, and hands the same {@link TiledMap}
+ * to the game logic and every screen that renders it. Maps stay loaded until the service is disposed,
+ * so showing a screen again costs no disk access or XML parsing.
+ *
+ * Maps can be loaded in the background with {@link #load(String)} and {@link #update(ProgressListener)},
+ * or on demand with {@link #get(String)}, which finishes loading the map if it is not ready yet.
+ *
+ * When the build has compiled a map into a {@link CompiledMap} file next to its .tmx file, the compiled file is loaded instead.
+ */
+public class MapAssets implements Disposable {
+
+    /**
+     * Receives the progress of loading the queued maps.
+     */
+    public interface ProgressListener {
+
+        /**
+         * Called after every loading step.
+         *
+         * @param progress How much of the queued maps are loaded, from 0 to 1.
+         */
+        void onProgress(float progress);
+    }
+
+    private final AssetManager manager;
+    // The file actually loaded for each requested path
+    private final Map<String, String> resolved = new HashMap<>();
+
+    /**
+     * Constructs a service loading internal files with a new asset manager.
+     */
+    public MapAssets() {
+        this(new AssetManager());
+    }
+
+    /**
+     * Constructs a service loading maps with the given asset manager,
+     * which is given a {@link TmxMapLoader} and a {@link CompiledMapLoader}.
+     * The asset manager is disposed together with the service.
+     *
+     * @param manager The asset manager.
+     */
+    public MapAssets(AssetManager manager) {
+        this.manager = manager;
+        manager.setLoader(TiledMap.class, new TmxMapLoader(manager.getFileHandleResolver()));
+        manager.setLoader(TiledMap.class, CompiledMap.EXTENSION, new CompiledMapLoader(manager.getFileHandleResolver()));
+    }
+
+    /**
+     * Gets the file to load for a map: its compiled file if the build made one, otherwise the path itself.
+     */
+    private String resolve(String path) {
+        return resolved.computeIfAbsent(path, requested -> {
+            if (requested.endsWith(".tmx")) {
+                String compiled = requested.substring(0, requested.length() - ".tmx".length()) + CompiledMap.EXTENSION;
+                if (manager.getFileHandleResolver().resolve(compiled).exists()) {
+                    return compiled;
+                }
+            }
+            return requested;
+        });
+    }
+
+    /**
+     * Queues a map to be loaded in the background. Does nothing if it is already loaded or queued.
+     *
+     * @param path The internal path of the TMX file.
+     */
+    public void load(String path) {
+        String file = resolve(path);
+        if (!manager.contains(file, TiledMap.class)) {
+            manager.load(file, TiledMap.class);
+        }
+    }
+
+    /**
+     * Continues loading the queued maps. Call once per frame, e.g. from a loading screen.
+     * Reading and parsing happen on a background thread, and only the textures are created on the calling thread.
+     *
+     * @param listener Receives the progress, or null.
+     * @return True if all queued maps are loaded, otherwise false.
+     */
+    public boolean update(ProgressListener listener) {
+        boolean done = manager.update();
+        if (listener != null) {
+            listener.onProgress(manager.getProgress());
+        }
+        return done;
+    }
+
+    /**
+     * Gets how much of the queued maps are loaded.
+     *
+     * @return The progress, from 0 to 1.
+     */
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    /**
+     * Checks if a map is loaded.
+     *
+     * @param path The internal path of the TMX file.
+     * @return True if the map is loaded, otherwise false.
+     */
+    public boolean isLoaded(String path) {
+        return manager.isLoaded(resolve(path), TiledMap.class);
+    }
+
+    /**
+     * Gets a map, loading it first if it is not loaded yet. Blocks until the map is loaded.
+     *
+     * @param path The internal path of the TMX file.
+     * @return The shared map. It is owned by the service and must not be disposed by the caller.
+     */
+    public TiledMap get(String path) {
+        load(path);
+        return manager.finishLoadingAsset(resolve(path));
+    }
+
+    /**
+     * Disposes every loaded map together with its tile set textures.
+     */
+    @Override
+    public void dispose() {
+        manager.dispose();
+    }
+}
@@ -0,0 +1,106 @@
+package inf112.skeleton.app.view;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Disposable;
+
+import inf112.skeleton.app.model.GameLogic;
+
+/**
+ * The ScreenManager class creates each screen of the game once, the first time it is shown,
+ * and keeps it for the rest of the game. Switching screens only hides the current screen and shows the next one,
+ * so no textures, stages or batches are created on a switch. Every screen is disposed together with the manager.
+ */
+public class ScreenManager implements Disposable {
+
+    /**
+     * The screens of the game.
+     */
+    public enum ScreenType {
+        LOADING,
+        TITLE,
+        HELP,
+        GAME_ACTIVE,
+        WEAPON_SELECTION,
+        GAME_OVER
+    }
+
+    private final GameRenderer game;
+    private final Function<ScreenType, Screen> factory;
+    private final Map<ScreenType, Screen> screens = new EnumMap<>(ScreenType.class);
+
+    /**
+     * Constructs a ScreenManager creating the screens of the game.
+     *
+     * @param game      The game renderer showing the screens.
+     * @param gameLogic The game logic the screens show and control.
+     */
+    public ScreenManager(GameRenderer game, GameLogic gameLogic) {
+        this(game, type -> createScreen(type, game, gameLogic));
+    }
+
+    /**
+     * Constructs a ScreenManager creating the screens with the given factory.
+     *
+     * @param game    The game renderer showing the screens.
+     * @param factory Creates the screen of a type. Called at most once per type.
+     */
+    ScreenManager(GameRenderer game, Function<ScreenType, Screen> factory) {
+        this.game = game;
+        this.factory = factory;
+    }
+
+    private static Screen createScreen(ScreenType type, GameRenderer game, GameLogic gameLogic) {
+        return switch (type) {
+            case LOADING -> new LoadingScreen(game);
+            case TITLE -> new GameTitleScreen(game, gameLogic);
+            case HELP -> new GameHelpScreen(game, gameLogic);
+            case GAME_ACTIVE -> new GameActiveScreen(game, gameLogic, game.getBatch(), game.getCamera());
+            case WEAPON_SELECTION -> new WeaponSelection(game, gameLogic);
+            case GAME_OVER -> new GameOverScreen(game, gameLogic);
+        };
+    }
+
+    /**
+     * Gets a screen, creating it the first time it is requested.
+     *
+     * @param type The screen to get.
+     * @return The cached screen.
+     */
+    public Screen get(ScreenType type) {
+        return screens.computeIfAbsent(type, factory);
+    }
+
+    /**
+     * Checks if a screen has been created.
+     *
+     * @param type The screen to check.
+     * @return True if the screen is cached, otherwise false.
+     */
+    public boolean isCreated(ScreenType type) {
+        return screens.containsKey(type);
+    }
+
+    /**
+     * Hides the current screen and shows the given one.
+     *
+     * @param type The screen to show.
+     */
+    public void show(ScreenType type) {
+        game.setScreen(get(type));
+    }
+
+    /**
+     * Disposes every screen that has been created.
+     */
+    @Override
+    public void dispose() {
+        for (Screen screen : screens.values()) {
+            screen.dispose();
+        }
+        screens.clear();
+    }
+}
@@ -0,0 +1,130 @@
+package inf112.skeleton.app.view;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The TextureCache class keeps the textures, regions and sprites used by a screen.
+ * Regions are looked up in the packed texture atlas, so that everything drawn from it
+ * shares one texture. Images that are not in the atlas are loaded as separate textures,
+ * once each, and are disposed together with the cache.
+ */
+public class TextureCache implements Disposable {
+    private static final String SPRITE_FOLDER = "sprites/";
+    private static final String IMAGE_EXTENSION = ".png";
+
+    private final TextureAtlas atlas;
+    private final Map<String, Texture> textures = new HashMap<>();
+    private final Map<String, TextureRegion> regions = new HashMap<>();
+    private final Map<String, Sprite> sprites = new HashMap<>();
+
+    /**
+     * Constructs a TextureCache without an atlas, loading every region from its own image file.
+     */
+    public TextureCache() {
+        this(null);
+    }
+
+    /**
+     * Constructs a TextureCache that looks up regions in the given atlas.
+     * The atlas is not disposed by the cache.
+     *
+     * @param atlas The texture atlas, or null to load every region from its own image file.
+     */
+    public TextureCache(TextureAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /**
+     * Gets the texture at the given path, loading it the first time it is requested.
+     *
+     * @param path The internal path of the texture.
+     * @return The cached texture.
+     */
+    public Texture getTexture(String path) {
+        Texture texture = textures.get(path);
+        if (texture == null) {
+            texture = new Texture(path);
+            textures.put(path, texture);
+        }
+        return texture;
+    }
+
+    /**
+     * Adds a texture that has already been loaded, e.g. by an {@link AssetPreloader}.
+     * The texture is disposed together with the cache.
+     *
+     * @param path    The internal path the texture is requested with.
+     * @param texture The loaded texture.
+     */
+    public void addTexture(String path, Texture texture) {
+        Texture old = textures.put(path, texture);
+        if (old != null && old != texture) {
+            old.dispose();
+        }
+    }
+
+    /**
+     * Gets a region by its atlas name, e.g. "HUD/heart16x16".
+     * If the atlas does not contain the region, the image "name.png" is loaded instead.
+     *
+     * @param name The name of the region.
+     * @return The cached region.
+     */
+    public TextureRegion getRegion(String name) {
+        TextureRegion region = regions.get(name);
+        if (region == null) {
+            if (atlas != null) {
+                region = atlas.findRegion(name);
+            }
+            if (region == null) {
+                region = new TextureRegion(getTexture(name + IMAGE_EXTENSION));
+            }
+            regions.put(name, region);
+        }
+        return region;
+    }
+
+    /**
+     * Gets the sprite for an entity texture identifier.
+     * The same sprite instance is returned for every entity sharing the identifier,
+     * so callers must set position, scale, rotation and alpha before drawing it.
+     *
+     * @param textureId The texture identifier of the entity, see {@link inf112.skeleton.app.model.entities.Entity#getTextureId()}.
+     * @return The cached sprite.
+     */
+    public Sprite getSprite(String textureId) {
+        Sprite sprite = sprites.get(textureId);
+        if (sprite == null) {
+            sprite = new Sprite(getRegion(SPRITE_FOLDER + textureId));
+            sprites.put(textureId, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * Gets the number of separate textures loaded by the cache.
+     * Regions found in the atlas are not counted.
+     *
+     * @return The number of loaded textures.
+     */
+    public int size() {
+        return textures.size();
+    }
+
+    @Override
+    public void dispose() {
+        for (Texture texture : textures.values()) {
+            texture.dispose();
+        }
+        textures.clear();
+        regions.clear();
+        sprites.clear();
+    }
+}
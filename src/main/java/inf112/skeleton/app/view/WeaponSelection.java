@@ -14,12 +14,15 @@ import static inf112.skeleton.app.utils.Constants.TREE_SWORD_BUTTON;
 import static inf112.skeleton.app.utils.Constants.WEAPON_SELECTION;
 
 
+import java.util.function.Function;
+
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -29,9 +32,12 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 
 import inf112.skeleton.app.model.GameLogic;
 import inf112.skeleton.app.model.GameState;
+import inf112.skeleton.app.model.SimulationThread;
 import inf112.skeleton.app.model.entities.weapons.DiamondSword;
 import inf112.skeleton.app.model.entities.weapons.MetalSword;
 import inf112.skeleton.app.model.entities.weapons.TreeSword;
+import inf112.skeleton.app.model.entities.weapons.Weapon;
+import inf112.skeleton.app.view.ScreenManager.ScreenType;
 
 /**
  * The GameTitleScreen class is responsible for rendering the title screen.
@@ -57,38 +63,35 @@ public class WeaponSelection extends ScreenAdapter{
     public WeaponSelection(GameRenderer game, GameLogic gameLogic) {
         this.game = game;
         this.gameLogic = gameLogic;
-        this.batch = new SpriteBatch();
+        this.batch = game.getBatch();
         this.cam = new OrthographicCamera();
         this.viewport = new ExtendViewport(800, 800, cam); 
         this.stage = new Stage(viewport, batch);
-
-        this.viewport = new ExtendViewport(800, 800, cam);
-        this.stage = new Stage(viewport, batch);
     
         setupUi();
     }
 
     private void setupUi() {
         // Background
-        Texture backgroundTexture = new Texture(WEAPON_SELECTION);
+        Texture backgroundTexture = game.getTextureCache().getTexture(WEAPON_SELECTION);
         Image backgroundImage = new Image(backgroundTexture);
         backgroundImage.setFillParent(true);
         stage.addActor(backgroundImage);
 
         // Buttons
-        backButton = new Button(new TextureRegionDrawable(new Texture(BACK_TO_GAME_BUTTON)));
+        backButton = new Button(new TextureRegionDrawable(game.getTextureCache().getRegion(BACK_TO_GAME_BUTTON)));
         backButton.setPosition(50, 20);
         stage.addActor(backButton);
 
-        treeButton = new Button(new TextureRegionDrawable(new Texture(TREE_SWORD_BUTTON)));
+        treeButton = new Button(new TextureRegionDrawable(game.getTextureCache().getRegion(TREE_SWORD_BUTTON)));
         treeButton.setPosition(110, 335);
         stage.addActor(treeButton);
 
-        metalSwordButton = new Button(new TextureRegionDrawable(new Texture(METAL_SWORD_BUTTON)));
+        metalSwordButton = new Button(new TextureRegionDrawable(game.getTextureCache().getRegion(METAL_SWORD_BUTTON)));
         metalSwordButton.setPosition(430, 335);
         stage.addActor(metalSwordButton);
 
-        diamondSwordButton = new Button(new TextureRegionDrawable(new Texture(DIAMOND_SWORD_BUTTON)));
+        diamondSwordButton = new Button(new TextureRegionDrawable(game.getTextureCache().getRegion(DIAMOND_SWORD_BUTTON)));
         diamondSwordButton.setPosition(270, 60);
         stage.addActor(diamondSwordButton);
         
@@ -102,34 +105,42 @@ public class WeaponSelection extends ScreenAdapter{
         stage.draw();
         if (backButton.isPressed()) {
             gameLogic.setGameState(GameState.GAME_ACTIVE);
-            game.setScreen(new GameActiveScreen(game, gameLogic, game.batch, game.cam)); 
+            game.getScreens().show(ScreenType.GAME_ACTIVE);
         }
         else if (treeButton.isPressed()){
-            gameLogic.setGameState(GameState.GAME_ACTIVE);
-            game.setScreen(new GameActiveScreen(game, gameLogic, game.batch, game.cam)); 
-            gameLogic.getWeapon().setIsDestroyed(true);
-            gameLogic.setWeapon(new TreeSword(gameLogic.getWorld()));
+            selectWeapon(TreeSword::new, 0);
         }
         else if(metalSwordButton.isPressed()){
-            if (gameLogic.getCoinValue() >= METAL_SWORD_COST) {
-                gameLogic.setGameState(GameState.GAME_ACTIVE);
-                game.setScreen(new GameActiveScreen(game, gameLogic, game.batch, game.cam));
-                gameLogic.getWeapon().setIsDestroyed(true);
-                gameLogic.setCoinValue(gameLogic.getCoinValue() - METAL_SWORD_COST);
-                gameLogic.setWeapon(new MetalSword(gameLogic.getWorld()));
-            }
+            selectWeapon(MetalSword::new, METAL_SWORD_COST);
         }
         else if(diamondSwordButton.isPressed()){
-            if (gameLogic.getCoinValue() >= DIAMOND_SWORD_COST) {
-                gameLogic.setGameState(GameState.GAME_ACTIVE);
-                game.setScreen(new GameActiveScreen(game, gameLogic, game.batch, game.cam));
-                gameLogic.getWeapon().setIsDestroyed(true);
-                gameLogic.setCoinValue(gameLogic.getCoinValue() - DIAMOND_SWORD_COST);
-                gameLogic.setWeapon(new DiamondSword(gameLogic.getWorld()));
-            }
+            selectWeapon(DiamondSword::new, DIAMOND_SWORD_COST);
         }
     }
 
+    /**
+     * Buys a weapon and goes back to the game, if the player has enough coins.
+     * The weapon is swapped before the game screen is shown, since showing it resumes the simulation thread,
+     * and the swap runs between ticks in case the simulation is still running.
+     *
+     * @param factory Creates the weapon in the world.
+     * @param cost    The number of coins the weapon costs.
+     */
+    private void selectWeapon(Function<World, ? extends Weapon> factory, int cost) {
+        if (gameLogic.getCoinValue() < cost) {
+            return;
+        }
+        SimulationThread simulation = game.getSimulation();
+        Runnable swap = () -> gameLogic.buyWeapon(factory, cost);
+        if (simulation != null) {
+            simulation.runBetweenTicks(swap);
+        } else {
+            swap.run();
+        }
+        gameLogic.setGameState(GameState.GAME_ACTIVE);
+        game.getScreens().show(ScreenType.GAME_ACTIVE);
+    }
+
     @Override
     public void show() {
         Gdx.input.setInputProcessor(stage);
@@ -137,12 +148,16 @@ public class WeaponSelection extends ScreenAdapter{
 
     @Override
     public void hide() {
+        // Releases buttons still held down, so they are not pressed when the screen is shown again
+        stage.cancelTouchFocus();
         Gdx.input.setInputProcessor(null);
     }
 
+    /**
+     * Disposes the stage. The sprite batch is shared and disposed by the game renderer.
+     */
     @Override
     public void dispose() {
         stage.dispose();
-        batch.dispose();
     }
 }
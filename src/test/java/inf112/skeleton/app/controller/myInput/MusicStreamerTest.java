@@ -0,0 +1,157 @@
+package inf112.skeleton.app.controller.myInput;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MusicStreamerTest {
+    private static final int CROSSFADE_MILLIS = 10;
+    private static final int CROSSFADE_FRAMES = 441;
+
+    private final Map<String, Integer> opens = new HashMap<>();
+    private final Map<String, int[]> shapes = new HashMap<>();
+    private MusicStreamer music;
+
+    @BeforeEach
+    void setUp() {
+        music = new MusicStreamer(path -> {
+            opens.merge(path, 1, Integer::sum);
+            int[] shape = shapes.get(path);
+            return shape == null ? null : tone(shape[0], shape[1], shape[2], (short) shape[3]);
+        }, CROSSFADE_MILLIS);
+    }
+
+    private void addTrack(String path, int sampleRate, int channels, int frames, int value) {
+        shapes.put(path, new int[] {sampleRate, channels, frames, value});
+    }
+
+    private static AudioInputStream tone(int sampleRate, int channels, int frames, short value) {
+        AudioFormat format = new AudioFormat(sampleRate, 16, channels, true, false);
+        byte[] data = new byte[frames * channels * 2];
+        for (int i = 0; i < data.length; i += 2) {
+            data[i] = (byte) value;
+            data[i + 1] = (byte) (value >> 8);
+        }
+        return new AudioInputStream(new ByteArrayInputStream(data), format, frames);
+    }
+
+    private static short sample(byte[] out, int frame, int channel) {
+        int index = frame * 4 + channel * 2;
+        return (short) ((out[index] & 0xff) | (out[index + 1] << 8));
+    }
+
+    private byte[] render(int frames) {
+        byte[] out = new byte[frames * 4];
+        music.render(out);
+        return out;
+    }
+
+    @Test
+    void testLoopingTrackHasNoGap() {
+        addTrack("loop", 44100, 2, 100, 1000);
+        music.play("loop", true);
+
+        byte[] out = render(1000);
+
+        for (int frame = 0; frame < 1000; frame++) {
+            assertEquals(1000, sample(out, frame, 0), "Frame " + frame);
+            assertEquals(1000, sample(out, frame, 1), "Frame " + frame);
+        }
+        assertTrue(opens.get("loop") >= 10);
+        assertTrue(music.isPlaying());
+    }
+
+    @Test
+    void testTrackWithoutLoopStopsAtEnd() {
+        addTrack("once", 44100, 2, 100, 1000);
+        music.play("once", false);
+
+        byte[] out = render(200);
+
+        assertEquals(1000, sample(out, 50, 0));
+        assertEquals(0, sample(out, 150, 0));
+        assertFalse(music.isPlaying());
+        assertEquals(1, opens.get("once"));
+    }
+
+    @Test
+    void testVolumeScalesSamples() {
+        addTrack("loop", 44100, 2, 100, 1000);
+        music.setVolume(0.5f);
+        music.play("loop", true);
+
+        byte[] out = render(10);
+
+        assertEquals(500, sample(out, 5, 0));
+        assertEquals(0.5f, music.getVolume());
+    }
+
+    @Test
+    void testPlayingNewTrackCrossfades() {
+        addTrack("first", 44100, 2, 100, 1000);
+        addTrack("second", 44100, 2, 100, 2000);
+        music.play("first", true);
+        render(100);
+
+        music.play("second", true);
+        byte[] out = render(CROSSFADE_FRAMES + 10);
+
+        assertEquals(1000, sample(out, 0, 0));
+        int middle = sample(out, CROSSFADE_FRAMES / 2, 0);
+        assertTrue(middle > 1400 && middle < 1600, "Halfway through the crossfade was " + middle);
+        assertEquals(2000, sample(out, CROSSFADE_FRAMES + 5, 0));
+        assertTrue(music.isPlaying());
+    }
+
+    @Test
+    void testStopFadesOut() {
+        addTrack("loop", 44100, 2, 100, 1000);
+        music.play("loop", true);
+        render(10);
+
+        music.stop();
+        assertFalse(music.isPlaying());
+        byte[] out = render(CROSSFADE_FRAMES + 10);
+
+        assertTrue(sample(out, 10, 0) > 0);
+        assertEquals(0, sample(out, CROSSFADE_FRAMES + 5, 0));
+    }
+
+    @Test
+    void testMonoTrackIsResampled() {
+        addTrack("mono", 22050, 1, 2205, 1000);
+        music.play("mono", false);
+
+        byte[] out = render(5000);
+
+        int sounding = 0;
+        for (int frame = 0; frame < 5000; frame++) {
+            assertEquals(sample(out, frame, 0), sample(out, frame, 1));
+            if (sample(out, frame, 0) != 0) {
+                sounding++;
+            }
+        }
+        assertTrue(sounding >= 4400 && sounding <= 4410, "A tenth of a second should last 4410 frames, was " + sounding);
+    }
+
+    @Test
+    void testMissingTrackIsSilent() {
+        music.play("missing", true);
+        assertTrue(music.isPlaying());
+
+        byte[] out = render(100);
+
+        assertEquals(0, sample(out, 50, 0));
+        assertFalse(music.isPlaying());
+    }
+}
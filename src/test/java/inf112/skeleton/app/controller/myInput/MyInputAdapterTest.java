@@ -1,5 +1,6 @@
 package inf112.skeleton.app.controller.myInput;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
@@ -17,6 +18,8 @@ import inf112.skeleton.app.model.Direction;
 import inf112.skeleton.app.model.GameLogic;
 import inf112.skeleton.app.model.GameState;
 import inf112.skeleton.app.model.entities.Player;
+import inf112.skeleton.app.utils.DebugOptions;
+import inf112.skeleton.app.utils.DebugOptions.Overlay;
 
 public class MyInputAdapterTest {
 
@@ -53,4 +56,23 @@ public class MyInputAdapterTest {
         assertTrue(inputAdapter.keyDown(Keys.P));
         verify(gameLogic).setGameState(GameState.GAME_PAUSED);
     }
+
+    @Test
+    void testFunctionKeysToggleDebugOverlays() {
+        DebugOptions debugOptions = new DebugOptions();
+        MyInputAdapter adapter = new MyInputAdapter(player, gameLogic, debugOptions);
+
+        assertTrue(adapter.keyDown(Keys.F1));
+        assertTrue(debugOptions.isEnabled(Overlay.PHYSICS));
+        adapter.keyDown(Keys.F1);
+        assertFalse(debugOptions.isEnabled(Overlay.PHYSICS));
+        adapter.keyDown(Keys.F4);
+        assertTrue(debugOptions.isEnabled(Overlay.COUNTS));
+    }
+
+    @Test
+    void testFunctionKeysIgnoredWithoutDebugOptions() {
+        when(gameLogic.getGameState()).thenReturn(GameState.GAME_ACTIVE);
+        assertFalse(inputAdapter.keyDown(Keys.F1));
+    }
 }
@@ -1,43 +1,43 @@
 package inf112.skeleton.app.controller.myInput;
 
+import static inf112.skeleton.app.utils.Constants.BACKGROUND_MUSIC;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import javax.sound.sampled.Clip;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import com.badlogic.gdx.audio.Music;
-
 public class SoundControllerTest {
-    @Mock private Music backgroundMusic;
-    @Mock private Clip clip;
-    @InjectMocks private SoundController soundController;
+    @Mock private MusicStreamer backgroundMusic;
+    @Mock private SoundEngine engine;
+    private SoundController soundController;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        // Assuming getClips() and getBackgroundMusic() are provided and accessible for testing
-        soundController.getClips().put("move", clip);
-        soundController.getClips().put("coin", clip);
-        soundController.getClips().put("damage", clip);
-        soundController.getClips().put("technologyShot", clip);
-        soundController.getClips().put("isaacDeath", clip);
-        soundController.getBackgroundMusic(); // Assume this method is implemented
+        soundController = new SoundController(engine, backgroundMusic);
+    }
+
+    @Test
+    void testSoundsAreDecodedOnWorkers() {
+        SoundController loaded = new SoundController(Runnable::run);
+        try {
+            assertTrue(loaded.isLoaded());
+            loaded.playDamageSound();
+        } finally {
+            loaded.dispose();
+        }
     }
-    
+
     @Test
     void testDispose() {
         soundController.dispose();
-        verify(clip, times(5)).close(); // assuming there are 5 clips loaded
+        verify(engine).dispose();
         verify(backgroundMusic).dispose();
     }
 
@@ -47,9 +47,9 @@ void testGetBackgroundMusic() {
 }
 
     @Test
-void testGetClips() {
-    assertNotNull(soundController.getClips());
-    assertTrue(soundController.getClips().containsKey("move"));
+void testGetEngine() {
+    assertNotNull(soundController.getEngine());
+    assertSame(engine, soundController.getEngine());
 }
 
     // @Test
@@ -65,59 +65,51 @@ void testGetClips() {
     void testPlayBackgroundMusic() {
         when(backgroundMusic.isPlaying()).thenReturn(false);
         soundController.playBackgroundMusic(0.2f);
-        verify(backgroundMusic).play();
+        verify(backgroundMusic).setVolume(0.2f);
+        verify(backgroundMusic).play(BACKGROUND_MUSIC, true);
+    }
+
+    @Test
+    void testInitializeBackgroundMusicStreamsLoopingTrack() {
+        soundController.initializeBackgroundMusic();
+        verify(backgroundMusic).play(BACKGROUND_MUSIC, true);
     }
 
 
     @Test
     void testPlayCoinSound() {
         soundController.playCollectCoinSound();
-        verify(clip).start();
+        verify(engine).play("coin");
     }
 
     @Test
     void testPlayDamageSound() {
         soundController.playDamageSound();
-        verify(clip).start();
+        verify(engine).play("damage");
     }
 
     @Test
     void testPlayGameOverSound() {
         soundController.playGameOverSound();
-        verify(clip).start();
+        verify(engine).play("isaacDeath");
     }
 
     @Test
     void testPlayMoveSound() {
         soundController.playMoveSound();
-        verify(clip).start();
+        verify(engine).play("move");
     }
 
-    // @Test
-    // void testPlayPestilenceSound() {
-    //     soundController.playPestilenceSound();
-    //     verify(clip).start();
-    // }
-
-    // @Test
-    // void testPlaySound_NotPlaying() {
-    //     // Setup the clip to not be playing
-    //     when(clip.isRunning()).thenReturn(false);
-
-    //     // Call playSound with a valid key
-    //     soundController.playSound("move");
-
-    //     // Verify the clip is stopped (to reset it) and started
-    //     verify(clip).stop();  // To ensure it is stopped before starting again
-    //     verify(clip).setFramePosition(0);  // Resetting to start
-    //     verify(clip).start();  // Should start the clip
-    // }
-
+    @Test
+    void testPlayPestilenceSound() {
+        soundController.playPestilenceSound();
+        verify(engine).play("pestilence");
+    }
 
     @Test
     void testPlayTechoShotSound() {
         soundController.playTechoShotSound();
-        verify(clip).start();
+        verify(engine).play("technologyShot");
     }
 
     @Test
@@ -130,6 +122,8 @@ void testGetClips() {
 
     @Test
     void testStopBackgroundMusic() {
-
+        when(backgroundMusic.isPlaying()).thenReturn(true);
+        soundController.stopBackgroundMusic();
+        verify(backgroundMusic).stop();
     }
 }
@@ -0,0 +1,135 @@
+package inf112.skeleton.app.controller.myInput;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SoundEngineTest {
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static class FakeVoice implements SoundEngine.Voice {
+        int plays;
+        boolean playing;
+        boolean closed;
+
+        @Override
+        public void play() {
+            plays++;
+            playing = true;
+        }
+
+        @Override
+        public boolean isPlaying() {
+            return playing;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private SoundEngine engine;
+    private FakeVoice first;
+    private FakeVoice second;
+
+    @BeforeEach
+    void setUp() {
+        engine = new SoundEngine();
+        first = new FakeVoice();
+        second = new FakeVoice();
+        engine.addEffect("death", List.of(first, second), 40);
+    }
+
+    @Test
+    void testRequestsInOneDrainAreCoalesced() {
+        for (int i = 0; i < 20; i++) {
+            engine.play("death");
+        }
+        engine.drain(0);
+
+        assertEquals(1, first.plays + second.plays);
+        assertEquals(1, engine.getStartedCount("death"));
+        assertEquals(19, engine.getDroppedCount("death"));
+    }
+
+    @Test
+    void testRequestsWithinMinIntervalAreDropped() {
+        engine.play("death");
+        engine.drain(0);
+        engine.play("death");
+        engine.drain(10 * MS);
+        engine.play("death");
+        engine.drain(50 * MS);
+
+        assertEquals(2, engine.getStartedCount("death"));
+        assertEquals(1, engine.getDroppedCount("death"));
+    }
+
+    @Test
+    void testOverlappingPlaysUseIdleVoice() {
+        engine.play("death");
+        engine.drain(0);
+        engine.play("death");
+        engine.drain(100 * MS);
+
+        assertEquals(1, first.plays);
+        assertEquals(1, second.plays);
+    }
+
+    @Test
+    void testOldestVoiceIsStolenWhenAllArePlaying() {
+        for (int i = 0; i < 3; i++) {
+            engine.play("death");
+            engine.drain(i * 100 * MS);
+        }
+
+        assertEquals(2, first.plays);
+        assertEquals(1, second.plays);
+    }
+
+    @Test
+    void testUnknownEffectIsIgnored() {
+        engine.play("missing");
+        engine.drain(0);
+
+        assertFalse(engine.hasEffect("missing"));
+        assertEquals(0, engine.getStartedCount("missing"));
+    }
+
+    @Test
+    void testEffectWithoutVoicesIsLeftOut() {
+        engine.addEffect("background", List.of(), 0);
+
+        assertFalse(engine.hasEffect("background"));
+        assertTrue(engine.hasEffect("death"));
+    }
+
+    @Test
+    void testAudioThreadPlaysRequests() throws InterruptedException {
+        engine.start();
+        engine.play("death");
+        for (int i = 0; i < 200 && first.plays + second.plays == 0; i++) {
+            Thread.sleep(5);
+        }
+        engine.dispose();
+
+        assertEquals(1, first.plays + second.plays);
+        assertThrows(IllegalStateException.class, () -> engine.addEffect("coin", List.of(new FakeVoice()), 0));
+    }
+
+    @Test
+    void testDisposeClosesEveryVoice() {
+        engine.dispose();
+
+        assertTrue(first.closed);
+        assertTrue(second.closed);
+    }
+}
@@ -0,0 +1,184 @@
+package inf112.skeleton.app.model;
+
+import static inf112.skeleton.app.utils.Constants.AI_PARALLEL_THRESHOLD;
+import static inf112.skeleton.app.utils.Constants.TIME_STEP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+
+import inf112.skeleton.app.model.entities.enemies.Enemy;
+import inf112.skeleton.app.model.entities.enemies.Light;
+import inf112.skeleton.app.utils.FlowField;
+
+public class EnemyAIStageTest {
+    private World world;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        world = new World(new Vector2(0, 0), true);
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+        world.dispose();
+    }
+
+    private EnemyStore spawnEnemies(int count) {
+        EnemyStore enemies = new EnemyStore();
+        for (int i = 0; i < count; i++) {
+            Light light = new Light(world);
+            light.setPos(10 + (i * 37) % 780, 10 + (i * 53) % 780);
+            if (i % 5 == 0) {
+                light.setStunTimer(1);
+            }
+            enemies.add(light);
+        }
+        enemies.syncBodies();
+        return enemies;
+    }
+
+    @Test
+    void testParallelMatchesSerial() {
+        FlowField field = new FlowField(50, 50, 16);
+        field.blockPolyline(new float[] {400, 0, 400, 600}, false);
+        field.update(600, 300);
+        EnemyStore serialEnemies = spawnEnemies(500);
+        EnemyStore parallelEnemies = spawnEnemies(500);
+
+        new EnemyAIStage(pool, Integer.MAX_VALUE).update(serialEnemies, field, 600, 300);
+        new EnemyAIStage(pool, 1).update(parallelEnemies, field, 600, 300);
+
+        for (int i = 0; i < serialEnemies.size(); i++) {
+            Enemy serial = serialEnemies.get(i);
+            Enemy parallel = parallelEnemies.get(i);
+            assertEquals(serial.getBody().getLinearVelocity(), parallel.getBody().getLinearVelocity());
+            assertEquals(serial.getStunTimer(), parallel.getStunTimer());
+            assertEquals(serial.getOpacity(), parallel.getOpacity());
+        }
+    }
+
+    @Test
+    void testStunnedEnemiesDoNotMove() {
+        EnemyStore enemies = spawnEnemies(2);
+        EnemyAIStage stage = new EnemyAIStage(pool, 1);
+
+        stage.update(enemies, null, 400, 400);
+
+        Enemy stunned = enemies.get(0);
+        assertEquals(1 - TIME_STEP, stunned.getStunTimer(), 0.0001f);
+        assertEquals(0.5f, stunned.getOpacity());
+        assertEquals(0, stunned.getBody().getLinearVelocity().len(), 0.0001f);
+
+        Enemy moving = enemies.get(1);
+        assertEquals(1f, moving.getOpacity());
+        assertTrue(moving.getBody().getLinearVelocity().len() > 0);
+    }
+
+    @Test
+    void testWithoutFlowFieldEnemiesMoveStraightAtTarget() {
+        EnemyStore enemies = spawnEnemies(2);
+        Enemy enemy = enemies.get(1);
+        enemy.setPos(100, 100);
+        enemies.syncBodies();
+
+        new EnemyAIStage().update(enemies, null, 200, 100);
+
+        Vector2 velocity = enemy.getBody().getLinearVelocity();
+        assertTrue(velocity.x > 0);
+        assertEquals(0, velocity.y, 0.0001f);
+    }
+
+    @Test
+    void testParallelUpdateDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        FlowField field = new FlowField(50, 50, 16);
+        field.update(600, 300);
+        EnemyStore enemies = spawnEnemies(AI_PARALLEL_THRESHOLD * 4);
+        EnemyAIStage stage = new EnemyAIStage(pool, AI_PARALLEL_THRESHOLD);
+
+        for (int i = 0; i < 1000; i++) {
+            stage.update(enemies, field, 600, 300);
+        }
+        long overhead = -threads.getCurrentThreadAllocatedBytes() + threads.getCurrentThreadAllocatedBytes();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 1000; i++) {
+            stage.update(enemies, field, 600, 300);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before - overhead;
+
+        // Any object allocated per update would add up to at least 16 000 bytes. A few bytes may come from the JIT
+        // recompiling the wait once the pool is slow enough for the calling thread to yield.
+        assertTrue(allocated < 1000, "1000 parallel updates allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void testParallelUpdateRethrowsFailure() {
+        EnemyStore enemies = spawnEnemies(AI_PARALLEL_THRESHOLD * 2);
+        EnemyAIStage stage = new EnemyAIStage(pool, AI_PARALLEL_THRESHOLD);
+        FlowField field = new FlowField(1, 1, 16) {
+            @Override
+            public int getCell(float x, float y) {
+                throw new IllegalStateException("broken field");
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> stage.update(enemies, field, 600, 300));
+        // The stage can still be used after a failure
+        stage.update(enemies, null, 600, 300);
+    }
+
+    @Test
+    void testUpdateDoesNotWaitForBusyPool() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch busy = new CountDownLatch(pool.getParallelism());
+        for (int i = 0; i < pool.getParallelism(); i++) {
+            pool.execute(() -> {
+                busy.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        busy.await();
+        FlowField field = new FlowField(50, 50, 16);
+        field.update(600, 300);
+        EnemyStore serialEnemies = spawnEnemies(AI_PARALLEL_THRESHOLD * 4);
+        EnemyStore parallelEnemies = spawnEnemies(AI_PARALLEL_THRESHOLD * 4);
+        EnemyAIStage stage = new EnemyAIStage(pool, AI_PARALLEL_THRESHOLD);
+
+        try {
+            // No thread of the pool can start a helper, so the calling thread computes every batch itself
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                for (int i = 0; i < 3; i++) {
+                    stage.update(parallelEnemies, field, 600, 300);
+                }
+            });
+        } finally {
+            release.countDown();
+        }
+        new EnemyAIStage(pool, Integer.MAX_VALUE).update(serialEnemies, field, 600, 300);
+        assertEquals(serialEnemies.get(1).getOpacity(), parallelEnemies.get(1).getOpacity());
+        // The queued helpers start late, find nothing to claim, and the stage keeps working
+        for (int i = 0; i < 10; i++) {
+            stage.update(parallelEnemies, field, 600, 300);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package inf112.skeleton.app.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+
+import inf112.skeleton.app.model.entities.EntityType;
+import inf112.skeleton.app.model.entities.enemies.Enemy;
+import inf112.skeleton.app.model.entities.enemies.Heavy;
+import inf112.skeleton.app.model.entities.enemies.Light;
+import inf112.skeleton.app.model.entities.enemies.Medium;
+
+public class EnemyStoreTest {
+    private World world;
+    private EnemyStore store;
+
+    @BeforeEach
+    void setUp() {
+        world = new World(new Vector2(0, 0), true);
+        store = new EnemyStore();
+    }
+
+    @AfterEach
+    void tearDown() {
+        world.dispose();
+    }
+
+    @Test
+    void testAddCopiesStateIntoArrays() {
+        Light light = new Light(world);
+        light.setPos(30, 40);
+        light.setStunTimer(2);
+        store.add(light);
+
+        assertEquals(30, store.getX(0));
+        assertEquals(40, store.getY(0));
+        assertEquals(2, store.getStunTimer(0));
+        assertEquals(light.getHP(), store.getHP(0));
+        assertEquals(light.getSpeed(), store.getSpeed(0));
+        assertEquals(EntityType.ENEMY_LIGHT, store.getType(0));
+    }
+
+    @Test
+    void testEnemyReadsAndWritesStateInStore() {
+        Medium medium = new Medium(world);
+        store.add(medium);
+
+        store.setHP(0, 3);
+        assertEquals(3, medium.getHP());
+
+        medium.hit(1, 0, 0, 0.5f);
+        assertEquals(2, store.getHP(0));
+        assertEquals(0.5f, store.getStunTimer(0));
+    }
+
+    @Test
+    void testRemovedEnemyKeepsItsState() {
+        Heavy heavy = new Heavy(world);
+        store.add(heavy);
+        store.setHP(0, 7);
+        store.setStunTimer(0, 1.5f);
+
+        store.remove(heavy);
+        store.add(new Light(world));
+        store.setHP(0, 100);
+
+        assertEquals(7, heavy.getHP());
+        assertEquals(1.5f, heavy.getStunTimer());
+    }
+
+    @Test
+    void testSwapRemoveMovesStateWithEnemy() {
+        Light first = new Light(world);
+        Medium second = new Medium(world);
+        Heavy last = new Heavy(world);
+        store.add(first);
+        store.add(second);
+        store.add(last);
+        last.setHP(42);
+        last.setPos(70, 80);
+        store.syncBodies();
+
+        store.remove(first);
+
+        assertSame(last, store.get(0));
+        assertEquals(42, store.getHP(0));
+        assertEquals(70, store.getX(0));
+        assertEquals(80, store.getY(0));
+        assertEquals(EntityType.ENEMY_HEAVY, store.getType(0));
+        assertEquals(42, last.getHP());
+    }
+
+    @Test
+    void testSyncBodiesCopiesPositions() {
+        Enemy enemy = new Light(world);
+        store.add(enemy);
+        enemy.setPos(5, 6);
+        assertEquals(0, store.getX(0));
+
+        store.syncBodies();
+
+        assertEquals(5, store.getX(0));
+        assertEquals(6, store.getY(0));
+    }
+
+    @Test
+    void testGrowsPastInitialCapacity() {
+        for (int i = 0; i < 100; i++) {
+            Light light = new Light(world);
+            light.setHP(i);
+            store.add(light);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, store.getHP(i));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package inf112.skeleton.app.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+
+import inf112.skeleton.app.model.entities.Coin;
+import inf112.skeleton.app.utils.Constants;
+import inf112.skeleton.app.model.entities.Player;
+import inf112.skeleton.app.model.entities.enemies.Heavy;
+import inf112.skeleton.app.model.entities.enemies.Light;
+import inf112.skeleton.app.utils.B2DPhysics.PhysicsFactory;
+
+public class EntityPoolsTest {
+    private World world;
+    private EntityPools pools;
+
+    @BeforeEach
+    void setUp() {
+        world = new World(new Vector2(0, 0), true);
+        pools = new EntityPools(world);
+    }
+
+    @AfterEach
+    void tearDown() {
+        world.dispose();
+    }
+
+    @Test
+    void testFreedEnemyIsReusedWithFullHealth() {
+        Light light = pools.obtainLight();
+        light.hit(light.getHP(), 100, 0, 1);
+        assertFalse(light.isActive());
+
+        assertTrue(pools.free(light));
+        assertFalse(light.getBody().isActive(), "A freed enemy's body should be deactivated");
+        assertEquals(1, pools.getFree());
+
+        Light reused = pools.obtainLight();
+        assertSame(light, reused);
+        assertTrue(reused.isActive());
+        assertTrue(reused.getBody().isActive());
+        assertEquals(reused.getMaxHP(), reused.getHP());
+        assertEquals(0, reused.getStunTimer());
+        assertEquals(0, reused.getBody().getLinearVelocity().len(), 0.0001f);
+        assertEquals(1, world.getBodyCount(), "No new body should be created");
+    }
+
+    @Test
+    void testEachEnemyTypeHasItsOwnPool() {
+        Heavy heavy = pools.obtainHeavy();
+        pools.free(heavy);
+        pools.obtainLight();
+        assertEquals(1, pools.getFree());
+        assertEquals(2, world.getBodyCount());
+    }
+
+    @Test
+    void testFreedCoinIsReusedUncollected() {
+        Coin coin = pools.obtainCoin(5);
+        coin.setCollected();
+        pools.free(coin);
+
+        Coin reused = pools.obtainCoin(10);
+        assertSame(coin, reused);
+        assertFalse(reused.isCollected());
+        assertFalse(reused.getIsDestroyed());
+        assertEquals(10, reused.getValue());
+    }
+
+    @Test
+    void testOtherEntitiesAreNotPooled() {
+        Player player = new Player(PhysicsFactory.createDynamicEntityBody(world, new Vector2(), 10, 10, true, Constants.CATEGORY_PLAYER), "player", "player");
+        assertFalse(pools.free(player));
+    }
+}
@@ -0,0 +1,87 @@
+package inf112.skeleton.app.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.utils.Array;
+
+import inf112.skeleton.app.model.entities.Coin;
+
+public class EntityStoreTest {
+    private EntityStore<Coin> store;
+    private Coin a;
+    private Coin b;
+    private Coin c;
+
+    private static Coin coin() {
+        Body body = mock(Body.class);
+        Array<Fixture> fixtures = new Array<>();
+        fixtures.add(mock(Fixture.class));
+        when(body.getFixtureList()).thenReturn(fixtures);
+        return new Coin(body, "coin", 1, "coin");
+    }
+
+    @BeforeEach
+    void setUp() {
+        store = new EntityStore<>();
+        a = coin();
+        b = coin();
+        c = coin();
+        store.add(a);
+        store.add(b);
+        store.add(c);
+    }
+
+    @Test
+    void testAddIgnoresDuplicates() {
+        assertFalse(store.add(a));
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    void testRemoveMovesLastEntityIntoPlace() {
+        assertTrue(store.remove(a));
+        assertEquals(2, store.size());
+        assertSame(c, store.get(0));
+        assertSame(b, store.get(1));
+        assertEquals(0, store.indexOf(c));
+        assertFalse(store.contains(a));
+        assertFalse(store.remove(a));
+    }
+
+    @Test
+    void testRemoveLast() {
+        assertSame(c, store.remove(2));
+        assertEquals(1, store.indexOf(b));
+        assertTrue(store.contains(b));
+    }
+
+    @Test
+    void testRemoveWhileIteratingBackwards() {
+        for (int i = store.size() - 1; i >= 0; i--) {
+            if (store.get(i) != b) {
+                store.remove(i);
+            }
+        }
+        assertEquals(1, store.size());
+        assertSame(b, store.get(0));
+    }
+
+    @Test
+    void testClear() {
+        store.clear();
+        assertTrue(store.isEmpty());
+        assertFalse(store.contains(b));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(0));
+    }
+}
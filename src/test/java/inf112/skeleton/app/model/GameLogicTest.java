@@ -18,10 +18,15 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 
+import inf112.skeleton.app.controller.myInput.ISoundController;
+import inf112.skeleton.app.controller.myInput.InputSource;
+import inf112.skeleton.app.controller.myInput.NullSoundController;
 import inf112.skeleton.app.model.entities.Entity;
 import inf112.skeleton.app.model.entities.enemies.Enemy;
 import inf112.skeleton.app.model.entities.enemies.Medium;
+import inf112.skeleton.app.model.entities.weapons.MetalSword;
 import inf112.skeleton.app.model.entities.weapons.TreeSword;
+import inf112.skeleton.app.model.entities.weapons.Weapon;
 import inf112.skeleton.app.utils.Constants;
 
 public class GameLogicTest {
@@ -66,7 +71,10 @@ public class GameLogicTest {
 
     @BeforeEach
     void setUp() {
-        gameLogic = new GameLogic(GameState.GAME_ACTIVE);
+        gameLogic = new GameLogic(GameState.GAME_ACTIVE,
+                Clock.fixed(Constants.TIME_STEP),
+                InputSource.fixed(Constants.WINDOW_WIDTH / 2, Constants.WINDOW_HEIGHT / 2),
+                new NullSoundController());
         gameLogic.setWorld(new World(new Vector2(0, 0), true));
 
         // Load the map
@@ -169,6 +177,21 @@ public class GameLogicTest {
 
     // FÅR IKKE TESTET "update()" i GameLogic.java
 
+    @Test
+    void testBuyWeaponOnlyWithEnoughCoins() {
+        Weapon weapon = gameLogic.getWeapon();
+        gameLogic.setCoinValue(Constants.METAL_SWORD_COST - 1);
+
+        assertFalse(gameLogic.buyWeapon(MetalSword::new, Constants.METAL_SWORD_COST));
+        assertEquals(weapon, gameLogic.getWeapon());
+
+        gameLogic.setCoinValue(Constants.METAL_SWORD_COST);
+        assertTrue(gameLogic.buyWeapon(MetalSword::new, Constants.METAL_SWORD_COST));
+        assertTrue(gameLogic.getWeapon() instanceof MetalSword);
+        assertTrue(weapon.getIsDestroyed());
+        assertEquals(0, gameLogic.getCoinValue());
+    }
+
     @Test
     void testGetActiveEntities() {
         List<Entity> enemies = gameLogic.getActiveEntities();
@@ -213,6 +236,85 @@ public class GameLogicTest {
         assertFalse(newDistance < initialDistance, "Enemy should move closer to the player");
     }
 
-}
+    @Test
+    void testUpdateKeepsRemainderForInterpolation() {
+        gameLogic.update(Constants.TIME_STEP * 2.5f);
+        assertEquals(0.5f, gameLogic.getAlpha(), 0.01f, "Half a tick should be left over");
+    }
+
+    @Test
+    void testUpdateCapsSubStepsOnSlowFrames() {
+        Enemy enemy = gameLogic.getAllEnemies().get(0);
+        enemy.setStunTimer(100);
+        gameLogic.update(10f);
+        assertEquals(100 - Constants.MAX_SUB_STEPS * Constants.TIME_STEP, enemy.getStunTimer(), 0.001f,
+                "A slow frame should run at most MAX_SUB_STEPS ticks");
+        assertTrue(gameLogic.getAlpha() >= 0 && gameLogic.getAlpha() < 1);
+    }
+
+    @Test
+    void testTickAdvancesTimersByFixedStep() {
+        Enemy enemy = gameLogic.getAllEnemies().get(0);
+        enemy.setStunTimer(1);
+        gameLogic.tick();
+        assertEquals(1 - Constants.TIME_STEP, enemy.getStunTimer(), 0.0001f);
+    }
+
+    @Test
+    void testOnlyEnemiesNearPlayerHitPlayer() {
+        Vector2 playerPosition = gameLogic.getPlayer().getBody().getPosition();
+        for (Enemy enemy : gameLogic.getAllEnemies()) {
+            enemy.setPos(playerPosition.x + 300, playerPosition.y + 300);
+        }
+        gameLogic.tick();
+        assertEquals(Constants.PLAYER_HEALTH, gameLogic.getPlayer().getHealth(), "Enemies far away should not hit the player");
+
+        Enemy enemy = gameLogic.getAllEnemies().get(0);
+        enemy.setPos(playerPosition.x + 10, playerPosition.y);
+        gameLogic.tick();
+        assertTrue(gameLogic.getPlayer().getHealth() < Constants.PLAYER_HEALTH, "An enemy next to the player should hit the player");
+    }
+
+    @Test
+    void testDamageSoundOnlyPlaysOutsideHitCooldown() {
+        ISoundController sounds = Mockito.mock(ISoundController.class);
+        GameLogic logic = new GameLogic(GameState.GAME_ACTIVE,
+                Clock.fixed(Constants.TIME_STEP),
+                InputSource.fixed(Constants.WINDOW_WIDTH / 2, Constants.WINDOW_HEIGHT / 2),
+                sounds);
+        logic.setMap(map);
+        Vector2 playerPosition = logic.getPlayer().getBody().getPosition();
+        for (Enemy enemy : logic.getAllEnemies()) {
+            enemy.setPos(playerPosition.x + 300, playerPosition.y + 300);
+        }
+        logic.tick();
+
+        logic.onPlayerSpikeCollision(logic.getPlayer(), null);
+        logic.onPlayerSpikeCollision(logic.getPlayer(), null);
+
+        Mockito.verify(sounds, Mockito.times(1)).playDamageSound();
+        Mockito.verify(sounds, Mockito.times(2)).spikeHurtSound();
+        assertEquals(Constants.PLAYER_HEALTH - Constants.HIT_DAMAGE, logic.getPlayer().getHealth());
+    }
 
+    @Test
+    void testRandomEntityPositionsAreLegal() {
+        for (int i = 0; i < 1000; i++) {
+            Vector2 position = gameLogic.getRandomEntityPosition();
+            assertTrue(gameLogic.isLegalSpawnPosition(position), "Spawn position " + position + " should be legal");
+        }
+    }
 
+    @Test
+    void testResetGameReusesBodies() {
+        int bodies = gameLogic.getWorld().getBodyCount();
+        for (Enemy enemy : gameLogic.getAllEnemies()) {
+            enemy.setHP(0);
+        }
+        gameLogic.resetGame();
+        gameLogic.resetGame();
+        assertEquals(bodies, gameLogic.getWorld().getBodyCount(), "Enemies and coins should come from their pools");
+        assertEquals(Constants.NUM_COINS + Constants.NUM_STARTER_ENEMIES + 2, gameLogic.getAllEntities().size(),
+                "Entities should hold the player, weapon, enemies and coins once each");
+    }
+}
@@ -0,0 +1,89 @@
+package inf112.skeleton.app.model;
+
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+
+import inf112.skeleton.app.controller.myInput.InputSource;
+import inf112.skeleton.app.controller.myInput.NullSoundController;
+import inf112.skeleton.app.utils.B2DPhysics.TiledObjectUtil;
+
+import static inf112.skeleton.app.utils.Constants.*;
+
+/**
+ * Runs the game logic without a window or audio device, as fast as the CPU allows.
+ * Used by soak tests, balance sweeps and benchmarks.
+ */
+public class HeadlessSimulation {
+    private static boolean initialized = false;
+
+    private final GameLogic gameLogic;
+    private final TiledMap map;
+
+    /**
+     * Starts a headless libGDX application with a mocked GL, once per JVM.
+     * Needed to load the map, whose tile sets are textures.
+     */
+    public static synchronized void initGdx() {
+        if (!initialized) {
+            new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+            Gdx.gl = Mockito.mock(GL20.class);
+            Gdx.gl20 = Gdx.gl;
+            initialized = true;
+        }
+    }
+
+    /**
+     * Constructs a simulation of the game on {@link inf112.skeleton.app.utils.Constants#MAP_IMG},
+     * with the mouse fixed at the centre of the window.
+     */
+    public HeadlessSimulation() {
+        initGdx();
+        gameLogic = new GameLogic(GameState.GAME_ACTIVE,
+                Clock.fixed(TIME_STEP),
+                InputSource.fixed(WINDOW_WIDTH / 2, WINDOW_HEIGHT / 2),
+                new NullSoundController());
+        map = new TmxMapLoader().load(MAP_IMG);
+        TiledObjectUtil.parseTiledObjectLayer(gameLogic.getWorld(), map.getLayers().get("collision-layer").getObjects());
+        TiledObjectUtil.createSpikes(gameLogic.getWorld(), map.getLayers().get("object-damage-layer").getObjects());
+        gameLogic.setMap(map);
+    }
+
+    /**
+     * Gets the simulated game logic.
+     *
+     * @return the game logic.
+     */
+    public GameLogic getGameLogic() {
+        return gameLogic;
+    }
+
+    /**
+     * Runs the given number of ticks back to back.
+     *
+     * @param ticks the number of ticks to run.
+     * @return the number of ticks run per second of wall-clock time.
+     */
+    public double run(int ticks) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            gameLogic.tick();
+        }
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        return ticks / (elapsed / 1e9);
+    }
+
+    /**
+     * Releases the map and physics world.
+     */
+    public void dispose() {
+        gameLogic.getWorld().dispose();
+        map.dispose();
+    }
+}
@@ -0,0 +1,122 @@
+package inf112.skeleton.app.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import inf112.skeleton.app.model.entities.Entity;
+import inf112.skeleton.app.model.entities.enemies.Enemy;
+import inf112.skeleton.app.utils.Constants;
+import inf112.skeleton.app.utils.FrameProfiler;
+import inf112.skeleton.app.utils.FrameProfiler.Section;
+
+public class HeadlessSimulationTest {
+    private static final int SOAK_TICKS = 20_000; // Over five minutes of game time
+    private static final int WARMUP_TICKS = 5_000;
+    private static final int MEASURED_TICKS = 1_000;
+    private static final int FULL_WAVE = 20; // 42 enemies, below the parallel AI threshold
+    // Enough enemies that their AI runs in parallel batches
+    private static final int PARALLEL_WAVE = (Constants.AI_PARALLEL_THRESHOLD * 2 - Constants.NUM_STARTER_ENEMIES) / 2;
+
+    private HeadlessSimulation simulation;
+
+    @BeforeEach
+    void setUp() {
+        simulation = new HeadlessSimulation();
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulation.dispose();
+    }
+
+    @Test
+    void testRunsWithoutWindowOrAudio() {
+        GameLogic gameLogic = simulation.getGameLogic();
+        simulation.run(Constants.TICK_RATE);
+        assertNotNull(gameLogic.getPlayer());
+        assertFalse(gameLogic.getAllEnemies().isEmpty());
+    }
+
+    @Test
+    void testProfilerTimesTickSections() {
+        FrameProfiler profiler = simulation.getGameLogic().getProfiler();
+        simulation.run(10);
+        assertEquals(0, profiler.getSampleCount(Section.TICK), "A disabled profiler should record nothing");
+
+        profiler.setEnabled(true);
+        simulation.run(10);
+        for (Section section : new Section[] {Section.TICK, Section.WORLD_STEP, Section.ENEMY_AI, Section.COLLISIONS, Section.CLEANUP}) {
+            assertEquals(10, profiler.getSampleCount(section), section.getLabel());
+        }
+        long[] tick = profiler.getPercentiles(Section.TICK, new long[3]);
+        long[] step = profiler.getPercentiles(Section.WORLD_STEP, new long[3]);
+        assertTrue(tick[0] >= step[0], "A tick includes the world step");
+    }
+
+    @Test
+    void testSoak() {
+        double ticksPerSecond = simulation.run(SOAK_TICKS);
+
+        assertTrue(ticksPerSecond > Constants.TICK_RATE,
+                "Headless simulation should run faster than real time, ran " + Math.round(ticksPerSecond) + " ticks/s");
+        for (Entity entity : simulation.getGameLogic().getAllEntities()) {
+            assertTrue(Float.isFinite(entity.getX()) && Float.isFinite(entity.getY()), "Entity positions should stay finite");
+        }
+    }
+
+    @Test
+    void testUpdateDoesNotAllocateInSteadyState() {
+        assertNoSteadyStateAllocation(FULL_WAVE);
+    }
+
+    @Test
+    void testUpdateWithParallelAIDoesNotAllocateInSteadyState() {
+        assertNoSteadyStateAllocation(PARALLEL_WAVE);
+        assertTrue(simulation.getGameLogic().getAllEnemies().size() >= Constants.AI_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Runs a wave that cannot die until the game is warm, then checks that the measured ticks allocate
+     * no more than an empty loop of the same length on this thread.
+     */
+    private void assertNoSteadyStateAllocation(int wave) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        GameLogic gameLogic = simulation.getGameLogic();
+        while (!gameLogic.getAllEnemies().isEmpty()) {
+            gameLogic.removeEntity(gameLogic.getAllEnemies().get(0));
+        }
+        gameLogic.setWave(wave);
+        gameLogic.initializeEnemies();
+        // Keep the wave alive, so no enemies die or spawn while measuring
+        for (Enemy enemy : gameLogic.getAllEnemies()) {
+            enemy.setHP(Integer.MAX_VALUE);
+        }
+        int enemies = gameLogic.getAllEnemies().size();
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            gameLogic.update();
+        }
+        long baseline = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            Thread.onSpinWait();
+        }
+        baseline = threads.getCurrentThreadAllocatedBytes() - baseline;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            gameLogic.update();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(enemies, gameLogic.getAllEnemies().size(), "The wave should still be alive");
+        assertTrue(allocated <= baseline, "update() allocated " + allocated + " bytes in " + MEASURED_TICKS
+                + " ticks with " + enemies + " enemies, an empty loop " + baseline + " bytes");
+    }
+}
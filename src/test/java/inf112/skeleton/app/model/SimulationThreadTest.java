@@ -0,0 +1,122 @@
+package inf112.skeleton.app.model;
+
+import static inf112.skeleton.app.utils.Constants.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import inf112.skeleton.app.model.entities.Entity;
+import inf112.skeleton.app.model.entities.weapons.DiamondSword;
+import inf112.skeleton.app.model.entities.weapons.TreeSword;
+
+public class SimulationThreadTest {
+    private HeadlessSimulation simulation;
+    private SimulationThread thread;
+
+    @BeforeEach
+    void setUp() {
+        simulation = new HeadlessSimulation();
+        thread = new SimulationThread(simulation.getGameLogic());
+    }
+
+    @AfterEach
+    void tearDown() {
+        thread.stop();
+        simulation.dispose();
+    }
+
+    private void waitForTicks(long ticks) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (thread.getTicks() < ticks && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void testStartsPaused() throws InterruptedException {
+        thread.start();
+        Thread.sleep(50);
+        assertTrue(thread.isPaused());
+        assertEquals(0, thread.getTicks());
+    }
+
+    @Test
+    void testTicksWhileResumedAndStopsWhenPaused() throws InterruptedException {
+        thread.resume();
+        waitForTicks(5);
+        thread.pause();
+        long ticks = thread.getTicks();
+        assertTrue(ticks >= 5);
+
+        Thread.sleep(50);
+        assertEquals(ticks, thread.getTicks(), "No ticks should run while paused");
+    }
+
+    @Test
+    void testRunsAtTickRate() throws InterruptedException {
+        thread.resume();
+        Thread.sleep(500);
+        thread.pause();
+
+        // Half a second is TICK_RATE / 2 ticks, with slack for a busy machine
+        long ticks = thread.getTicks();
+        assertTrue(ticks > TICK_RATE / 4 && ticks <= TICK_RATE / 2 + 2, "Ran " + ticks + " ticks");
+    }
+
+    @Test
+    void testSnapshotMatchesGameLogicWhenPaused() throws InterruptedException {
+        thread.resume();
+        waitForTicks(10);
+        thread.pause();
+        GameLogic gameLogic = simulation.getGameLogic();
+        RenderSnapshot snapshot = thread.getSnapshot();
+
+        assertEquals(gameLogic.getActiveEntities().size(), snapshot.getCount());
+        assertEquals(gameLogic.getPlayer().getX(), snapshot.getPlayerX(1));
+        assertEquals(gameLogic.getPlayer().getHealth(), snapshot.getPlayerHealth());
+        assertEquals(1, thread.getAlpha(snapshot), "A paused simulation should be drawn at its latest tick");
+        assertEquals(gameLogic.getEnemyCount(), snapshot.getEnemyCount());
+        assertEquals(gameLogic.getWorld().getBodyCount(), snapshot.getBodyCount());
+        assertTrue(snapshot.getTickNanos() > 0);
+        for (int i = 0; i < snapshot.getCount(); i++) {
+            Entity entity = gameLogic.getActiveEntities().get(i);
+            assertEquals(entity.getId(), snapshot.getId(i));
+            assertEquals(entity.getX(), snapshot.getX(i, 1));
+            assertEquals(entity.getTextureId(), snapshot.getTextureId(i));
+        }
+    }
+
+    @Test
+    void testResumePublishesSnapshotAtOnce() {
+        simulation.getGameLogic().setCoinValue(123);
+        thread.resume();
+        thread.pause();
+        assertEquals(123, thread.getSnapshot().getCoinValue());
+        assertFalse(thread.getSnapshot().getCount() == 0);
+    }
+
+    @Test
+    void testSwapsWeaponWhileRunning() throws InterruptedException {
+        GameLogic gameLogic = simulation.getGameLogic();
+        gameLogic.setCoinValue(DIAMOND_SWORD_COST);
+        int bodies = gameLogic.getWorld().getBodyCount();
+        thread.resume();
+
+        for (int i = 0; i < 50; i++) {
+            thread.runBetweenTicks(() -> gameLogic.buyWeapon(TreeSword::new, 0));
+            Thread.sleep(1);
+        }
+        thread.runBetweenTicks(() -> gameLogic.buyWeapon(DiamondSword::new, DIAMOND_SWORD_COST));
+        waitForTicks(thread.getTicks() + 5);
+        thread.pause();
+
+        assertTrue(gameLogic.getWeapon() instanceof DiamondSword);
+        assertEquals(0, gameLogic.getCoinValue());
+        assertEquals(0, thread.getSnapshot().getCoinValue());
+        assertEquals(bodies, gameLogic.getWorld().getBodyCount(), "Every old weapon body should be destroyed");
+    }
+}
@@ -111,5 +111,25 @@ public class EntityTest {
         testEntity.setIsDestroyed(true);
         assertTrue(testEntity.getIsDestroyed());
     }
-}
 
+    @Test
+    public void testInterpolatedPosition() {
+        Vector2 position = new Vector2(0, 0);
+        when(mockBody.getPosition()).thenReturn(position);
+        assertEquals(0, testEntity.getInterpolatedX(0.5f), "Without a previous tick the current position is used");
+
+        testEntity.savePreviousPosition();
+        position.set(10, 20);
+        assertEquals(5, testEntity.getInterpolatedX(0.5f));
+        assertEquals(10, testEntity.getInterpolatedY(0.5f));
+        assertEquals(10, testEntity.getInterpolatedX(1));
+    }
+
+    @Test
+    public void testTrigVectorIntoGivenVector() {
+        Vector2 out = new Vector2();
+        assertSame(out, testEntity.trigVector(10, 45, out));
+        assertEquals(testEntity.trigVector(10, 45), out);
+        assertEquals(10, out.len(), 0.0001f);
+    }
+}
@@ -0,0 +1,58 @@
+package inf112.skeleton.app.model.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.utils.Array;
+
+import inf112.skeleton.app.model.entities.enemies.Enemy;
+import inf112.skeleton.app.model.entities.enemies.Heavy;
+import inf112.skeleton.app.model.entities.enemies.Light;
+import inf112.skeleton.app.model.entities.enemies.Medium;
+import inf112.skeleton.app.model.entities.weapons.MetalSword;
+
+public class EntityTypeTest {
+
+    @Test
+    void testNullAndUnknownObjectsHaveNoType() {
+        assertEquals(EntityType.NONE, EntityType.of(null));
+        assertEquals(EntityType.NONE, EntityType.of(new Object()));
+    }
+
+    @Test
+    void testSubclassesGetTypeOfListedEntity() {
+        assertEquals(EntityType.PLAYER, EntityType.of(mock(Player.class)));
+        assertEquals(EntityType.ENEMY, EntityType.of(mock(Enemy.class)));
+        assertEquals(EntityType.WEAPON, EntityType.of(mock(MetalSword.class)));
+        assertEquals(EntityType.SPIKE, EntityType.of(mock(Spike.class)));
+        assertEquals(EntityType.COIN, EntityType.of(mock(Coin.class)));
+    }
+
+    @Test
+    void testEntityStoresTypeOfClass() {
+        assertEquals(EntityType.PLAYER, EntityType.ofClass(Player.class));
+        assertEquals(EntityType.NONE, EntityType.ofClass(Entity.class));
+        Body body = mock(Body.class);
+        Array<Fixture> fixtures = new Array<>();
+        fixtures.add(mock(Fixture.class));
+        when(body.getFixtureList()).thenReturn(fixtures);
+
+        Spike spike = new Spike(body, "spikeTest", 10, 0, 0);
+
+        assertEquals(EntityType.SPIKE, spike.getTypeId());
+        assertEquals(EntityType.SPIKE, EntityType.of(spike));
+    }
+
+    @Test
+    void testEnemyTypeOfEnemyClasses() {
+        assertEquals(EntityType.ENEMY_LIGHT, EntityType.enemyTypeOf(mock(Light.class)));
+        assertEquals(EntityType.ENEMY_MEDIUM, EntityType.enemyTypeOf(mock(Medium.class)));
+        assertEquals(EntityType.ENEMY_HEAVY, EntityType.enemyTypeOf(mock(Heavy.class)));
+        assertEquals(EntityType.ENEMY_OTHER, EntityType.enemyTypeOf(mock(Enemy.class)));
+    }
+}
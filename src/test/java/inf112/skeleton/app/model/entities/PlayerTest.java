@@ -154,6 +154,26 @@ public class PlayerTest {
     }
 
 
+    @Test
+    public void testMovementSetOnOtherThreadIsSeenByMove() throws InterruptedException {
+        Thread input = new Thread(() -> {
+            player.setMovement(Direction.RIGHT, true);
+            player.setMovement(Direction.UP, true);
+            player.setMovement(Direction.UP, false);
+        });
+        input.start();
+        input.join();
+        // move reuses its vector after setting the velocity, so copy it at the call
+        Vector2 velocity = new Vector2();
+        doAnswer(invocation -> velocity.set((Vector2) invocation.getArgument(0))).when(mockBody).setLinearVelocity(any(Vector2.class));
+
+        player.move();
+
+        assertEquals(new Vector2(Constants.PLAYER_SPEED, 0), velocity);
+        assertTrue(player.getMovementDirections().get(Direction.RIGHT));
+        assertFalse(player.getMovementDirections().get(Direction.UP));
+    }
+
     @Test
     public void testStopMovement() {
         // Act
@@ -63,12 +63,12 @@ public class HeavyTest {
          //Move enemy from 0,0 towards 0,50 (Up and right)
          enemy.moveTowards(50, 50);
          velocity = enemy.getBody().getLinearVelocity();
-         assertEquals(0.353,
+         assertEquals(0.354,
                  (double) Math.round(velocity.x * 1000) / 1000, //Rounded to 3 decimal places
-                 "Velocity along x-axis should be about 0.353");
+                 "Velocity along x-axis should be about 0.354");
          assertEquals(0.354,
                  (double) Math.round(velocity.y * 1000) / 1000, //Rounded to 3 decimal places
-                 "Velocity along y-axis should be about 0.353");
+                 "Velocity along y-axis should be about 0.354");
      }
 
     @Test
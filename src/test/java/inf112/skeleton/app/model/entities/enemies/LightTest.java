@@ -63,9 +63,9 @@ public class LightTest {
          //Move enemy from 0,0 towards 0,50 (Up and right)
          enemy.moveTowards(50, 50);
          velocity = enemy.getBody().getLinearVelocity();
-         assertEquals(1.767,
+         assertEquals(1.768,
                  (double) Math.round(velocity.x * 1000) / 1000, //Rounded to 3 decimal places
-                 "Velocity along x-axis should be about 1.767");
+                 "Velocity along x-axis should be about 1.768");
          assertEquals(1.768,
                  (double) Math.round(velocity.y * 1000) / 1000, //Rounded to 3 decimal places
                  "Velocity along y-axis should be about 1.768");
@@ -0,0 +1,52 @@
+package inf112.skeleton.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AtlasPackerTest {
+
+    private static AtlasPacker.PackedImage image(String name, int width, int height) {
+        return new AtlasPacker.PackedImage(name, new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB));
+    }
+
+    @Test
+    void testImagesFitOnPageWithoutOverlap() {
+        List<AtlasPacker.PackedImage> images = new ArrayList<>();
+        images.add(image("hitWarning", 800, 800));
+        images.add(image("button", 275, 268));
+        images.add(image("heart", 16, 16));
+        images.add(image("coin", 19, 19));
+
+        int[] pageSize = AtlasPacker.pack(images);
+
+        for (AtlasPacker.PackedImage a : images) {
+            assertTrue(a.x >= 0 && a.x + a.image.getWidth() <= pageSize[0], a.name + " should fit horizontally");
+            assertTrue(a.y >= 0 && a.y + a.image.getHeight() <= pageSize[1], a.name + " should fit vertically");
+            for (AtlasPacker.PackedImage b : images) {
+                if (a != b) {
+                    boolean overlaps = a.x < b.x + b.image.getWidth() && b.x < a.x + a.image.getWidth()
+                            && a.y < b.y + b.image.getHeight() && b.y < a.y + a.image.getHeight();
+                    assertFalse(overlaps, a.name + " should not overlap " + b.name);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testPageSizeIsPowerOfTwo() {
+        List<AtlasPacker.PackedImage> images = new ArrayList<>();
+        images.add(image("small", 16, 16));
+
+        int[] pageSize = AtlasPacker.pack(images);
+
+        assertEquals(256, pageSize[0]);
+        assertEquals(256, pageSize[1]);
+    }
+}
@@ -1,6 +1,8 @@
 package inf112.skeleton.app.utils.B2DPhysics;
 
 import com.badlogic.gdx.physics.box2d.*;
+import inf112.skeleton.app.model.entities.Coin;
+import inf112.skeleton.app.model.entities.EntityType;
 import inf112.skeleton.app.model.entities.Player;
 import inf112.skeleton.app.model.entities.Spike;
 import inf112.skeleton.app.model.entities.enemies.Enemy;
@@ -9,6 +11,10 @@ import inf112.skeleton.app.model.entities.weapons.MetalSword;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -125,5 +131,43 @@ class B2dContactListenerTest {
         verify(mockPlayer, never()).setInContactWithSpike(false);
     }
 
-    
+    @Test
+    void testSpikeAndPlayerCollisionInReverseOrder() {
+        when(fixtureA.getUserData()).thenReturn(mockSpike);
+        when(fixtureB.getUserData()).thenReturn(mockPlayer);
+
+        listener.beginContact(mockContact);
+
+        verify(mockCallback).onPlayerSpikeCollision(mockPlayer, mockSpike);
+    }
+
+    @Test
+    void testRegisteredHandlerGetsArgumentsInRegisteredOrder() {
+        Coin coin = mock(Coin.class);
+        List<Object> handled = new ArrayList<>();
+        listener.<Coin, Player>onBegin(EntityType.COIN, EntityType.PLAYER, (c, p) -> {
+            handled.add(c);
+            handled.add(p);
+        });
+
+        when(fixtureA.getUserData()).thenReturn(mockPlayer);
+        when(fixtureB.getUserData()).thenReturn(coin);
+        listener.beginContact(mockContact);
+        when(fixtureA.getUserData()).thenReturn(coin);
+        when(fixtureB.getUserData()).thenReturn(mockPlayer);
+        listener.beginContact(mockContact);
+
+        assertEquals(List.of(coin, mockPlayer, coin, mockPlayer), handled);
+    }
+
+    @Test
+    void testRegisteredHandlerReplacesDefault() {
+        listener.<Player, Spike>onEnd(EntityType.PLAYER, EntityType.SPIKE, (p, s) -> {});
+        when(fixtureA.getUserData()).thenReturn(mockPlayer);
+        when(fixtureB.getUserData()).thenReturn(mockSpike);
+
+        listener.endContact(mockContact);
+
+        verify(mockPlayer, never()).setInContactWithSpike(false);
+    }
 }
@@ -3,7 +3,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import org.junit.jupiter.api.*;
 
-import static inf112.skeleton.app.utils.Constants.PPM;
+import static inf112.skeleton.app.utils.Constants.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 class PhysicsFactoryTest {
@@ -27,7 +27,7 @@ class PhysicsFactoryTest {
         float height = 50;
         boolean collisionEnabled = true;
 
-        Body body = PhysicsFactory.createDynamicEntityBody(world, position, width, height, collisionEnabled);
+        Body body = PhysicsFactory.createDynamicEntityBody(world, position, width, height, collisionEnabled, CATEGORY_ENEMY);
 
         assertNotNull(body);
         assertEquals(BodyDef.BodyType.DynamicBody, body.getType());
@@ -39,7 +39,7 @@ class PhysicsFactoryTest {
         assertFalse(fixture.isSensor());
 
         // Test with collision disabled
-        body = PhysicsFactory.createDynamicEntityBody(world, position, width, height, false);
+        body = PhysicsFactory.createDynamicEntityBody(world, position, width, height, false, CATEGORY_ENEMY);
         fixture = body.getFixtureList().first();
         assertTrue(fixture.isSensor());
     }
@@ -50,7 +50,7 @@ class PhysicsFactoryTest {
         float width = 30;
         float height = 40;
 
-        Body body = PhysicsFactory.createStaticEntityBody(world, position, width, height);
+        Body body = PhysicsFactory.createStaticEntityBody(world, position, width, height, CATEGORY_COIN);
 
         assertNotNull(body);
         assertEquals(BodyDef.BodyType.StaticBody, body.getType());
@@ -71,7 +71,7 @@ class PhysicsFactoryTest {
         float height = 60;
         boolean collisionEnabled = true;
 
-        Body body = PhysicsFactory.createEntityBody(world, position, offset, width, height, collisionEnabled);
+        Body body = PhysicsFactory.createEntityBody(world, position, offset, width, height, collisionEnabled, CATEGORY_WEAPON);
 
         assertNotNull(body);
         assertEquals(BodyDef.BodyType.DynamicBody, body.getType());
@@ -83,8 +83,47 @@ class PhysicsFactoryTest {
         assertFalse(fixture.isSensor());
 
         // Test with collision disabled
-        body = PhysicsFactory.createEntityBody(world, position, offset, width, height, false);
+        body = PhysicsFactory.createEntityBody(world, position, offset, width, height, false, CATEGORY_WEAPON);
         fixture = body.getFixtureList().first();
         assertTrue(fixture.isSensor());
     }
+
+    @Test
+    void testFixturesGetCategoryAndMask() {
+        Body enemy = PhysicsFactory.createDynamicEntityBody(world, new Vector2(), 10, 10, true, CATEGORY_ENEMY);
+        Filter filter = enemy.getFixtureList().first().getFilterData();
+
+        assertEquals(CATEGORY_ENEMY, filter.categoryBits);
+        assertEquals(MASK_ENEMY, filter.maskBits);
+        assertThrows(IllegalArgumentException.class, () -> PhysicsFactory.getMask((short) 0x4000));
+    }
+
+    @Test
+    void testMasksAreSymmetric() {
+        short[] categories = {CATEGORY_PLAYER, CATEGORY_ENEMY, CATEGORY_WEAPON, CATEGORY_COIN, CATEGORY_SPIKE, CATEGORY_WALL};
+        for (short a : categories) {
+            for (short b : categories) {
+                boolean aHitsB = (PhysicsFactory.getMask(a) & b) != 0;
+                boolean bHitsA = (PhysicsFactory.getMask(b) & a) != 0;
+                assertEquals(aHitsB, bHitsA, "Masks of categories " + a + " and " + b + " should agree");
+            }
+        }
+    }
+
+    @Test
+    void testOnlyGameplayPairsMakeContacts() {
+        Vector2 position = new Vector2(100, 100);
+        Body enemy = PhysicsFactory.createDynamicEntityBody(world, position, 20, 20, true, CATEGORY_ENEMY);
+        Body weapon = PhysicsFactory.createEntityBody(world, position, new Vector2(), 20, 20, false, CATEGORY_WEAPON);
+        PhysicsFactory.createStaticEntityBody(world, position, 20, 20, CATEGORY_COIN);
+        PhysicsFactory.createDynamicEntityBody(world, new Vector2(300, 300), 20, 20, true, CATEGORY_PLAYER);
+        PhysicsFactory.createStaticEntityBody(world, new Vector2(300, 300), 20, 20, CATEGORY_COIN);
+
+        world.step(1 / 60f, 6, 2);
+
+        assertEquals(1, world.getContactCount(), "Only the weapon and the enemy should touch");
+        Contact contact = world.getContactList().first();
+        assertTrue((contact.getFixtureA().getBody() == enemy && contact.getFixtureB().getBody() == weapon)
+                || (contact.getFixtureA().getBody() == weapon && contact.getFixtureB().getBody() == enemy));
+    }
 }
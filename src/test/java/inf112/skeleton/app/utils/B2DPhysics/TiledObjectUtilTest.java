@@ -109,6 +109,14 @@ public class TiledObjectUtilTest {
 
         // Assuming TiledObjectUtil.parseTiledObjectLayer is a static method
         TiledObjectUtil.parseTiledObjectLayer(world, layer.getObjects());
+
+        Array<Body> bodies = new Array<>();
+        world.getBodies(bodies);
+        assertTrue(bodies.size > 0, "The collision layer should create walls");
+        for (Body body : bodies) {
+            assertEquals(Constants.CATEGORY_WALL, body.getFixtureList().first().getFilterData().categoryBits);
+            assertEquals(Constants.MASK_WALL, body.getFixtureList().first().getFilterData().maskBits);
+        }
     }
 
     @Test
@@ -135,6 +143,8 @@ public class TiledObjectUtilTest {
                     Spike spike = (Spike) fixture.getUserData();
                     assertNotNull(spike, "Spike should not be null");
                     assertEquals(Constants.SPIKE_DAMAGE, spike.getDamage(), "Damage should match the constant value");
+                    assertEquals(Constants.CATEGORY_SPIKE, fixture.getFilterData().categoryBits);
+                    assertEquals(Constants.MASK_SPIKE, fixture.getFilterData().maskBits);
                 }
             }
         }
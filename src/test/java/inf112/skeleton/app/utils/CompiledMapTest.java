@@ -0,0 +1,79 @@
+package inf112.skeleton.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CompiledMapTest {
+
+    private static CompiledMap twoByTwoMap() {
+        CompiledMap.TileLayer ground = new CompiledMap.TileLayer("Ground", true, 0.5f, 2, -3, new short[] {
+                CompiledMap.packTile(1, false, false, false), CompiledMap.packTile(0, false, false, false),
+                CompiledMap.packTile(208, true, false, true), CompiledMap.packTile(CompiledMap.GID_MASK, true, true, true)});
+        CompiledMap.ObjectLayer walls = new CompiledMap.ObjectLayer("collision-layer", false, 1);
+        walls.addShape(new float[] {0, 0, 10, 0, 10, 10}, true);
+        walls.addShape(new float[] {1.5f, 2.5f, 3.5f, 4.5f}, false);
+        CompiledMap.Tileset tileset = new CompiledMap.Tileset("dungeon", 1, "../tiles/dungeon.png", 256, 208, 16, 16, 1, 2);
+        SpawnRaster raster = new SpawnRaster(3, 2, 10, 10, new int[] {0, 4, 5});
+        return new CompiledMap(2, 2, 16, 16, List.of(tileset), List.of(ground, walls), raster);
+    }
+
+    @Test
+    void testWriteThenReadGivesSameMap() throws IOException {
+        CompiledMap map = CompiledMap.read(ByteBuffer.wrap(twoByTwoMap().toBytes()));
+
+        assertEquals(2, map.getWidth());
+        assertEquals(16, map.getTileHeight());
+        CompiledMap.Tileset tileset = map.getTilesets().get(0);
+        assertEquals("dungeon", tileset.getName());
+        assertEquals("../tiles/dungeon.png", tileset.getImage());
+        assertEquals(208, tileset.getImageHeight());
+        assertEquals(1, tileset.getSpacing());
+        assertEquals(2, tileset.getMargin());
+
+        CompiledMap.TileLayer ground = (CompiledMap.TileLayer) map.getLayers().get(0);
+        assertEquals("Ground", ground.getName());
+        assertEquals(0.5f, ground.getOpacity());
+        assertEquals(-3, ground.getOffsetY());
+        assertArrayEquals(((CompiledMap.TileLayer) twoByTwoMap().getLayers().get(0)).getTiles(), ground.getTiles());
+
+        CompiledMap.ObjectLayer walls = (CompiledMap.ObjectLayer) map.getLayers().get(1);
+        assertFalse(walls.isVisible());
+        assertEquals(2, walls.getShapeCount());
+        assertTrue(walls.isPolygon(0));
+        assertFalse(walls.isPolygon(1));
+        assertArrayEquals(new float[] {1.5f, 2.5f, 3.5f, 4.5f}, walls.getVertices(1));
+
+        assertEquals(3, map.getSpawnRaster().getCols());
+        assertArrayEquals(new int[] {0, 4, 5}, map.getSpawnRaster().getLegalCells());
+    }
+
+    @Test
+    void testPackTileKeepsIdAndFlags() {
+        int packed = CompiledMap.packTile(208, true, false, true) & 0xFFFF;
+
+        assertEquals(208, packed & CompiledMap.GID_MASK);
+        assertTrue((packed & CompiledMap.FLIP_HORIZONTALLY) != 0);
+        assertFalse((packed & CompiledMap.FLIP_VERTICALLY) != 0);
+        assertTrue((packed & CompiledMap.FLIP_DIAGONALLY) != 0);
+    }
+
+    @Test
+    void testPackTileRejectsTooLargeId() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledMap.packTile(CompiledMap.GID_MASK + 1, false, false, false));
+    }
+
+    @Test
+    void testReadRejectsOtherFiles() {
+        ByteBuffer buffer = ByteBuffer.wrap("<?xml version=\"1.0\"?>".getBytes());
+        assertThrows(IOException.class, () -> CompiledMap.read(buffer));
+    }
+}
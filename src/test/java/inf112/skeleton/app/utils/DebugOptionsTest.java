@@ -0,0 +1,51 @@
+package inf112.skeleton.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import inf112.skeleton.app.utils.DebugOptions.Overlay;
+
+public class DebugOptionsTest {
+
+    @Test
+    void testEverythingOffByDefault() {
+        DebugOptions options = DebugOptions.parse(null);
+
+        assertFalse(options.isAnyEnabled());
+        for (Overlay overlay : Overlay.values()) {
+            assertFalse(options.isEnabled(overlay));
+        }
+    }
+
+    @Test
+    void testParsesListOfOverlays() {
+        DebugOptions options = DebugOptions.parse("physics, Grid,unknown");
+
+        assertTrue(options.isEnabled(Overlay.PHYSICS));
+        assertTrue(options.isEnabled(Overlay.GRID));
+        assertFalse(options.isEnabled(Overlay.TIMING));
+        assertFalse(options.isEnabled(Overlay.COUNTS));
+    }
+
+    @Test
+    void testAllTurnsOnEveryOverlay() {
+        for (String value : new String[] {"all", "true"}) {
+            DebugOptions options = DebugOptions.parse(value);
+            for (Overlay overlay : Overlay.values()) {
+                assertTrue(options.isEnabled(overlay));
+            }
+        }
+    }
+
+    @Test
+    void testToggle() {
+        DebugOptions options = new DebugOptions();
+
+        assertTrue(options.toggle(Overlay.TIMING));
+        assertTrue(options.isAnyEnabled());
+        assertFalse(options.toggle(Overlay.TIMING));
+        assertFalse(options.isAnyEnabled());
+    }
+}
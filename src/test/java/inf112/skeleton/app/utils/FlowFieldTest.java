@@ -0,0 +1,127 @@
+package inf112.skeleton.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+public class FlowFieldTest {
+    private FlowField field;
+    private Vector2 direction;
+
+    @BeforeEach
+    void setUp() {
+        // 10x10 cells of 10 units, with a wall at x = 55 from the bottom up to y = 75
+        field = new FlowField(10, 10, 10);
+        field.blockPolyline(new float[] {55, 0, 55, 75}, false);
+        direction = new Vector2();
+    }
+
+    @Test
+    void testWallBlocksCells() {
+        assertTrue(field.isBlocked(5, 0));
+        assertTrue(field.isBlocked(5, 7));
+        assertFalse(field.isBlocked(5, 8));
+        assertFalse(field.isBlocked(4, 0));
+        assertTrue(field.isBlocked(-1, 0), "Cells outside the grid count as blocked");
+    }
+
+    @Test
+    void testWallAlongCellBorderBlocksEdgeNotCells() {
+        // A corridor one cell wide between walls on the borders x = 40 and x = 50, open above y = 80
+        FlowField corridor = new FlowField(10, 10, 10);
+        corridor.blockPolyline(new float[] {40, 0, 40, 80}, false);
+        corridor.blockPolyline(new float[] {50, 0, 50, 80}, false);
+
+        for (int row = 0; row < 10; row++) {
+            assertFalse(corridor.isBlocked(3, row));
+            assertFalse(corridor.isBlocked(4, row), "The corridor should be open in row " + row);
+            assertFalse(corridor.isBlocked(5, row));
+        }
+
+        corridor.update(45, 5);
+        // Next to the target, but the wall forces a detour up to row 8 and back down
+        assertEquals(17, corridor.getDistance(3, 0));
+        assertEquals(17, corridor.getDistance(5, 0));
+        assertEquals(7, corridor.getDistance(4, 7));
+        assertTrue(corridor.getDirection(35, 5, direction));
+        assertEquals(0, direction.x, 0.0001f);
+        assertEquals(1, direction.y, 0.0001f, "The cell beside the wall should point away from it, up the detour");
+    }
+
+    @Test
+    void testWallTouchingCellCornerOnlyBlocksCrossedCells() {
+        FlowField corner = new FlowField(10, 10, 10);
+        // A wall ending exactly on a cell corner only touches the cells around the corner
+        corner.blockPolyline(new float[] {0, 0, 20, 20}, false);
+
+        assertTrue(corner.isBlocked(0, 0));
+        assertTrue(corner.isBlocked(1, 1));
+        assertFalse(corner.isBlocked(1, 0));
+        assertFalse(corner.isBlocked(0, 1));
+    }
+
+    @Test
+    void testHorizontalBorderWallBlocksEdge() {
+        FlowField field = new FlowField(3, 3, 10);
+        field.blockPolyline(new float[] {0, 10, 20, 10}, false);
+
+        field.update(5, 5);
+        assertEquals(2, field.getDistance(2, 0));
+        assertEquals(5, field.getDistance(0, 1), "Only the last column is open across y = 10");
+    }
+
+    @Test
+    void testPathGoesAroundWall() {
+        field.update(85, 5);
+
+        // Straight across is 6 steps, but the wall forces a detour over the top
+        assertTrue(field.getDistance(4, 0) > 6);
+        assertTrue(field.getDirection(45, 5, direction));
+        assertEquals(0, direction.x, 0.0001f, "Next to the wall the way is up, not through it");
+        assertEquals(1, direction.y, 0.0001f);
+    }
+
+    @Test
+    void testOpenFieldPointsAtTarget() {
+        field.update(5, 5);
+
+        assertTrue(field.getDirection(35, 5, direction));
+        assertEquals(-1, direction.x, 0.0001f);
+        assertTrue(field.getDirection(35, 35, direction));
+        assertEquals(-1, Math.signum(direction.x));
+        assertEquals(-1, Math.signum(direction.y));
+        assertEquals(1, direction.len(), 0.0001f);
+    }
+
+    @Test
+    void testNoDirectionInTargetCell() {
+        field.update(5, 5);
+        assertFalse(field.getDirection(6, 6, direction));
+    }
+
+    @Test
+    void testUpdateOnlyWhenTargetChangesCell() {
+        assertTrue(field.update(5, 5));
+        assertFalse(field.update(8, 8));
+        assertTrue(field.update(15, 5));
+    }
+
+    @Test
+    void testPolygonBlocksInside() {
+        field.blockPolygon(new float[] {0, 60, 30, 60, 30, 100, 0, 100});
+        assertTrue(field.isBlocked(1, 8));
+        field.update(15, 15);
+        assertEquals(-1, field.getDistance(1, 8));
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new FlowField(0, 1, 1));
+    }
+}
@@ -0,0 +1,65 @@
+package inf112.skeleton.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import inf112.skeleton.app.utils.FrameProfiler.Section;
+
+public class FrameProfilerTest {
+
+    @Test
+    void testPercentilesByNearestRank() {
+        FrameProfiler profiler = new FrameProfiler(100);
+        // 1 to 100 in a shuffled order
+        for (int i = 0; i < 100; i++) {
+            profiler.record(Section.WORLD_STEP, (i * 37) % 100 + 1);
+        }
+
+        assertArrayEquals(new long[] {50, 95, 99}, profiler.getPercentiles(Section.WORLD_STEP, new long[3]));
+    }
+
+    @Test
+    void testOnlyLatestSamplesAreKept() {
+        FrameProfiler profiler = new FrameProfiler(4);
+        for (int i = 0; i < 4; i++) {
+            profiler.record(Section.TICK, 1000);
+        }
+        for (int i = 0; i < 4; i++) {
+            profiler.record(Section.TICK, 10);
+        }
+
+        assertEquals(4, profiler.getSampleCount(Section.TICK));
+        assertArrayEquals(new long[] {10, 10, 10}, profiler.getPercentiles(Section.TICK, new long[3]));
+    }
+
+    @Test
+    void testDisabledProfilerRecordsNothing() {
+        FrameProfiler profiler = new FrameProfiler(10);
+
+        profiler.stop(Section.FRAME, profiler.start());
+
+        assertEquals(0, profiler.getSampleCount(Section.FRAME));
+        assertArrayEquals(new long[] {0, 0, 0}, profiler.getPercentiles(Section.FRAME, new long[3]));
+    }
+
+    @Test
+    void testEnablingClearsOldSamples() {
+        FrameProfiler profiler = new FrameProfiler(10);
+        profiler.setEnabled(true);
+        profiler.stop(Section.MAP_RENDER, profiler.start());
+        assertEquals(1, profiler.getSampleCount(Section.MAP_RENDER));
+
+        profiler.setEnabled(false);
+        profiler.setEnabled(true);
+        assertEquals(0, profiler.getSampleCount(Section.MAP_RENDER));
+    }
+
+    @Test
+    void testGcTotalsAreNotNegative() {
+        assertTrue(FrameProfiler.getGcCount() >= 0);
+        assertTrue(FrameProfiler.getGcTimeMillis() >= 0);
+    }
+}
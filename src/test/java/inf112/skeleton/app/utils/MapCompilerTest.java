@@ -0,0 +1,99 @@
+package inf112.skeleton.app.utils;
+
+import static inf112.skeleton.app.utils.Constants.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.PolylineMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+
+import inf112.skeleton.app.model.HeadlessSimulation;
+
+public class MapCompilerTest {
+    private static final File MAPS = new File("src/main/resources/maps");
+    private static CompiledMap compiled;
+    private static TiledMap tmx;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        HeadlessSimulation.initGdx();
+        compiled = MapCompiler.compile(new File(MAPS, "map2.tmx"));
+        tmx = new TmxMapLoader().load(MAP_IMG);
+    }
+
+    @Test
+    void testTilesMatchTmxMapLoader() {
+        assertEquals(2, compiled.getTilesets().size());
+        assertEquals("16x16 dungeon tiles (2).png", compiled.getTilesets().get(0).getImage());
+        assertEquals(209, compiled.getTilesets().get(1).getFirstGid());
+
+        int width = compiled.getWidth();
+        int height = compiled.getHeight();
+        for (CompiledMap.Layer layer : compiled.getLayers()) {
+            if (!(layer instanceof CompiledMap.TileLayer)) {
+                continue;
+            }
+            short[] tiles = ((CompiledMap.TileLayer) layer).getTiles();
+            TiledMapTileLayer expected = (TiledMapTileLayer) tmx.getLayers().get(layer.getName());
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    TiledMapTileLayer.Cell cell = expected.getCell(x, height - 1 - y);
+                    int expectedId = cell == null ? 0 : cell.getTile().getId();
+                    assertEquals(expectedId, tiles[y * width + x] & CompiledMap.GID_MASK, layer.getName() + " at " + x + ", " + y);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testShapesAreTransformedLikeTmxMapLoader() {
+        for (CompiledMap.Layer layer : compiled.getLayers()) {
+            if (!(layer instanceof CompiledMap.ObjectLayer)) {
+                continue;
+            }
+            CompiledMap.ObjectLayer objects = (CompiledMap.ObjectLayer) layer;
+            MapLayer expected = tmx.getLayers().get(layer.getName());
+            assertEquals(expected.getObjects().getCount(), objects.getShapeCount());
+            for (int i = 0; i < objects.getShapeCount(); i++) {
+                MapObject object = expected.getObjects().get(i);
+                float[] vertices = object instanceof PolygonMapObject
+                        ? ((PolygonMapObject) object).getPolygon().getTransformedVertices()
+                        : ((PolylineMapObject) object).getPolyline().getTransformedVertices();
+                assertEquals(object instanceof PolygonMapObject, objects.isPolygon(i));
+                assertArrayEquals(vertices, objects.getVertices(i));
+            }
+        }
+    }
+
+    @Test
+    void testSpawnRasterIsPrecomputed() {
+        MapLayer outOfBounds = tmx.getLayers().get("out-of-bounds-layer");
+        float[][] polygons = new float[outOfBounds.getObjects().getCount()][];
+        for (int i = 0; i < polygons.length; i++) {
+            polygons[i] = ((PolygonMapObject) outOfBounds.getObjects().get(i)).getPolygon().getTransformedVertices();
+        }
+        SpawnRaster expected = SpawnRaster.build(polygons, WINDOW_WIDTH, WINDOW_HEIGHT, SPAWN_CELL_SIZE);
+
+        assertTrue(compiled.getSpawnRaster().isBuiltFor(WINDOW_WIDTH, WINDOW_HEIGHT, SPAWN_CELL_SIZE));
+        assertArrayEquals(expected.getLegalCells(), compiled.getSpawnRaster().getLegalCells());
+    }
+
+    @Test
+    void testUnsupportedMapIsRejected() {
+        // map1 has tile properties and rectangle objects
+        assertThrows(UnsupportedOperationException.class, () -> MapCompiler.compile(new File(MAPS, "map1.tmx")));
+    }
+}
@@ -0,0 +1,75 @@
+package inf112.skeleton.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.utils.Array;
+
+public class SpatialHashGridTest {
+    private SpatialHashGrid<String> grid;
+    private Array<String> result;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialHashGrid<>(10, 10, 10, 10);
+        result = new Array<>();
+    }
+
+    @Test
+    void testQueryFindsOnlyNearbyItems() {
+        grid.insert("near", 12, 12);
+        grid.insert("far", 85, 85);
+
+        grid.query(15, 15, 5, result);
+
+        assertTrue(result.contains("near", true));
+        assertFalse(result.contains("far", true));
+    }
+
+    @Test
+    void testUpdateMovesItemToNewCell() {
+        grid.insert("enemy", 5, 5);
+        grid.update("enemy", 75, 75);
+
+        assertFalse(grid.query(5, 5, 1, result).contains("enemy", true));
+        assertTrue(grid.query(75, 75, 1, result).contains("enemy", true));
+        assertEquals(1, grid.size());
+    }
+
+    @Test
+    void testRemove() {
+        grid.insert("coin", 50, 50);
+
+        assertTrue(grid.remove("coin"));
+        assertFalse(grid.remove("coin"));
+        assertEquals(0, grid.query(50, 50, 100, result).size);
+        assertEquals(0, grid.size());
+    }
+
+    @Test
+    void testPositionsOutsideGridAreClamped() {
+        grid.insert("outside", -50, 500);
+
+        assertTrue(grid.query(0, 99, 1, result).contains("outside", true));
+    }
+
+    @Test
+    void testClear() {
+        grid.insert("a", 1, 1);
+        grid.insert("b", 99, 99);
+        grid.clear();
+
+        assertEquals(0, grid.size());
+        assertEquals(0, grid.query(50, 50, 100, result).size);
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid<String>(0, 10, 10, 10));
+    }
+}
@@ -0,0 +1,58 @@
+package inf112.skeleton.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+public class SpawnRasterTest {
+    // A rectangle covering the left 45 units of a 100x100 area
+    private static final float[] LEFT_STRIP = {0, 0, 45, 0, 45, 100, 0, 100};
+
+    @Test
+    void testCellsInsidePolygonAreIllegal() {
+        SpawnRaster raster = SpawnRaster.build(new float[][] {LEFT_STRIP}, 100, 100, 10);
+
+        assertEquals(10, raster.getCols());
+        assertEquals(10, raster.getRows());
+        // Column 4 is partly covered by the polygon, so only columns 5 to 9 are legal
+        assertEquals(50, raster.getLegalCellCount());
+        assertFalse(raster.isLegal(48, 50));
+        assertFalse(raster.isLegal(25, 50));
+        assertTrue(raster.isLegal(75, 50));
+    }
+
+    @Test
+    void testRandomPositionIsOutsidePolygon() {
+        SpawnRaster raster = SpawnRaster.build(new float[][] {LEFT_STRIP}, 100, 100, 10);
+        Vector2 position = new Vector2();
+
+        for (int i = 0; i < 1000; i++) {
+            raster.randomPosition(position);
+            assertFalse(SpawnRaster.isPointInPolygon(LEFT_STRIP, position.x, position.y));
+            assertTrue(position.x >= 0 && position.x <= 100 && position.y >= 0 && position.y <= 100);
+        }
+    }
+
+    @Test
+    void testWithoutPolygonsEveryCellIsLegal() {
+        SpawnRaster raster = SpawnRaster.build(new float[0][], 100, 50, 10);
+        assertEquals(50, raster.getLegalCellCount());
+    }
+
+    @Test
+    void testNoLegalCells() {
+        SpawnRaster raster = new SpawnRaster(1, 1, 10, 10, new int[0]);
+        assertThrows(IllegalStateException.class, () -> raster.randomPosition(new Vector2()));
+    }
+
+    @Test
+    void testIsPointInPolygon() {
+        assertTrue(SpawnRaster.isPointInPolygon(LEFT_STRIP, 25, 25));
+        assertFalse(SpawnRaster.isPointInPolygon(LEFT_STRIP, 75, 25));
+    }
+}
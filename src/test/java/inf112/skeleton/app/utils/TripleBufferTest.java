@@ -0,0 +1,65 @@
+package inf112.skeleton.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class TripleBufferTest {
+    // Two fields written one after the other, so a torn read shows up as a mismatch
+    private static class Pair {
+        long first;
+        long second;
+    }
+
+    @Test
+    void testAcquireReturnsLatestPublished() {
+        TripleBuffer<Pair> buffer = new TripleBuffer<>(Pair::new);
+        buffer.getBack().first = 1;
+        buffer.publish();
+        buffer.getBack().first = 2;
+        buffer.publish();
+
+        assertEquals(2, buffer.acquire().first);
+    }
+
+    @Test
+    void testAcquireKeepsFrontUntilNewPublish() {
+        TripleBuffer<Pair> buffer = new TripleBuffer<>(Pair::new);
+        buffer.getBack().first = 1;
+        buffer.publish();
+        Pair front = buffer.acquire();
+
+        assertSame(front, buffer.acquire());
+        assertNotSame(front, buffer.getBack(), "The writer must never write into the front buffer");
+    }
+
+    @Test
+    void testReaderNeverSeesTornValue() throws InterruptedException {
+        TripleBuffer<Pair> buffer = new TripleBuffer<>(Pair::new);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            for (long i = 1; running.get(); i++) {
+                Pair back = buffer.getBack();
+                back.first = i;
+                back.second = i;
+                buffer.publish();
+            }
+        });
+        writer.start();
+
+        long last = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            Pair front = buffer.acquire();
+            assertEquals(front.first, front.second);
+            assertTrue(front.first >= last, "Values must not go backwards");
+            last = front.first;
+        }
+        running.set(false);
+        writer.join();
+    }
+}
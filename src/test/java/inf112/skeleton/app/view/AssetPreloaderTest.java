@@ -0,0 +1,98 @@
+package inf112.skeleton.app.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import inf112.skeleton.app.model.HeadlessSimulation;
+import inf112.skeleton.app.utils.Constants;
+import inf112.skeleton.app.utils.WorkerPool;
+
+public class AssetPreloaderTest {
+    private AssetPreloader preloader;
+
+    @BeforeEach
+    void setUp() {
+        HeadlessSimulation.initGdx();
+        // Decodes on the calling thread, so every image is ready when update is called
+        preloader = new AssetPreloader(Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        preloader.dispose();
+    }
+
+    @Test
+    void testTextureIsHandedOverOnce() {
+        preloader.loadTexture(Constants.WEAPON_SELECTION);
+
+        assertTrue(preloader.update(Constants.LOADING_UPLOAD_BUDGET));
+        Texture texture = preloader.takeTexture(Constants.WEAPON_SELECTION);
+
+        assertNotNull(texture);
+        assertNull(preloader.takeTexture(Constants.WEAPON_SELECTION));
+        assertEquals(1, preloader.getProgress());
+        texture.dispose();
+    }
+
+    @Test
+    void testAtlasRegionsAreLoaded() {
+        preloader.loadAtlas(Constants.ATLAS);
+
+        assertTrue(preloader.update(Constants.LOADING_UPLOAD_BUDGET));
+        TextureAtlas atlas = preloader.takeAtlas(Constants.ATLAS);
+
+        assertNotNull(atlas.findRegion(Constants.PLAY_BUTTON));
+        assertEquals(atlas.findRegion(Constants.PLAY_BUTTON).getTexture(), atlas.findRegion(Constants.HEART_IMG).getTexture());
+        atlas.dispose();
+    }
+
+    @Test
+    void testUploadsAreSlicedByBudget() {
+        preloader.loadTexture(Constants.MENU);
+        preloader.loadTexture(Constants.GAME_OVER_BACKGROUND);
+
+        assertFalse(preloader.update(0));
+        assertEquals(0.5f, preloader.getProgress());
+        assertTrue(preloader.update(0));
+        assertTrue(preloader.isDone());
+    }
+
+    @Test
+    void testDecodesOnWorkerPool() throws InterruptedException {
+        AssetPreloader parallel = new AssetPreloader(WorkerPool.shared());
+        try {
+            for (String background : Constants.MENU_BACKGROUNDS) {
+                parallel.loadTexture(background);
+            }
+            parallel.loadAtlas(Constants.ATLAS);
+            for (int i = 0; i < 500 && !parallel.update(Constants.LOADING_UPLOAD_BUDGET); i++) {
+                Thread.sleep(10);
+            }
+
+            assertTrue(parallel.isDone());
+            assertNotNull(parallel.takeAtlas(Constants.ATLAS));
+        } finally {
+            parallel.dispose();
+        }
+    }
+
+    @Test
+    void testMissingImageFailsOnUpdate() {
+        preloader.loadTexture("missing.png");
+
+        assertThrows(GdxRuntimeException.class, () -> preloader.update(Constants.LOADING_UPLOAD_BUDGET));
+    }
+}
@@ -0,0 +1,135 @@
+package inf112.skeleton.app.view;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+
+import inf112.skeleton.app.model.HeadlessSimulation;
+
+public class CachedMapRendererTest {
+
+    @Test
+    void testStaticTileLayerIsCacheable() {
+        TiledMapTileLayer layer = new TiledMapTileLayer(4, 4, 16, 16);
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        cell.setTile(new StaticTiledMapTile(new TextureRegion()));
+        layer.setCell(1, 2, cell);
+
+        assertTrue(CachedMapRenderer.isCacheable(layer));
+    }
+
+    @Test
+    void testLayerWithAnimatedTileIsNotCacheable() {
+        TiledMapTileLayer layer = new TiledMapTileLayer(4, 4, 16, 16);
+        Array<StaticTiledMapTile> frames = new Array<>();
+        frames.add(new StaticTiledMapTile(new TextureRegion()));
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        cell.setTile(new AnimatedTiledMapTile(0.5f, frames));
+        layer.setCell(3, 3, cell);
+
+        assertFalse(CachedMapRenderer.isCacheable(layer));
+    }
+
+    @Test
+    void testObjectLayerIsNotCacheable() {
+        assertFalse(CachedMapRenderer.isCacheable(new MapLayer()));
+    }
+
+    @Test
+    void testChunkAtIsClampedToMap() {
+        // 4 chunks of 256 units
+        assertEquals(0, CachedMapRenderer.chunkAt(-100, 256, 4));
+        assertEquals(0, CachedMapRenderer.chunkAt(255, 256, 4));
+        assertEquals(1, CachedMapRenderer.chunkAt(256, 256, 4));
+        assertEquals(3, CachedMapRenderer.chunkAt(5000, 256, 4));
+    }
+
+    @Test
+    void testUncachedLayerBetweenTileLayersKeepsMapOrder() {
+        MapLayers layers = new MapLayers();
+        layers.add(new TiledMapTileLayer(4, 4, 16, 16));
+        layers.add(new TiledMapTileLayer(4, 4, 16, 16));
+        layers.add(new MapLayer());
+        layers.add(new TiledMapTileLayer(4, 4, 16, 16));
+
+        int[][] passes = CachedMapRenderer.splitIntoPasses(layers);
+
+        assertArrayEquals(new int[][] {{0, 1}, {2}, {3}}, passes);
+    }
+
+    @Test
+    void testInvisibleLayersAreNotInAnyPass() {
+        MapLayers layers = new MapLayers();
+        layers.add(new TiledMapTileLayer(4, 4, 16, 16));
+        MapLayer hidden = new MapLayer();
+        hidden.setVisible(false);
+        layers.add(hidden);
+        layers.add(new TiledMapTileLayer(4, 4, 16, 16));
+
+        assertArrayEquals(new int[][] {{0, 2}}, CachedMapRenderer.splitIntoPasses(layers));
+    }
+
+    @Test
+    void testCachedLayersAreDrawnWithBlending() {
+        HeadlessSimulation.initGdx();
+        GL20 previousGl = Gdx.gl;
+        boolean[] blending = {false};
+        GL20 gl = mock(GL20.class);
+        doAnswer(invocation -> blending[0] = true).when(gl).glEnable(GL20.GL_BLEND);
+        doAnswer(invocation -> blending[0] = false).when(gl).glDisable(GL20.GL_BLEND);
+        when(gl.glIsEnabled(GL20.GL_BLEND)).thenAnswer(invocation -> blending[0]);
+        Gdx.gl = gl;
+
+        SpriteCache cache = mock(SpriteCache.class);
+        boolean[] drewWithBlending = {false};
+        doAnswer(invocation -> drewWithBlending[0] = blending[0]).when(cache).draw(anyInt());
+        TiledMap map = new TiledMap();
+        TiledMapTileLayer layer = new TiledMapTileLayer(4, 4, 16, 16);
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        Texture texture = mock(Texture.class);
+        when(texture.getWidth()).thenReturn(16);
+        when(texture.getHeight()).thenReturn(16);
+        cell.setTile(new StaticTiledMapTile(new TextureRegion(texture, 0, 0, 16, 16)));
+        layer.setCell(0, 0, cell);
+        map.getLayers().add(layer);
+
+        OrthographicCamera cam = new OrthographicCamera(64, 64);
+        cam.position.set(32, 32, 0);
+        cam.update();
+        try {
+            new CachedMapRenderer(map, cache).render(cam);
+        } finally {
+            Gdx.gl = previousGl;
+        }
+
+        verify(cache, atLeastOnce()).draw(anyInt());
+        assertTrue(drewWithBlending[0], "Transparent tiles should blend with the layers below");
+        verify(gl).glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        assertFalse(blending[0], "Blending should be off again, as it was before");
+    }
+}
@@ -0,0 +1,115 @@
+package inf112.skeleton.app.view;
+
+import static inf112.skeleton.app.utils.Constants.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.PolylineMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+
+import inf112.skeleton.app.model.HeadlessSimulation;
+import inf112.skeleton.app.utils.CompiledMap;
+import inf112.skeleton.app.utils.SpawnRaster;
+
+public class CompiledMapLoaderTest {
+    private static final String COMPILED_MAP = MAP_IMG.replace(".tmx", CompiledMap.EXTENSION);
+
+    private AssetManager manager;
+    private TiledMap compiled;
+    private TiledMap tmx;
+
+    @BeforeEach
+    void setUp() {
+        HeadlessSimulation.initGdx();
+        manager = new AssetManager();
+        manager.setLoader(TiledMap.class, CompiledMap.EXTENSION, new CompiledMapLoader(manager.getFileHandleResolver()));
+        manager.load(COMPILED_MAP, TiledMap.class);
+        compiled = manager.finishLoadingAsset(COMPILED_MAP);
+        tmx = new TmxMapLoader().load(MAP_IMG);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.dispose();
+        tmx.dispose();
+    }
+
+    private static float[] vertices(MapObject object) {
+        return object instanceof PolygonMapObject
+                ? ((PolygonMapObject) object).getPolygon().getTransformedVertices()
+                : ((PolylineMapObject) object).getPolyline().getTransformedVertices();
+    }
+
+    @Test
+    void testLayersMatchTmxMap() {
+        assertEquals(tmx.getLayers().getCount(), compiled.getLayers().getCount());
+        for (int i = 0; i < tmx.getLayers().getCount(); i++) {
+            MapLayer expected = tmx.getLayers().get(i);
+            MapLayer actual = compiled.getLayers().get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getClass(), actual.getClass());
+            assertEquals(expected.getObjects().getCount(), actual.getObjects().getCount());
+            for (int j = 0; j < expected.getObjects().getCount(); j++) {
+                assertEquals(expected.getObjects().get(j).getClass(), actual.getObjects().get(j).getClass());
+                assertArrayEquals(vertices(expected.getObjects().get(j)), vertices(actual.getObjects().get(j)));
+            }
+        }
+    }
+
+    @Test
+    void testCellsMatchTmxMap() {
+        for (MapLayer layer : tmx.getLayers().getByType(TiledMapTileLayer.class)) {
+            TiledMapTileLayer expected = (TiledMapTileLayer) layer;
+            TiledMapTileLayer actual = (TiledMapTileLayer) compiled.getLayers().get(layer.getName());
+            assertEquals(expected.getWidth(), actual.getWidth());
+            assertEquals(expected.getTileHeight(), actual.getTileHeight());
+            for (int y = 0; y < expected.getHeight(); y++) {
+                for (int x = 0; x < expected.getWidth(); x++) {
+                    TiledMapTileLayer.Cell expectedCell = expected.getCell(x, y);
+                    TiledMapTileLayer.Cell actualCell = actual.getCell(x, y);
+                    if (expectedCell == null) {
+                        assertEquals(null, actualCell);
+                        continue;
+                    }
+                    assertEquals(expectedCell.getTile().getId(), actualCell.getTile().getId());
+                    assertEquals(expectedCell.getTile().getTextureRegion().getRegionX(), actualCell.getTile().getTextureRegion().getRegionX());
+                    assertEquals(expectedCell.getTile().getTextureRegion().getRegionY(), actualCell.getTile().getTextureRegion().getRegionY());
+                    assertEquals(expectedCell.getFlipHorizontally(), actualCell.getFlipHorizontally());
+                    assertEquals(expectedCell.getRotation(), actualCell.getRotation());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSpawnRasterIsStoredInProperties() {
+        Object raster = compiled.getProperties().get(CompiledMap.SPAWN_RASTER_PROPERTY);
+
+        assertInstanceOf(SpawnRaster.class, raster);
+        assertTrue(((SpawnRaster) raster).getLegalCellCount() > 0);
+        assertEquals(tmx.getProperties().get("width"), compiled.getProperties().get("width"));
+    }
+
+    @Test
+    void testMapAssetsPrefersCompiledMap() {
+        MapAssets mapAssets = new MapAssets();
+        try {
+            TiledMap map = mapAssets.get(MAP_IMG);
+            assertInstanceOf(SpawnRaster.class, map.getProperties().get(CompiledMap.SPAWN_RASTER_PROPERTY));
+        } finally {
+            mapAssets.dispose();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package inf112.skeleton.app.view;
+
+import static inf112.skeleton.app.utils.Constants.MAP_IMG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+
+import inf112.skeleton.app.model.HeadlessSimulation;
+
+public class MapAssetsTest {
+    private MapAssets mapAssets;
+
+    @BeforeEach
+    void setUp() {
+        HeadlessSimulation.initGdx();
+        mapAssets = new MapAssets();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mapAssets.dispose();
+    }
+
+    @Test
+    void testMapIsParsedOnce() {
+        TiledMap first = mapAssets.get(MAP_IMG);
+        TiledMap second = mapAssets.get(MAP_IMG);
+
+        assertNotNull(first.getLayers().get("collision-layer"));
+        assertSame(first, second);
+    }
+
+    @Test
+    void testLoadsInBackgroundWithProgress() throws InterruptedException {
+        List<Float> progress = new ArrayList<>();
+        assertFalse(mapAssets.isLoaded(MAP_IMG));
+
+        mapAssets.load(MAP_IMG);
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!mapAssets.update(progress::add) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertTrue(mapAssets.isLoaded(MAP_IMG));
+        assertEquals(1f, progress.get(progress.size() - 1));
+        for (int i = 1; i < progress.size(); i++) {
+            assertTrue(progress.get(i) >= progress.get(i - 1), "Progress should never go backwards");
+        }
+    }
+}
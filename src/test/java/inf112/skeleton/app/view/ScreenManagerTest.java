@@ -0,0 +1,71 @@
+package inf112.skeleton.app.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.Screen;
+
+import inf112.skeleton.app.view.ScreenManager.ScreenType;
+
+public class ScreenManagerTest {
+    private GameRenderer game;
+    private Map<ScreenType, Integer> created;
+    private ScreenManager screens;
+
+    @BeforeEach
+    void setUp() {
+        game = mock(GameRenderer.class);
+        created = new EnumMap<>(ScreenType.class);
+        screens = new ScreenManager(game, type -> {
+            created.merge(type, 1, Integer::sum);
+            return mock(Screen.class);
+        });
+    }
+
+    @Test
+    void testScreenIsCreatedOnce() {
+        Screen first = screens.get(ScreenType.GAME_ACTIVE);
+        Screen second = screens.get(ScreenType.GAME_ACTIVE);
+
+        assertSame(first, second);
+        assertEquals(1, created.get(ScreenType.GAME_ACTIVE));
+        assertFalse(screens.isCreated(ScreenType.GAME_OVER));
+    }
+
+    @Test
+    void testSwitchingBackShowsSameScreen() {
+        screens.show(ScreenType.GAME_ACTIVE);
+        screens.show(ScreenType.GAME_OVER);
+        screens.show(ScreenType.GAME_ACTIVE);
+
+        verify(game, times(2)).setScreen(screens.get(ScreenType.GAME_ACTIVE));
+        verify(game, times(1)).setScreen(screens.get(ScreenType.GAME_OVER));
+        assertEquals(1, created.get(ScreenType.GAME_ACTIVE));
+    }
+
+    @Test
+    void testDisposeDisposesEveryCreatedScreenOnce() {
+        Screen title = screens.get(ScreenType.TITLE);
+        Screen help = screens.get(ScreenType.HELP);
+
+        screens.dispose();
+        screens.dispose();
+
+        verify(title, times(1)).dispose();
+        verify(help, times(1)).dispose();
+        assertTrue(created.keySet().stream().allMatch(type -> type == ScreenType.TITLE || type == ScreenType.HELP));
+        verify(game, never()).setScreen(title);
+    }
+}
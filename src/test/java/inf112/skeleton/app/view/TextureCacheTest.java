@@ -0,0 +1,79 @@
+package inf112.skeleton.app.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import inf112.skeleton.app.utils.Constants;
+
+public class TextureCacheTest {
+    private TextureCache textureCache;
+
+    @BeforeAll
+    static void init() {
+        new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+        Gdx.gl = Mockito.mock(GL20.class);
+        Gdx.gl20 = Gdx.gl;
+    }
+
+    @BeforeEach
+    void setUp() {
+        textureCache = new TextureCache();
+    }
+
+    @Test
+    void testTextureIsLoadedOnce() {
+        assertSame(textureCache.getTexture(Constants.WEAPON_SELECTION), textureCache.getTexture(Constants.WEAPON_SELECTION));
+        assertEquals(1, textureCache.size());
+    }
+
+    @Test
+    void testRegionFallsBackToImageFile() {
+        TextureRegion region = textureCache.getRegion(Constants.HEART_IMG);
+        assertSame(region, textureCache.getRegion(Constants.HEART_IMG));
+        assertEquals(1, textureCache.size());
+    }
+
+    @Test
+    void testRegionsComeFromAtlas() {
+        TextureAtlas atlas = new TextureAtlas(Constants.ATLAS);
+        TextureCache atlasCache = new TextureCache(atlas);
+        TextureRegion heart = atlasCache.getRegion(Constants.HEART_IMG);
+        TextureRegion button = atlasCache.getRegion(Constants.PLAY_BUTTON);
+        TextureRegion sprite = atlasCache.getSprite(Constants.LIGHT_ENEMY_SPRITE);
+
+        assertSame(heart.getTexture(), button.getTexture());
+        assertSame(heart.getTexture(), sprite.getTexture());
+        assertEquals(16, heart.getRegionWidth());
+        assertEquals(0, atlasCache.size());
+        atlasCache.dispose();
+        atlas.dispose();
+    }
+
+    @Test
+    void testSpriteIsReusedForSameTextureId() {
+        assertSame(textureCache.getSprite(Constants.LIGHT_ENEMY_SPRITE), textureCache.getSprite(Constants.LIGHT_ENEMY_SPRITE));
+        assertNotSame(textureCache.getSprite(Constants.LIGHT_ENEMY_SPRITE), textureCache.getSprite(Constants.HEAVY_ENEMY_SPRITE));
+        assertEquals(2, textureCache.size());
+    }
+
+    @Test
+    void testDisposeClearsCache() {
+        textureCache.getSprite(Constants.COIN_SPRITE);
+        textureCache.dispose();
+        assertEquals(0, textureCache.size());
+    }
+}